@@ -1,8 +1,17 @@
 package seedu.planner;
 
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -12,6 +21,7 @@ import seedu.planner.commons.core.LogsCenter;
 import seedu.planner.commons.core.Version;
 import seedu.planner.commons.exceptions.DataConversionException;
 import seedu.planner.commons.util.ConfigUtil;
+import seedu.planner.commons.util.FileUtil;
 import seedu.planner.commons.util.StringUtil;
 import seedu.planner.logic.Logic;
 import seedu.planner.logic.LogicManager;
@@ -28,19 +38,31 @@ import seedu.planner.model.ReadOnlyContact;
 import seedu.planner.model.ReadOnlyItinerary;
 import seedu.planner.model.ReadOnlyUserPrefs;
 import seedu.planner.model.UserPrefs;
+import seedu.planner.model.field.Name;
+import seedu.planner.model.planner.PlannerCatalog;
+import seedu.planner.model.planner.PlannerSummary;
 import seedu.planner.model.util.SampleDataUtil;
+import seedu.planner.storage.BinaryDataWriter;
+import seedu.planner.storage.JournalingStorageManager;
 import seedu.planner.storage.JsonUserPrefsStorage;
 import seedu.planner.storage.Storage;
 import seedu.planner.storage.StorageManager;
 import seedu.planner.storage.UserPrefsStorage;
+import seedu.planner.storage.WriteBehindStorageManager;
 import seedu.planner.storage.accommodation.AccommodationStorage;
+import seedu.planner.storage.accommodation.BinaryAccommodationStorage;
 import seedu.planner.storage.accommodation.JsonAccommodationStorage;
 import seedu.planner.storage.activity.ActivityStorage;
+import seedu.planner.storage.activity.BinaryActivityStorage;
 import seedu.planner.storage.activity.JsonActivityStorage;
+import seedu.planner.storage.contact.BinaryContactStorage;
 import seedu.planner.storage.contact.ContactStorage;
 import seedu.planner.storage.contact.JsonContactStorage;
+import seedu.planner.storage.day.BinaryItineraryStorage;
 import seedu.planner.storage.day.ItineraryStorage;
 import seedu.planner.storage.day.JsonItineraryStorage;
+import seedu.planner.storage.planner.JsonPlannerCatalogStorage;
+import seedu.planner.storage.planner.PlannerCatalogStorage;
 import seedu.planner.ui.Ui;
 import seedu.planner.ui.UiManager;
 
@@ -52,6 +74,8 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 6, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final String JSON_FILE_EXTENSION = "json";
+    private static final int LOADER_THREAD_COUNT = 3;
 
     protected Ui ui;
     protected Logic logic;
@@ -69,16 +93,40 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AccommodationStorage accommodationStorage = new JsonAccommodationStorage(userPrefs.getAccommodationFilePath());
-        ActivityStorage activityStorage = new JsonActivityStorage(userPrefs.getActivityFilePath());
-        ContactStorage contactStorage = new JsonContactStorage(userPrefs.getContactFilePath());
-        ItineraryStorage itineraryStorage = new JsonItineraryStorage(userPrefs.getItineraryFilePath());
-        storage = new StorageManager(accommodationStorage, activityStorage, contactStorage, itineraryStorage,
-                userPrefsStorage);
+        AccommodationStorage accommodationStorage;
+        ActivityStorage activityStorage;
+        ContactStorage contactStorage;
+        ItineraryStorage itineraryStorage;
+        if (userPrefs.isBinaryStorageEnabled()) {
+            userPrefs.setDataFileExtension(BinaryDataWriter.FILE_EXTENSION);
+            accommodationStorage = new BinaryAccommodationStorage(userPrefs.getAccommodationFilePath());
+            activityStorage = new BinaryActivityStorage(userPrefs.getActivityFilePath());
+            contactStorage = new BinaryContactStorage(userPrefs.getContactFilePath());
+            itineraryStorage = new BinaryItineraryStorage(userPrefs.getItineraryFilePath());
+        } else {
+            userPrefs.setDataFileExtension(JSON_FILE_EXTENSION);
+            accommodationStorage = new JsonAccommodationStorage(userPrefs.getAccommodationFilePath());
+            activityStorage = new JsonActivityStorage(userPrefs.getActivityFilePath());
+            contactStorage = new JsonContactStorage(userPrefs.getContactFilePath());
+            itineraryStorage = new JsonItineraryStorage(userPrefs.getItineraryFilePath());
+        }
+        PlannerCatalogStorage plannerCatalogStorage = new JsonPlannerCatalogStorage(
+                userPrefs.getPlannerFilePath().resolveSibling(JsonPlannerCatalogStorage.FILE_NAME));
+        if (userPrefs.isJournalEnabled()) {
+            storage = new JournalingStorageManager(accommodationStorage, activityStorage, contactStorage,
+                    itineraryStorage, userPrefsStorage, plannerCatalogStorage);
+        } else if (userPrefs.isWriteBehindEnabled()) {
+            storage = new WriteBehindStorageManager(accommodationStorage, activityStorage, contactStorage,
+                    itineraryStorage, userPrefsStorage, plannerCatalogStorage);
+        } else {
+            storage = new StorageManager(accommodationStorage, activityStorage, contactStorage, itineraryStorage,
+                    userPrefsStorage, plannerCatalogStorage);
+        }
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
+        model.setPlannerCatalog(initPlannerCatalog(storage, userPrefs));
 
         logic = new LogicManager(model, storage);
 
@@ -88,13 +136,35 @@ public class MainApp extends Application {
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s accommodation, activity, contact,
      * itinerary and {@code userPrefs}.
+     * <br> The data is read concurrently, except for the itinerary which needs the activities it refers to.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        ReadOnlyAccommodation accommodation = initAccommodationManager(storage);
-        ReadOnlyActivity activity = initActivityManager(storage);
-        ReadOnlyContact contact = initContactManager(storage);
-        ReadOnlyItinerary itinerary = initItinerary(storage);
-        return new ModelManager(accommodation, activity, contact, itinerary, userPrefs);
+        ExecutorService loader = Executors.newFixedThreadPool(LOADER_THREAD_COUNT);
+        try {
+            CompletableFuture<ReadOnlyAccommodation> accommodation = CompletableFuture.supplyAsync(() ->
+                    timeLoading("Accommodation", () -> initAccommodationManager(storage)), loader);
+            CompletableFuture<ReadOnlyActivity> activity = CompletableFuture.supplyAsync(() ->
+                    timeLoading("Activity", () -> initActivityManager(storage)), loader);
+            CompletableFuture<ReadOnlyContact> contact = CompletableFuture.supplyAsync(() ->
+                    timeLoading("Contact", () -> initContactManager(storage)), loader);
+            CompletableFuture<ReadOnlyItinerary> itinerary = activity.thenApplyAsync(activityData ->
+                    timeLoading("Itinerary", () -> initItinerary(storage, activityData)), loader);
+            return new ModelManager(accommodation.join(), activity.join(), contact.join(), itinerary.join(),
+                    userPrefs);
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    /**
+     * Returns the data loaded by {@code load}, logging how long the loading of {@code dataName} took.
+     */
+    private <T> T timeLoading(String dataName, Supplier<T> load) {
+        long startTime = System.nanoTime();
+        T data = load.get();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        logger.info(dataName + " data loaded in " + elapsedMillis + " ms");
+        return data;
     }
 
     /**
@@ -113,13 +183,15 @@ public class MainApp extends Application {
             }
             initialData = accommodationManagerOptional.orElseGet(SampleDataUtil::getSampleAccommodationManager);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty "
+            logger.warning("Data file not in the correct format. Will be starting with the backup or an empty "
                     + "AccommodationManager");
-            initialData = new AccommodationManager();
+            initialData = readBackup(storage::readAccommodation, storage.getAccommodationFilePath())
+                    .orElseGet(AccommodationManager::new);
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty "
+            logger.warning("Problem while reading from the file. Will be starting with the backup or an empty "
                     + "AccommodationManager");
-            initialData = new AccommodationManager();
+            initialData = readBackup(storage::readAccommodation, storage.getAccommodationFilePath())
+                    .orElseGet(AccommodationManager::new);
         }
         return initialData;
     }
@@ -139,13 +211,15 @@ public class MainApp extends Application {
             }
             initialData = activityManagerOptional.orElseGet(SampleDataUtil::getSampleActivityManager);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty "
+            logger.warning("Data file not in the correct format. Will be starting with the backup or an empty "
                     + "ActivityManager");
-            initialData = new ActivityManager();
+            initialData = readBackup(storage::readActivity, storage.getActivityFilePath())
+                    .orElseGet(ActivityManager::new);
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty "
+            logger.warning("Problem while reading from the file. Will be starting with the backup or an empty "
                     + "ActivityManager");
-            initialData = new ActivityManager();
+            initialData = readBackup(storage::readActivity, storage.getActivityFilePath())
+                    .orElseGet(ActivityManager::new);
         }
         return initialData;
     }
@@ -165,13 +239,15 @@ public class MainApp extends Application {
             }
             initialData = contactManagerOptional.orElseGet(SampleDataUtil::getSampleContactManager);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty "
+            logger.warning("Data file not in the correct format. Will be starting with the backup or an empty "
                     + "ContactManager");
-            initialData = new ContactManager();
+            initialData = readBackup(storage::readContact, storage.getContactFilePath())
+                    .orElseGet(ContactManager::new);
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty "
+            logger.warning("Problem while reading from the file. Will be starting with the backup or an empty "
                     + "ContactManager");
-            initialData = new ContactManager();
+            initialData = readBackup(storage::readContact, storage.getContactFilePath())
+                    .orElseGet(ContactManager::new);
         }
         return initialData;
     }
@@ -180,28 +256,112 @@ public class MainApp extends Application {
      * Returns a {@code Itinerary} with the data from {@code storage}'s itinerary and {@code userPrefs}. <br>
      * The data from the sample itinerary will be used instead if {@code storage}'s itinerary is not found,
      * or an empty itinerary will be used instead if errors occur when reading {@code storage}'s itinerary.
+     * Scheduled activities are resolved against {@code activity}.
      */
-    private ReadOnlyItinerary initItinerary(Storage storage) {
+    private ReadOnlyItinerary initItinerary(Storage storage, ReadOnlyActivity activity) {
         Optional<ReadOnlyItinerary> itineraryOptional;
         ReadOnlyItinerary initialData;
         try {
-            itineraryOptional = storage.readItinerary();
+            itineraryOptional = storage.readItinerary(activity);
             if (!itineraryOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample Itinerary");
             }
             initialData = itineraryOptional.orElseGet(SampleDataUtil::getSampleItinerary);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty "
+            logger.warning("Data file not in the correct format. Will be starting with the backup or an empty "
                     + "Itinerary");
-            initialData = new Itinerary();
+            initialData = readBackup(filePath -> storage.readItinerary(filePath, activity),
+                    storage.getItineraryFilePath()).orElseGet(Itinerary::new);
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty "
+            logger.warning("Problem while reading from the file. Will be starting with the backup or an empty "
                     + "Itinerary");
-            initialData = new Itinerary();
+            initialData = readBackup(filePath -> storage.readItinerary(filePath, activity),
+                    storage.getItineraryFilePath()).orElseGet(Itinerary::new);
         }
         return initialData;
     }
 
+    /**
+     * Returns the {@code PlannerCatalog} from {@code storage}. <br>
+     * The catalog will be rebuilt from the planners saved alongside {@code userPrefs}' planner file path if it is
+     * not found or errors occur when reading it.
+     */
+    private PlannerCatalog initPlannerCatalog(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        try {
+            Optional<PlannerCatalog> plannerCatalogOptional = storage.readPlannerCatalog();
+            if (plannerCatalogOptional.isPresent()) {
+                return plannerCatalogOptional.get();
+            }
+            logger.info("Planner catalog not found. Will be rebuilding it from the saved planners");
+        } catch (DataConversionException e) {
+            logger.warning("Planner catalog not in the correct format. Will be rebuilding it from the saved planners");
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the planner catalog. Will be rebuilding it from the saved "
+                    + "planners");
+        }
+
+        PlannerCatalog plannerCatalog = new PlannerCatalog();
+        Path dataDirectory = userPrefs.getPlannerFilePath().toAbsolutePath().getParent();
+        if (Files.isDirectory(dataDirectory)) {
+            try (DirectoryStream<Path> directories = Files.newDirectoryStream(dataDirectory, Files::isDirectory)) {
+                for (Path plannerDirectory : directories) {
+                    readPlannerSummary(storage, userPrefs, plannerDirectory).ifPresent(plannerCatalog::setPlanner);
+                }
+                storage.savePlannerCatalog(plannerCatalog);
+            } catch (IOException e) {
+                logger.warning("Problem while rebuilding the planner catalog " + StringUtil.getDetails(e));
+            }
+        }
+        return plannerCatalog;
+    }
+
+    /**
+     * Returns the {@code PlannerSummary} of the planner saved in {@code plannerDirectory}, or an empty
+     * {@code Optional} if it is not a planner or cannot be read.
+     */
+    private Optional<PlannerSummary> readPlannerSummary(Storage storage, ReadOnlyUserPrefs userPrefs,
+                                                        Path plannerDirectory) {
+        String plannerName = plannerDirectory.getFileName().toString();
+        if (!Name.isValidName(plannerName)) {
+            return Optional.empty();
+        }
+        Path activityFilePath = plannerDirectory.resolve(userPrefs.getActivityFilePath().getFileName());
+        Path itineraryFilePath = plannerDirectory.resolve(userPrefs.getItineraryFilePath().getFileName());
+        try {
+            Optional<ReadOnlyActivity> activity = storage.readActivity(activityFilePath);
+            if (!activity.isPresent()) {
+                return Optional.empty();
+            }
+            Optional<ReadOnlyItinerary> itinerary = storage.readItinerary(itineraryFilePath, activity.get());
+            if (!itinerary.isPresent()) {
+                return Optional.empty();
+            }
+            LocalDateTime lastModified = LocalDateTime.ofInstant(
+                    Files.getLastModifiedTime(itineraryFilePath).toInstant(), ZoneId.systemDefault());
+            return Optional.of(PlannerSummary.of(new Name(plannerName), itinerary.get(), activity.get(),
+                    lastModified));
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Planner " + plannerName + " could not be read and will not be listed: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the data read by {@code reader} from the backup of {@code filePath}, or an empty {@code Optional}
+     * if there is no backup or the backup cannot be read either.
+     */
+    private <T> Optional<T> readBackup(DataReader<T> reader, Path filePath) {
+        Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+        try {
+            Optional<T> backup = reader.read(backupFilePath);
+            backup.ifPresent(data -> logger.info("Recovered data from backup file " + backupFilePath));
+            return backup;
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Backup file " + backupFilePath + " could not be read: " + e);
+            return Optional.empty();
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -283,10 +443,23 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Plan2Travel ] =============================");
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    /**
+     * Reads a type of Planner data from a given file.
+     */
+    @FunctionalInterface
+    private interface DataReader<T> {
+        Optional<T> read(Path filePath) throws DataConversionException, IOException;
+    }
 }
@@ -1,6 +1,21 @@
 package seedu.planner.commons.util;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
@@ -12,6 +27,12 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+    /** Windows does not allow a file to be replaced while it is mapped, and mappings are only released by GC. */
+    private static final boolean IS_MAPPED_READ_SUPPORTED = !System.getProperty("os.name", "").startsWith("Windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,6 +93,21 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Opens a stream to read the content of a file. Assumes file exists.
+     * Large files are memory-mapped, so that their content is paged in by the operating system as it is read
+     * instead of being copied onto the heap through a read buffer.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        if (!IS_MAPPED_READ_SUPPORTED || Files.size(file) < MAPPED_READ_THRESHOLD) {
+            return Files.newInputStream(file);
+        }
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            // The mapping stays valid after the channel is closed.
+            return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +116,156 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Appends given string to a file and waits until it has been written to disk.
+     * Will create the file along with its missing parent directories if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        createParentDirsOfFile(file);
+
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE, APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns {@code file} with its file extension replaced by {@code extension}, or added if it has none.
+     */
+    public static Path changeFileExtension(Path file, String extension) {
+        String fileName = file.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return file.resolveSibling(baseName + "." + extension);
+    }
+
+    /**
+     * Returns the path of the file holding the previous content of {@code file},
+     * as kept by {@link #writeToFileAtomically(Path, String)}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes given string to a file, such that the file is left unchanged if the write does not complete.
+     * See {@link #writeToFileAtomically(Path, ContentWriter)}.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes the content streamed by {@code contentWriter} to a file, such that the file is left unchanged
+     * if the write does not complete.
+     * The content is written to a temporary file and synced to disk before it replaces the file. The temporary file
+     * is removed if the write fails.
+     * The previous content of the file, if any, is kept at {@link #getBackupFilePath(Path)}.
+     * Will create the file along with its missing parent directories if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        boolean isMoved = false;
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+
+            if (isFileExists(file) && Files.size(file) > 0) {
+                backUpFile(file);
+            }
+
+            try {
+                Files.move(tempFile, file, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, REPLACE_EXISTING);
+            }
+            isMoved = true;
+        } finally {
+            if (!isMoved) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+        syncDirectory(directory);
+    }
+
+    /**
+     * Syncs the entries of {@code directory} to disk, so that a file that was just moved into it is not lost in a
+     * crash. Platforms that cannot open a directory for syncing, such as Windows, are skipped.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The move itself has completed, so the file is only at risk if the system crashes.
+        }
+    }
+
+    /**
+     * Replaces the backup of {@code file} with the current content of {@code file}.
+     * A hard link is used where possible so that no data has to be copied.
+     */
+    private static void backUpFile(Path file) throws IOException {
+        Path backupFile = getBackupFilePath(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, backupFile, REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads the content of a mapped file.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final MappedByteBuffer buffer;
+
+        ByteBufferInputStream(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    /**
+     * Writes the content of a file to a given stream.
+     * The stream is flushed and synced by the caller, so it should not be closed.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.planner.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
@@ -29,6 +30,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves any changes to the planner catalog and blocks until all data has been written to local storage.
+     * @throws IOException if any of the data could not be saved.
+     */
+    void flush() throws IOException;
+
     /**
      * Returns the Accommodation.
      *
@@ -1,7 +1,11 @@
 package seedu.planner.logic;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -27,6 +31,8 @@ import seedu.planner.model.accommodation.Accommodation;
 import seedu.planner.model.activity.Activity;
 import seedu.planner.model.contact.Contact;
 import seedu.planner.model.day.Day;
+import seedu.planner.model.field.Name;
+import seedu.planner.model.planner.PlannerSummary;
 import seedu.planner.storage.Storage;
 
 //@@author OneArmyj
@@ -36,11 +42,18 @@ import seedu.planner.storage.Storage;
 public class LogicManager implements Logic {
     public static final String FILE_FORMAT_ERROR_MESSAGE = "Data file not in correct format: ";
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MISSING_PLANNER_DATA_MESSAGE = "Data files of the planner are missing: ";
+    private static final long UNSAVED = -1;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final PlannerParser plannerParser;
+    private long savedAccommodationVersion = UNSAVED;
+    private long savedActivityVersion = UNSAVED;
+    private long savedContactVersion = UNSAVED;
+    private long savedItineraryVersion = UNSAVED;
+    private boolean isPlannerCatalogChanged = false;
 
     public LogicManager(Model model, Storage storage) {
         this.model = model;
@@ -54,31 +67,39 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = plannerParser.parseCommand(commandText);
+        Path oldPlannerFilePath = model.getPlannerFilePath();
+        Name oldItineraryName = model.getName();
         commandResult = command.execute(model);
 
-        if (command instanceof SetCommand) {
-            storage.deletePlannerFilePath();
-        }
-        if (command instanceof SetCommand || command instanceof NewCommand || command instanceof LoadCommand
-                || command instanceof CopyToCommand) {
-            storage.setAccommodationFilePath(getAccommodationFilePath());
-            storage.setActivityFilePath(getActivityFilePath());
-            storage.setContactFilePath(getContactFilePath());
-            storage.setItineraryFilePath(getItineraryFilePath());
-        }
-
+        boolean isPlannerSwitched = command instanceof SetCommand || command instanceof NewCommand
+                || command instanceof LoadCommand || command instanceof CopyToCommand;
         try {
+            if (isPlannerSwitched) {
+                // Finish writing the current planner before switching storage to another one.
+                storage.flush();
+            }
+            if (command instanceof SetCommand) {
+                storage.deletePlannerFilePath();
+                getPlannerName(oldPlannerFilePath).ifPresent(model.getPlannerCatalog()::removePlanner);
+                isPlannerCatalogChanged = true;
+            }
+            if (isPlannerSwitched) {
+                setStorageFilePaths();
+                markAllUnsaved();
+            }
             if (command instanceof LoadCommand) {
-                model.setAccommodations(storage.readAccommodation().get());
-                model.setActivities(storage.readActivity().get());
-                model.setContacts(storage.readContact().get());
-                model.setItinerary(storage.readItinerary().get());
+                loadPlannerData(oldPlannerFilePath, oldItineraryName);
+                markAllSaved();
+                catalogLoadedPlanner();
+            }
+            if (saveChangedData()) {
+                updatePlannerSummary(LocalDateTime.now());
+            }
+            if (isPlannerSwitched) {
+                savePlannerCatalog();
             }
-            storage.saveAccommodation(model.getAccommodations());
-            storage.saveActivity(model.getActivities());
-            storage.saveContact(model.getContacts());
-            storage.saveItinerary(model.getItinerary());
         } catch (IOException ioe) {
+            markAllUnsaved();
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         } catch (DataConversionException dce) {
             throw new CommandException(FILE_FORMAT_ERROR_MESSAGE + dce, dce);
@@ -87,6 +108,167 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void flush() throws IOException {
+        savePlannerCatalog();
+        storage.flush();
+    }
+
+    /**
+     * Points storage at the data files of the planner at the current planner file path.
+     */
+    private void setStorageFilePaths() {
+        storage.setAccommodationFilePath(getAccommodationFilePath());
+        storage.setActivityFilePath(getActivityFilePath());
+        storage.setContactFilePath(getContactFilePath());
+        storage.setItineraryFilePath(getItineraryFilePath());
+    }
+
+    /**
+     * Replaces the data in the model with the data of the planner that was just loaded.
+     * If its data cannot be read, switches back to the planner at {@code oldPlannerFilePath}, named
+     * {@code oldItineraryName}, so that the data in the model is never saved over another planner.
+     *
+     * @throws CommandException if any of the planner's data files is missing.
+     */
+    private void loadPlannerData(Path oldPlannerFilePath, Name oldItineraryName)
+            throws IOException, DataConversionException, CommandException {
+        Optional<ReadOnlyAccommodation> accommodations;
+        Optional<ReadOnlyActivity> activities;
+        Optional<ReadOnlyContact> contacts;
+        Optional<ReadOnlyItinerary> itinerary;
+        try {
+            accommodations = storage.readAccommodation();
+            activities = storage.readActivity();
+            contacts = storage.readContact();
+            itinerary = activities.isPresent() ? storage.readItinerary(activities.get()) : Optional.empty();
+        } catch (IOException | DataConversionException e) {
+            switchBackToPlanner(oldPlannerFilePath, oldItineraryName);
+            throw e;
+        }
+        if (accommodations.isEmpty() || activities.isEmpty() || contacts.isEmpty() || itinerary.isEmpty()) {
+            Path missingPlannerFilePath = model.getPlannerFilePath();
+            switchBackToPlanner(oldPlannerFilePath, oldItineraryName);
+            throw new CommandException(MISSING_PLANNER_DATA_MESSAGE + missingPlannerFilePath);
+        }
+
+        model.setAccommodations(accommodations.get());
+        model.setActivities(activities.get());
+        model.setContacts(contacts.get());
+        model.setItinerary(itinerary.get());
+    }
+
+    /**
+     * Points the model and storage back at the planner at {@code plannerFilePath}, named {@code itineraryName}.
+     */
+    private void switchBackToPlanner(Path plannerFilePath, Name itineraryName) {
+        model.setPlannerFilePath(plannerFilePath.getFileName());
+        model.setItineraryName(itineraryName);
+        setStorageFilePaths();
+    }
+
+    /**
+     * Saves only the data whose version in the model differs from the version last saved to storage.
+     * Returns true if any data was saved.
+     */
+    private boolean saveChangedData() throws IOException {
+        boolean isAnySaved = false;
+        if (model.getAccommodationVersion() != savedAccommodationVersion) {
+            storage.saveAccommodation(model.getAccommodations());
+            savedAccommodationVersion = model.getAccommodationVersion();
+            isAnySaved = true;
+        }
+        if (model.getActivityVersion() != savedActivityVersion) {
+            storage.saveActivity(model.getActivities());
+            savedActivityVersion = model.getActivityVersion();
+            isAnySaved = true;
+        }
+        if (model.getContactVersion() != savedContactVersion) {
+            storage.saveContact(model.getContacts());
+            savedContactVersion = model.getContactVersion();
+            isAnySaved = true;
+        }
+        if (model.getItineraryVersion() != savedItineraryVersion) {
+            storage.saveItinerary(model.getItinerary());
+            savedItineraryVersion = model.getItineraryVersion();
+            isAnySaved = true;
+        }
+        return isAnySaved;
+    }
+
+    /**
+     * Records the current details of the planner, last modified at {@code lastModified}, in the planner catalog,
+     * so that it can be found without reading its data files.
+     * The catalog is only saved by {@link #savePlannerCatalog()}.
+     */
+    private void updatePlannerSummary(LocalDateTime lastModified) {
+        Optional<Name> plannerName = getPlannerName(model.getPlannerFilePath());
+        if (!plannerName.isPresent()) {
+            return;
+        }
+        model.getPlannerCatalog().setPlanner(PlannerSummary.of(plannerName.get(), model.getItinerary(),
+                model.getActivities(), lastModified));
+        isPlannerCatalogChanged = true;
+    }
+
+    /**
+     * Adds the planner that was just loaded to the planner catalog if it is missing, which happens if its
+     * directory was added outside the app.
+     */
+    private void catalogLoadedPlanner() {
+        Optional<Name> plannerName = getPlannerName(model.getPlannerFilePath());
+        if (!plannerName.isPresent() || model.hasPlanner(plannerName.get())) {
+            return;
+        }
+        LocalDateTime lastModified;
+        try {
+            lastModified = LocalDateTime.ofInstant(
+                    Files.getLastModifiedTime(model.getItineraryFilePath()).toInstant(), ZoneId.systemDefault());
+        } catch (IOException e) {
+            lastModified = LocalDateTime.now();
+        }
+        updatePlannerSummary(lastModified);
+    }
+
+    /**
+     * Saves the planner catalog if it has changed since it was last saved.
+     */
+    private void savePlannerCatalog() throws IOException {
+        if (!isPlannerCatalogChanged) {
+            return;
+        }
+        storage.savePlannerCatalog(model.getPlannerCatalog());
+        isPlannerCatalogChanged = false;
+    }
+
+    /**
+     * Returns the name of the planner stored at {@code plannerFilePath}, if it is a valid planner name.
+     */
+    private static Optional<Name> getPlannerName(Path plannerFilePath) {
+        String plannerName = plannerFilePath.getFileName().toString();
+        return Name.isValidName(plannerName) ? Optional.of(new Name(plannerName)) : Optional.empty();
+    }
+
+    /**
+     * Records the current data in the model as being in sync with storage.
+     */
+    private void markAllSaved() {
+        savedAccommodationVersion = model.getAccommodationVersion();
+        savedActivityVersion = model.getActivityVersion();
+        savedContactVersion = model.getContactVersion();
+        savedItineraryVersion = model.getItineraryVersion();
+    }
+
+    /**
+     * Forces all data in the model to be saved on the next save, e.g. after the planner file path changes.
+     */
+    private void markAllUnsaved() {
+        savedAccommodationVersion = UNSAVED;
+        savedActivityVersion = UNSAVED;
+        savedContactVersion = UNSAVED;
+        savedItineraryVersion = UNSAVED;
+    }
+
     @Override
     public ReadOnlyAccommodation getAccommodations() {
         return model.getAccommodations();
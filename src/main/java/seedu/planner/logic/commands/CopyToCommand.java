@@ -3,7 +3,6 @@ package seedu.planner.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.planner.logic.parser.CliSyntax.PREFIX_NAME;
 
-import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -12,6 +11,7 @@ import seedu.planner.logic.autocomplete.CommandInformation;
 import seedu.planner.logic.commands.exceptions.CommandException;
 import seedu.planner.logic.commands.result.CommandResult;
 import seedu.planner.logic.commands.result.UiFocus;
+import seedu.planner.logic.commands.util.CommandUtil;
 import seedu.planner.logic.commands.util.HelpExplanation;
 import seedu.planner.model.Model;
 import seedu.planner.model.field.Name;
@@ -60,10 +60,8 @@ public class CopyToCommand extends Command {
             throw new CommandException(MESSAGE_NAME_IS_TOO_LONG);
         }
 
-        Path newPlannerFilePath = model.getPlannerFilePath().resolveSibling(this.name.name);
-        File newPlannerFile = newPlannerFilePath.toFile();
-
-        if (newPlannerFile.exists() && !newPlannerFile.delete()) {
+        Path newPlannerFilePath = CommandUtil.getPlannerFilePath(model, this.name);
+        if (CommandUtil.isPlannerSaved(model, this.name)) {
             throw new CommandException(DUPLICATE_PLANNER_MESSAGE);
         }
 
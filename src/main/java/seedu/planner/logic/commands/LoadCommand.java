@@ -3,7 +3,6 @@ package seedu.planner.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.planner.logic.parser.CliSyntax.PREFIX_NAME;
 
-import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -12,6 +11,7 @@ import seedu.planner.logic.autocomplete.CommandInformation;
 import seedu.planner.logic.commands.exceptions.CommandException;
 import seedu.planner.logic.commands.result.CommandResult;
 import seedu.planner.logic.commands.result.UiFocus;
+import seedu.planner.logic.commands.util.CommandUtil;
 import seedu.planner.logic.commands.util.HelpExplanation;
 import seedu.planner.model.Model;
 import seedu.planner.model.field.Name;
@@ -57,10 +57,9 @@ public class LoadCommand extends Command {
         requireNonNull(model);
 
         Path oldPlannerFilePath = model.getPlannerFilePath();
-        Path newPlannerFilePath = oldPlannerFilePath.resolveSibling(this.name.name);
-        File newPlannerFile = newPlannerFilePath.toFile();
+        Path newPlannerFilePath = CommandUtil.getPlannerFilePath(model, this.name);
 
-        if (!newPlannerFile.exists()) {
+        if (!CommandUtil.isPlannerSaved(model, this.name)) {
             throw new CommandException(NO_PLANNER_MESSAGE);
         } else if (oldPlannerFilePath.equals(newPlannerFilePath)) {
             throw new CommandException(LOADED_PLANNER_MESSAGE);
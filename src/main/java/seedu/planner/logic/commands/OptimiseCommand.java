@@ -1,12 +1,13 @@
 package seedu.planner.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.planner.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.planner.logic.parser.CliSyntax.PREFIX_COST;
+import static seedu.planner.model.Model.PREDICATE_SHOW_ALL_DAYS;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.TreeMap;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -18,6 +19,8 @@ import seedu.planner.logic.commands.exceptions.CommandException;
 import seedu.planner.logic.commands.result.CommandResult;
 import seedu.planner.logic.commands.result.UiFocus;
 import seedu.planner.logic.commands.util.HelpExplanation;
+import seedu.planner.logic.commands.util.ScheduleOptimiser;
+import seedu.planner.logic.commands.util.ScheduleOptimiser.Objective;
 import seedu.planner.model.Model;
 import seedu.planner.model.day.ActivityWithTime;
 import seedu.planner.model.day.Day;
@@ -25,42 +28,83 @@ import seedu.planner.model.field.Cost;
 
 //@@author KxxMxxx
 /**
- * Optimises a Day's activities.
+ * Optimises a Day's activities, or those of every day together, for an {@code Objective}, optionally within a budget.
  */
 public class OptimiseCommand extends UndoableCommand {
     public static final String COMMAND_WORD = "optimise";
+    public static final String ALL_DAYS = "all";
     public static final String MESSAGE_SUCCESS = "Day has been optimised!";
+    public static final String MESSAGE_ALL_SUCCESS = "Itinerary has been optimised!";
     public static final String MESSAGE_DAY_EMPTY = "Day is empty!";
+    public static final String MESSAGE_ITINERARY_EMPTY = "There are no activities in the itinerary to optimise!";
+    public static final String MESSAGE_OVER_BUDGET = "No activities in the day fit within the budget!";
+    public static final String MESSAGE_ALL_OVER_BUDGET = "No activities in the itinerary fit within the budget!";
     public static final HelpExplanation MESSAGE_USAGE = new HelpExplanation(
             COMMAND_WORD,
-            "Optimises the day based on the total cost of activities in a day.",
-            COMMAND_WORD + " DAY_INDEX (must be a positive integer)",
-            COMMAND_WORD + " 1"
+            "Optimises the day, or every day with " + ALL_DAYS + ", for the lowest total cost (cost), the highest "
+                    + "total priority (priority) or the most time spent on activities (duration), optionally within "
+                    + "a budget shared by the days. Defaults to cost.",
+            COMMAND_WORD + " DAY_INDEX (must be a positive integer) or " + ALL_DAYS + " [OBJECTIVE] ["
+                    + PREFIX_COST + "BUDGET]",
+            COMMAND_WORD + " " + ALL_DAYS + " priority " + PREFIX_COST + "100"
     );
     public static final CommandInformation COMMAND_INFORMATION = new CommandInformation(
             COMMAND_WORD,
-            "<INDEX>"
+            "<INDEX>",
+            new ArrayList<>(),
+            new ArrayList<>(),
+            List.of(PREFIX_COST.toString()),
+            new ArrayList<>()
     );
     private final Logger logger = LogsCenter.getLogger(OptimiseCommand.class);
 
-    private final Index dayIndex;
-    private TreeMap<ActivityWithTime, List<ActivityWithTime>> adjList;
-    private List<Path> paths;
+    private final Optional<Index> dayIndex;
+    private final Objective objective;
+    private final Optional<Cost> budget;
     private final boolean isUndoRedo;
 
     /**
-     * Creates an OptimiseCommand to optimise a day's activities.
+     * Creates an OptimiseCommand to optimise a day's activities for the lowest total cost.
      */
     public OptimiseCommand(Index dayIndex, boolean isUndoRedo) {
-        requireNonNull(dayIndex);
+        this(dayIndex, Objective.COST, Optional.empty(), isUndoRedo);
+    }
+
+    /**
+     * Creates an OptimiseCommand to optimise a day's activities for {@code objective} within {@code budget}.
+     */
+    public OptimiseCommand(Index dayIndex, Objective objective, Optional<Cost> budget, boolean isUndoRedo) {
+        this(Optional.of(dayIndex), objective, budget, isUndoRedo);
+    }
+
+    /**
+     * Creates an OptimiseCommand to optimise the activities of the day at {@code dayIndex}, or of every day together
+     * if there is no index, for {@code objective} within {@code budget}.
+     */
+    public OptimiseCommand(Optional<Index> dayIndex, Objective objective, Optional<Cost> budget,
+                           boolean isUndoRedo) {
+        requireAllNonNull(dayIndex, objective, budget);
         this.dayIndex = dayIndex;
+        this.objective = objective;
+        this.budget = budget;
         this.isUndoRedo = isUndoRedo;
     }
 
-    public Index getDayIndex() {
+    /**
+     * Returns the index of the day to optimise, or an empty {@code Optional} if every day is optimised.
+     */
+    public Optional<Index> getDayIndex() {
         return dayIndex;
     }
 
+    public Objective getObjective() {
+        return objective;
+    }
+
+    public Optional<Cost> getBudget() {
+        return budget;
+    }
+
     @Override
     public String getCommandWord() {
         return COMMAND_WORD;
@@ -69,6 +113,16 @@ public class OptimiseCommand extends UndoableCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        if (dayIndex.isEmpty()) {
+            return optimiseAllDays(model);
+        }
+        return optimiseDay(model, dayIndex.get());
+    }
+
+    /**
+     * Optimises the day at {@code dayIndex} on its own.
+     */
+    private CommandResult optimiseDay(Model model, Index dayIndex) throws CommandException {
         List<Day> listOfDays = model.getFilteredItinerary();
 
         if (dayIndex.getZeroBased() >= listOfDays.size()) {
@@ -78,123 +132,64 @@ public class OptimiseCommand extends UndoableCommand {
         logger.info(String.format("----------------[OPTIMISING DAY %s]", dayIndex.getOneBased()));
 
         Day dayToOptimise = listOfDays.get(dayIndex.getZeroBased());
-        adjList = makeAdjList(dayToOptimise);
-        paths = new ArrayList<>();
-
-        List<ActivityWithTime> startPoints = dayToOptimise.findAllOverlap(adjList.firstKey());
-        for (ActivityWithTime startPoint : startPoints) {
-            Path path = new Path();
-            path.add(startPoint);
-            tracePaths(startPoint, path);
+        if (dayToOptimise.getNumberOfActivities() == 0) {
+            throw new CommandException(MESSAGE_DAY_EMPTY);
+        }
+        List<ActivityWithTime> optimisedActivities =
+                ScheduleOptimiser.optimise(dayToOptimise.getListOfActivityWithTime(), objective, budget);
+        if (optimisedActivities.isEmpty()) {
+            throw new CommandException(MESSAGE_OVER_BUDGET);
         }
-        Collections.sort(paths);
 
         if (!isUndoRedo) {
             updateEventStack(this, model);
         }
 
-        model.setDay(dayToOptimise, new Day (paths.get(0).path));
+        model.setDay(dayToOptimise, new Day(optimisedActivities));
         logger.info("----------------[DAY OPTIMISED!]");
         return new CommandResult(MESSAGE_SUCCESS, new UiFocus[]{UiFocus.AGENDA});
     }
 
-    @Override
-    public boolean equals(Object other) {
-        return other == this
-                || other instanceof OptimiseCommand
-                && dayIndex.equals(((OptimiseCommand) other).dayIndex)
-                && isUndoRedo == ((OptimiseCommand) other).isUndoRedo;
-    }
-
     /**
-     * Creates an adjacency list of all the activities
+     * Optimises every day together, so that the budget is shared between them.
      */
-    private TreeMap<ActivityWithTime, List<ActivityWithTime>> makeAdjList(Day day) throws CommandException {
-        TreeMap<ActivityWithTime, List<ActivityWithTime>> adjList = new TreeMap<>();
-        List<ActivityWithTime> activities = day.getListOfActivityWithTime();
-        if (activities.size() == 0) {
-            throw new CommandException(MESSAGE_DAY_EMPTY);
-        }
-        for (int i = 0; i < activities.size(); i++) {
-            ActivityWithTime currAct = activities.get(i);
-            Optional<ActivityWithTime> nextAct = day.findNextActNoOverlap(Index.fromZeroBased(i));
-            nextAct.ifPresentOrElse(x -> {
-                List<ActivityWithTime> neighbours = findNeighbours(day, x);
-                adjList.put(currAct, neighbours);
-            }, () -> adjList.put(currAct, new ArrayList<>()));
+    private CommandResult optimiseAllDays(Model model) throws CommandException {
+        List<Day> editDays = new ArrayList<>(model.getFilteredItinerary());
+        if (editDays.stream().allMatch(day -> day.getNumberOfActivities() == 0)) {
+            throw new CommandException(MESSAGE_ITINERARY_EMPTY);
         }
-        return adjList;
-    }
-
-    /**
-     * Finds a list of possible activities that do not clash with the current activity and comes after the current
-     * activity.
-     */
-    private List<ActivityWithTime> findNeighbours(Day day, ActivityWithTime activity) {
-        List<ActivityWithTime> neighbours = new ArrayList<>();
-        neighbours.addAll(day.findAllOverlap(activity));
-        return neighbours;
-    }
 
-    /**
-     * Creates a list of possible combinations of all valid schedules such that the activities do not overlap with each
-     * other.
-     */
-    private void tracePaths(ActivityWithTime currNode, Path path) {
-        if (adjList.get(currNode).isEmpty()) {
-            paths.add(path);
-        } else {
-            List<ActivityWithTime> neighbours = adjList.get(currNode);
-            for (ActivityWithTime neighbour : neighbours) {
-                Path splitPath = path.clone();
-                splitPath.add(neighbour);
-                tracePaths(neighbour, splitPath);
-            }
-        }
-    }
-
-    /**
-     * Represents a schedule without conflict
-     */
-    private class Path implements Comparable<Path> {
-        private double cost;
-        private List<ActivityWithTime> path;
+        logger.info("----------------[OPTIMISING ALL DAYS]");
 
-        public Path() {
-            cost = 0.00;
-            path = new ArrayList<>();
+        List<List<ActivityWithTime>> optimisedDays = ScheduleOptimiser.optimiseAll(editDays.stream()
+                .map(Day::getListOfActivityWithTime)
+                .collect(Collectors.toList()), objective, budget);
+        if (optimisedDays.stream().allMatch(List::isEmpty)) {
+            throw new CommandException(MESSAGE_ALL_OVER_BUDGET);
         }
 
-        public Path(double cost, List<ActivityWithTime> path) {
-            this.cost = cost;
-            this.path = path;
-        }
-
-        /**
-         * Adds an activity that does not conflict to the schedule.
-         */
-        public void add(ActivityWithTime activity) {
-            Optional<Cost> costOfActivity = activity.getActivity().getCost();
-            cost += costOfActivity.isPresent()
-                    ? costOfActivity.get().getCost()
-                    : 0;
-            path.add(activity);
-        }
-
-        public Path clone() {
-            List<ActivityWithTime> copiedPath = path.stream().collect(Collectors.toList());
-            return new Path(this.cost, copiedPath);
+        if (!isUndoRedo) {
+            updateEventStack(this, model);
         }
 
-        @Override
-        public int compareTo(Path that) {
-            if (this.cost == that.cost) {
-                return that.path.size() - this.path.size();
-            } else if (that.cost < this.cost) {
-                return 1;
-            } else {
-                return -1;
+        for (int i = 0; i < editDays.size(); i++) {
+            if (editDays.get(i).getNumberOfActivities() != 0) {
+                editDays.set(i, new Day(optimisedDays.get(i)));
             }
         }
+        model.setDays(editDays);
+        model.updateFilteredItinerary(PREDICATE_SHOW_ALL_DAYS);
+        logger.info("----------------[ALL DAYS OPTIMISED!]");
+        return new CommandResult(MESSAGE_ALL_SUCCESS, new UiFocus[]{UiFocus.AGENDA});
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || other instanceof OptimiseCommand
+                && dayIndex.equals(((OptimiseCommand) other).dayIndex)
+                && objective.equals(((OptimiseCommand) other).objective)
+                && budget.equals(((OptimiseCommand) other).budget)
+                && isUndoRedo == ((OptimiseCommand) other).isUndoRedo;
     }
 }
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.planner.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.planner.logic.parser.CliSyntax.PREFIX_START_DATE;
 
-import java.io.File;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
@@ -16,6 +15,7 @@ import seedu.planner.logic.autocomplete.CommandInformation;
 import seedu.planner.logic.commands.exceptions.CommandException;
 import seedu.planner.logic.commands.result.CommandResult;
 import seedu.planner.logic.commands.result.UiFocus;
+import seedu.planner.logic.commands.util.CommandUtil;
 import seedu.planner.logic.commands.util.HelpExplanation;
 import seedu.planner.model.Model;
 import seedu.planner.model.field.Name;
@@ -73,10 +73,8 @@ public class SetCommand extends Command {
                 throw new CommandException(MESSAGE_NAME_IS_TOO_LONG);
             }
 
-            Path newPlannerFilePath = model.getPlannerFilePath().resolveSibling(this.name.name);
-            File newPlannerFile = newPlannerFilePath.toFile();
-
-            if (newPlannerFile.exists() && !newPlannerFile.delete()) {
+            Path newPlannerFilePath = CommandUtil.getPlannerFilePath(model, this.name);
+            if (CommandUtil.isPlannerSaved(model, this.name)) {
                 throw new CommandException(DUPLICATE_PLANNER_MESSAGE);
             }
 
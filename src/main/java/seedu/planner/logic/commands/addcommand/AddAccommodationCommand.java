@@ -96,7 +96,7 @@ public class AddAccommodationCommand extends AddCommand {
         // contact.
         if (toAdd.getContact().isPresent() && model.hasContact(toAdd.getContact().get())) {
             Contact contact = model.getContact(toAdd.getContact().get()).get();
-            accommodationAdded = new Accommodation(toAdd.getName(), toAdd.getAddress(), contact,
+            accommodationAdded = new Accommodation(toAdd.getId(), toAdd.getName(), toAdd.getAddress(), contact,
                     toAdd.getTags());
         } else {
             accommodationAdded = toAdd;
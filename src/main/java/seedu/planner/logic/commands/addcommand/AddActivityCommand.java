@@ -104,10 +104,10 @@ public class AddActivityCommand extends AddCommand {
         // Check if new Activity's contact already exist in ContactManager's list. If true, use the existing
         // contact.
         if (toAdd.getContact().isPresent() && model.hasContact(toAdd.getContact().get())) {
-            Contact contact = toAdd.getContact().get();
+            Contact contact = model.getContact(toAdd.getContact().get()).orElse(toAdd.getContact().get());
             Cost cost = toAdd.getCost().isPresent() ? toAdd.getCost().get() : null;
-            activityAdded = new Activity(toAdd.getName(), toAdd.getAddress(), contact, cost, toAdd.getTags(),
-                    toAdd.getDuration(), toAdd.getPriority());
+            activityAdded = new Activity(toAdd.getId(), toAdd.getName(), toAdd.getAddress(), contact, cost,
+                    toAdd.getTags(), toAdd.getDuration(), toAdd.getPriority());
         } else {
             activityAdded = toAdd;
         }
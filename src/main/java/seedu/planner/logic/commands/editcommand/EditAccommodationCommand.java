@@ -180,7 +180,8 @@ public class EditAccommodationCommand extends EditCommand {
 
         Set<Tag> updatedTags = editAccommodationDescriptor.getTags().orElse(accommodationToEdit.getTags());
 
-        return new Accommodation(updatedName, updatedAddress, updatedContact, updatedTags);
+        return new Accommodation(accommodationToEdit.getId(), updatedName, updatedAddress, updatedContact,
+                updatedTags);
     }
 
     @Override
@@ -196,8 +196,8 @@ public class EditActivityCommand extends EditCommand {
         Duration updatedDuration = editActivityDescriptor.getDuration().orElse(activityToEdit.getDuration());
         Priority updatedPriority = editActivityDescriptor.getPriority().orElse(activityToEdit.getPriority());
 
-        return new Activity(updatedName, updatedAddress, updatedContact, updatedCost, updatedTags, updatedDuration,
-                updatedPriority);
+        return new Activity(activityToEdit.getId(), updatedName, updatedAddress, updatedContact, updatedCost,
+                updatedTags, updatedDuration, updatedPriority);
     }
 
     @Override
@@ -173,7 +173,8 @@ public class EditContactCommand extends EditCommand {
         Address updatedAddress = editContactDescriptor.getAddress().orElse(contactToEdit.getAddress().orElse(null));
         Set<Tag> updatedTags = editContactDescriptor.getTags().orElse(contactToEdit.getTags());
 
-        return new Contact(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags);
+        return new Contact(contactToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress,
+                updatedTags);
     }
 
     @Override
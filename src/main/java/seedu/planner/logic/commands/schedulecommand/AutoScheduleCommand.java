@@ -7,15 +7,14 @@ import static seedu.planner.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.planner.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.planner.model.Model.PREDICATE_SHOW_ALL_DAYS;
 
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.OptionalInt;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -28,12 +27,11 @@ import seedu.planner.logic.commands.UndoableCommand;
 import seedu.planner.logic.commands.exceptions.CommandException;
 import seedu.planner.logic.commands.result.CommandResult;
 import seedu.planner.logic.commands.result.UiFocus;
+import seedu.planner.logic.commands.util.AutoScheduleSearch;
 import seedu.planner.logic.commands.util.HelpExplanation;
 import seedu.planner.model.Model;
 import seedu.planner.model.ModelManager;
 import seedu.planner.model.activity.Activity;
-import seedu.planner.model.activity.ActivityWithCount;
-import seedu.planner.model.day.ActivityWithTime;
 import seedu.planner.model.day.Day;
 import seedu.planner.model.field.Address;
 import seedu.planner.model.field.NameOrTagWithTime;
@@ -48,10 +46,14 @@ public class AutoScheduleCommand extends UndoableCommand {
     public static final String COMMAND_WORD = "autoschedule";
     public static final String MESSAGE_INVALID_SCHEDULE = "Unable to generate a schedule"
             + " with no overlapping";
+    public static final String MESSAGE_BEST_PARTIAL_SCHEDULE = MESSAGE_INVALID_SCHEDULE
+            + " for day %1$d. At most %2$d of the %3$d activities could be scheduled: %4$s";
+    public static final String MESSAGE_SEARCH_TIMED_OUT = " (stopped searching after %1$d ms)";
     public static final String MESSAGE_SUCCESS = "Schedule for the day(s) generated!";
     public static final String TIME_FORMAT = "HHmm";
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(TIME_FORMAT);
     public static final LocalTime DEFAULT_START_TIME = LocalTime.parse("0900", TIME_FORMATTER);
+    public static final long SEARCH_TIME_LIMIT_MILLIS = 1000;
     public static final HelpExplanation MESSAGE_USAGE = new HelpExplanation(
             COMMAND_WORD,
             "Generates a schedule based on the following.",
@@ -107,9 +109,8 @@ public class AutoScheduleCommand extends UndoableCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Day> editDays = new ArrayList<>(model.getFilteredItinerary());
-        List<Activity> activityListByLocation = new ArrayList<>(filterByLocation(model.getFilteredActivityList()));
+        checkAddressExists(model);
         List<Optional<LocalTime>> timeSchedule = fillTimeSchedule(schedulePlan);
-        Collections.sort(activityListByLocation);
 
         if (editDays.size() == 0) {
             throw new CommandException(Messages.MESSAGE_NO_DAYS_AVAILABLE);
@@ -121,42 +122,30 @@ public class AutoScheduleCommand extends UndoableCommand {
         Model initialModel = new ModelManager(model.getAccommodations(), model.getActivities(), model.getContacts(),
                 model.getItinerary(), model.getUserPrefs());
 
+        List<List<Activity>> candidates = new ArrayList<>();
+        for (NameOrTagWithTime nameOrTagWithTime : schedulePlan) {
+            candidates.add(getSimilarActivities(model, nameOrTagWithTime));
+        }
+
         // Generate schedule for specified day(s)
-        for (Index dayIndex : days) {
-            List<ActivityWithTime> activitiesForTheDay = new ArrayList<>();
+        for (int position = 0; position < days.size(); position++) {
+            Index dayIndex = days.get(position);
             if (dayIndex.getZeroBased() >= editDays.size()) {
                 throw new CommandException(Messages.MESSAGE_INVALID_DAY_DISPLAYED_INDEX);
             }
-            for (int i = 0; i < schedulePlan.size(); i++) {
-                List<Activity> similarActivities = getSimilarActivities(activityListByLocation, schedulePlan.get(i));
-                List<ActivityWithCount> activitiesWithCount = updateCount(similarActivities, editDays,
-                        activitiesForTheDay, dayIndex);
-                int nextIndex = i + 1;
-                OptionalInt nextTimingIndex = getNextTimingIndex(i, timeSchedule);
-                LocalTime currentTime = timeSchedule.get(i).get();
-
-                // Check if there exists an activity that fits the schedule
-                Optional<Activity> activity = getSuitableActivity(activitiesWithCount, i, timeSchedule);
-                if (activity.isPresent()) {
-                    activitiesForTheDay.add(toSchedule(timeSchedule.get(i).get()
-                            .atDate(model.getStartDate().plusDays(dayIndex.getZeroBased())), activity.get()));
-                } else {
-                    throw new CommandException(MESSAGE_INVALID_SCHEDULE);
-                }
-
-                // Sets the next timing as the end time of chosen activity if next timing in schedule is unavailable
-                int duration = activity.get().getDuration().value;
-                if ((nextTimingIndex.isEmpty() || (nextTimingIndex.getAsInt() != nextIndex
-                        && nextTimingIndex.getAsInt() != schedulePlan.size()))) {
-                    timeSchedule.set(nextIndex, Optional.ofNullable(currentTime.plusMinutes(duration)));
-                }
+            AutoScheduleSearch search = new AutoScheduleSearch(candidates, timeSchedule,
+                    countScheduled(candidates, editDays, position),
+                    model.getStartDate().plusDays(dayIndex.getZeroBased()));
+            if (!search.search(SEARCH_TIME_LIMIT_MILLIS)) {
+                throw new CommandException(describeBestPartialSchedule(dayIndex, search));
             }
 
-            Day editedDay = new Day(activitiesForTheDay);
+            Day editedDay = new Day(search.getSchedule());
             editDays.set(dayIndex.getZeroBased(), editedDay);
-            model.setDays(editDays);
-            model.updateFilteredItinerary(PREDICATE_SHOW_ALL_DAYS);
         }
+        // The model is only changed once every day has been scheduled
+        model.setDays(editDays);
+        model.updateFilteredItinerary(PREDICATE_SHOW_ALL_DAYS);
         if (!isUndoRedo) {
             // Not due to redo method of AutoScheduleEvent
             updateEventStack(this, initialModel);
@@ -165,81 +154,43 @@ public class AutoScheduleCommand extends UndoableCommand {
         return new CommandResult(Messages.MESSAGE_SCHEDULE_ACTIVITY_SUCCESS, new UiFocus[]{UiFocus.AGENDA});
     }
 
-    private Optional<Activity> getSuitableActivity(List<ActivityWithCount> activitiesWithCount, int currentIndex,
-                                                   List<Optional<LocalTime>> timeSchedule) throws CommandException {
-        for (ActivityWithCount activityWithCount : activitiesWithCount) {
-            int duration = activityWithCount.getActivity().getDuration().value;
-            LocalTime currentTiming = timeSchedule.get(currentIndex).get();
-            LocalTime currentActivityEndTime = currentTiming.plusMinutes(duration);
-
-            // Check if it is the last activity in the schedulePlan to schedule
-            if (currentIndex == schedulePlan.size() - 1) {
-                if (currentActivityEndTime.isBefore(currentTiming)) {
+    /**
+     * Counts the number of times each candidate activity is scheduled on the days that keep their activities, which
+     * are those not being scheduled and those that come before the {@code position}-th day being scheduled.
+     */
+    private Map<Activity, Long> countScheduled(List<List<Activity>> candidates, List<Day> lastShownDays,
+                                               int position) {
+        Map<Activity, Long> counts = new HashMap<>();
+        for (List<Activity> similarActivities : candidates) {
+            for (Activity similarActivity : similarActivities) {
+                if (counts.containsKey(similarActivity)) {
                     continue;
                 }
-                return Optional.of(activityWithCount.getActivity());
-            }
-
-            // Check if activity chosen overlap next timing in timeSchedule
-            OptionalInt nextTimingIndex = getNextTimingIndex(currentIndex, timeSchedule);
-            if (nextTimingIndex.isEmpty()) {
-                return Optional.of(activityWithCount.getActivity());
-            } else {
-                LocalTime startTimeOfNextActivity = timeSchedule.get(nextTimingIndex.getAsInt()).get();
-                if (startTimeOfNextActivity.compareTo(currentActivityEndTime) >= 0) {
-                    return Optional.of(activityWithCount.getActivity());
+                long count = 0;
+                for (int i = 0; i < lastShownDays.size(); i++) {
+                    int index = days.indexOf(Index.fromZeroBased(i));
+                    if (index == -1 || index < position) {
+                        count += lastShownDays.get(i).countActivity(similarActivity);
+                    }
                 }
+                counts.put(similarActivity, count);
             }
         }
-        return Optional.empty();
-    }
-
-    /**
-     * Gets the index of the next timing in the schedule if any.
-     */
-    private OptionalInt getNextTimingIndex(int currentIndex, List<Optional<LocalTime>> timeSchedule) {
-        if (currentIndex + 1 == timeSchedule.size()) {
-            return OptionalInt.of(timeSchedule.size());
-        }
-        return IntStream.range(currentIndex + 1, timeSchedule.size())
-                .filter(k -> timeSchedule.get(k).isPresent())
-                .findFirst();
-    }
-
-    /**
-     * Creates an ActivityWithTime to be scheduled.
-     */
-    private ActivityWithTime toSchedule(LocalDateTime currentDateTime, Activity activity) {
-        return new ActivityWithTime(activity, currentDateTime);
+        return counts;
     }
 
     /**
-     * Generates a list that track the number of time each activity appears in the timetable.
-     *
-     * @param activitiesForTheDay list of activities that are generated by auto-scheduling
+     * Describes the schedule that fills the most slots of the plan on the day at {@code dayIndex}.
      */
-    private List<ActivityWithCount> updateCount(List<Activity> similarActivities, List<Day> lastShownDays,
-                                                List<ActivityWithTime> activitiesForTheDay, Index dayToEdit) {
-        List<ActivityWithCount> activityCounts = new ArrayList<>();
-        for (Activity similarActivity : similarActivities) {
-            long count = 0;
-            for (int i = 0; i < lastShownDays.size(); i++) {
-                int index = days.indexOf(Index.fromZeroBased(i));
-                if ((index == -1) || index < dayToEdit.getZeroBased()) {
-                    count += lastShownDays.get(i).getListOfActivityWithTime()
-                            .stream()
-                            .filter(activityWithTime -> activityWithTime.getActivity().equals(similarActivity))
-                            .count();
-                }
-            }
-            count += (int) activitiesForTheDay
-                    .stream()
-                    .filter(activityWithTime -> activityWithTime.getActivity().equals(similarActivity))
-                    .count();
-            activityCounts.add(new ActivityWithCount(similarActivity, (int) count));
-        }
-        Collections.sort(activityCounts);
-        return activityCounts;
+    private String describeBestPartialSchedule(Index dayIndex, AutoScheduleSearch search) {
+        String activities = search.getSchedule().stream()
+                .map(activity -> activity.getStartDateTime().toLocalTime().format(TIME_FORMATTER) + " "
+                        + activity.getActivity().getName())
+                .collect(Collectors.joining(", "));
+        String message = String.format(MESSAGE_BEST_PARTIAL_SCHEDULE, dayIndex.getOneBased(),
+                search.getSchedule().size(), schedulePlan.size(), activities);
+        return search.isTimedOut() ? message + String.format(MESSAGE_SEARCH_TIMED_OUT, SEARCH_TIME_LIMIT_MILLIS)
+                : message;
     }
 
     /**
@@ -256,15 +207,19 @@ public class AutoScheduleCommand extends UndoableCommand {
         return timeSchedule;
     }
 
-    private List<Activity> getSimilarActivities(List<Activity> filteredActivitiesByLocation,
-                                                NameOrTagWithTime nameAndTagWithTime) throws CommandException {
-        List<Activity> filteredList = filteredActivitiesByLocation
+    /**
+     * Returns the activities in the filtered activity list that match the name or tag of {@code nameAndTagWithTime}
+     * and are at the specified location, sorted by priority.
+     */
+    private List<Activity> getSimilarActivities(Model model, NameOrTagWithTime nameAndTagWithTime)
+            throws CommandException {
+        List<Activity> matches = nameAndTagWithTime.getTag().isPresent()
+                ? model.getFilteredActivitiesWithTag(nameAndTagWithTime.getTag().get())
+                : model.getFilteredActivitiesWithName(nameAndTagWithTime.getName().get());
+        List<Activity> filteredList = matches
                 .stream()
-                .filter(activity -> (nameAndTagWithTime.getTag().isPresent()
-                        && activity.getTags().contains(nameAndTagWithTime.getTag().get()))
-                        ||
-                        nameAndTagWithTime.getName().isPresent()
-                                && activity.getName().equals(nameAndTagWithTime.getName().get()))
+                .filter(activity -> address.isEmpty() || activity.getAddress().equals(address.get()))
+                .sorted()
                 .collect(Collectors.toList());
         if (filteredList.isEmpty()) {
             if (nameAndTagWithTime.getName().isPresent()) {
@@ -288,20 +243,12 @@ public class AutoScheduleCommand extends UndoableCommand {
     }
 
     /**
-     * @return list of activities that has the same location specified.
+     * Throws a {@code CommandException} if no activity in the filtered activity list is at the specified location.
      */
-    private List<Activity> filterByLocation(List<Activity> lastShownActivities) throws CommandException {
-        List<Activity> filteredList = lastShownActivities;
-        if (address.isPresent()) {
-            filteredList = lastShownActivities
-                    .stream()
-                    .filter(activity -> activity.getAddress().equals(address.get()))
-                    .collect(Collectors.toList());
-            if (filteredList.size() == 0) {
-                throw new CommandException(String.format(Messages.MESSAGE_ADDRESS_NOT_FOUND, address.get()));
-            }
+    private void checkAddressExists(Model model) throws CommandException {
+        if (address.isPresent() && model.getFilteredActivitiesAtAddress(address.get()).isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_ADDRESS_NOT_FOUND, address.get()));
         }
-        return filteredList;
     }
 
     @Override
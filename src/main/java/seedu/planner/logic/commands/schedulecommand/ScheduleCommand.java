@@ -144,13 +144,7 @@ public class ScheduleCommand extends UndoableCommand {
      * Check if the activity to be scheduled exceeds the limit of 5 overlapping activities.
      */
     private void checkNumberOfOverlaps(Day dayToEdit, ActivityWithTime activityWithTimeToAdd) throws CommandException {
-        int numOfOverlap = 0;
-        for (ActivityWithTime activity : dayToEdit.getListOfActivityWithTime()) {
-            if (activityWithTimeToAdd.isOverlapping(activity)) {
-                numOfOverlap++;
-            }
-        }
-        if (numOfOverlap >= MAX_LIMIT_OF_OVERLAP) {
+        if (dayToEdit.countOverlaps(activityWithTimeToAdd) >= MAX_LIMIT_OF_OVERLAP) {
             throw new CommandException(MESSAGE_EXCEED_LIMIT_OF_OVERLAP);
         }
     }
@@ -0,0 +1,176 @@
+package seedu.planner.logic.commands.util;
+
+import static seedu.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.activity.ActivityWithCount;
+import seedu.planner.model.day.ActivityWithTime;
+
+//@@author oscarsu97
+/**
+ * Searches for the activities that fill the slots of an autoschedule plan on one day.
+ * <p>
+ * Each slot is filled by one of its candidate activities. The activity starts at the slot's own time if it has one,
+ * or when the activity in the previous slot ends otherwise. It must end by the start of the next slot with its own
+ * time, and before midnight. Slots are filled in order by backtracking, trying the activities that have been scheduled
+ * the fewest times first, then those with the highest priority.
+ * <p>
+ * After each choice, the remaining slots up to the next slot with its own time are checked to still have room for
+ * their shortest candidates. Whether the slots from a given slot onwards can be filled only depends on when that slot
+ * starts, so each start that could not be completed is remembered and never searched again.
+ * <p>
+ * The search gives up after a time limit. If no schedule fills every slot, the one that fills the most is kept.
+ */
+public class AutoScheduleSearch {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int NO_TIME = -1;
+
+    private final List<List<Activity>> candidates;
+    private final LocalDate date;
+    /** The number of times each activity is already scheduled, including by the search so far. */
+    private final Map<Activity, Long> counts;
+    /** The start minute of each slot with its own time, or {@code NO_TIME}. */
+    private final int[] fixedStarts;
+    /** The latest minute that the activity in each slot, and the slots after it up to the next timed slot, may end. */
+    private final int[] latestEnds;
+    /** The least time needed by the slots from each slot up to the next timed slot, or 0 for a timed slot. */
+    private final int[] timeNeeded;
+    /** Whether the slots from each slot onwards are known to be impossible to fill from each start minute. */
+    private final boolean[][] isDeadEnd;
+
+    private final List<ActivityWithTime> schedule = new ArrayList<>();
+    private List<ActivityWithTime> bestSchedule = new ArrayList<>();
+    private long deadline;
+    private boolean isTimedOut;
+
+    /**
+     * Creates a search over slots that are filled from {@code candidates}, in the order of the activities in each
+     * candidate list when they have been scheduled equally often. Each slot starts at the time in {@code startTimes}
+     * if there is one, and the first slot must have a time. {@code counts} holds the number of times each activity is
+     * scheduled on other days.
+     */
+    public AutoScheduleSearch(List<List<Activity>> candidates, List<Optional<LocalTime>> startTimes,
+                              Map<Activity, Long> counts, LocalDate date) {
+        requireAllNonNull(candidates, startTimes, counts, date);
+        assert candidates.size() == startTimes.size() && startTimes.get(0).isPresent();
+        this.candidates = candidates;
+        this.date = date;
+        this.counts = new HashMap<>(counts);
+
+        int size = candidates.size();
+        fixedStarts = new int[size + 1];
+        latestEnds = new int[size];
+        timeNeeded = new int[size + 1];
+        isDeadEnd = new boolean[size + 1][MINUTES_PER_DAY];
+        fixedStarts[size] = NO_TIME;
+        for (int i = size - 1; i >= 0; i--) {
+            fixedStarts[i] = startTimes.get(i).map(time -> time.toSecondOfDay() / 60).orElse(NO_TIME);
+            if (i + 1 == size) {
+                latestEnds[i] = MINUTES_PER_DAY - 1;
+            } else {
+                latestEnds[i] = fixedStarts[i + 1] == NO_TIME ? latestEnds[i + 1] : fixedStarts[i + 1];
+            }
+            if (fixedStarts[i] == NO_TIME) {
+                int shortestDuration = candidates.get(i).stream()
+                        .mapToInt(activity -> activity.getDuration().value)
+                        .min()
+                        .orElse(MINUTES_PER_DAY);
+                timeNeeded[i] = shortestDuration + timeNeeded[i + 1];
+            }
+        }
+    }
+
+    /**
+     * Searches for a schedule that fills every slot for at most {@code timeLimitMillis} milliseconds.
+     * Returns true if one is found.
+     */
+    public boolean search(long timeLimitMillis) {
+        deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeLimitMillis);
+        isTimedOut = false;
+        return fill(0, fixedStarts[0]);
+    }
+
+    /**
+     * Returns the schedule that fills every slot if one was found, or otherwise the one that fills the most slots.
+     */
+    public List<ActivityWithTime> getSchedule() {
+        return Collections.unmodifiableList(bestSchedule);
+    }
+
+    /**
+     * Returns true if the last search gave up before it could tell whether every slot can be filled.
+     */
+    public boolean isTimedOut() {
+        return isTimedOut;
+    }
+
+    /**
+     * Fills the slots from {@code slot} onwards, with the first starting at {@code start}.
+     * Returns true if every slot is filled.
+     */
+    private boolean fill(int slot, int start) {
+        if (slot == candidates.size()) {
+            return true;
+        }
+        if (isDeadEnd[slot][start]) {
+            return false;
+        }
+        if (System.nanoTime() > deadline) {
+            isTimedOut = true;
+            return false;
+        }
+
+        for (Activity activity : getActivitiesToTry(slot)) {
+            int end = start + activity.getDuration().value;
+            if (end > latestEnds[slot]) {
+                continue;
+            }
+
+            schedule.add(new ActivityWithTime(activity, date.atTime(LocalTime.ofSecondOfDay(start * 60L))));
+            if (schedule.size() > bestSchedule.size()) {
+                bestSchedule = new ArrayList<>(schedule);
+            }
+            // Only carry on if the slots up to the next timed slot still have room for their shortest candidates.
+            if (end + timeNeeded[slot + 1] <= latestEnds[slot]) {
+                counts.merge(activity, 1L, Long::sum);
+                if (fill(slot + 1, fixedStarts[slot + 1] == NO_TIME ? end : fixedStarts[slot + 1])) {
+                    return true;
+                }
+                counts.merge(activity, -1L, Long::sum);
+            }
+            schedule.remove(schedule.size() - 1);
+            if (isTimedOut) {
+                return false;
+            }
+        }
+        isDeadEnd[slot][start] = true;
+        return false;
+    }
+
+    /**
+     * Returns the candidates of {@code slot}, ordered by the number of times they are scheduled.
+     */
+    private List<Activity> getActivitiesToTry(int slot) {
+        List<ActivityWithCount> activitiesWithCount = new ArrayList<>();
+        for (Activity activity : candidates.get(slot)) {
+            activitiesWithCount.add(new ActivityWithCount(activity, counts.getOrDefault(activity, 0L)));
+        }
+        Collections.sort(activitiesWithCount);
+        List<Activity> activities = new ArrayList<>();
+        for (ActivityWithCount activityWithCount : activitiesWithCount) {
+            activities.add(activityWithCount.getActivity());
+        }
+        return activities;
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.planner.logic.commands.util;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -11,6 +13,7 @@ import seedu.planner.model.accommodation.Accommodation;
 import seedu.planner.model.activity.Activity;
 import seedu.planner.model.activity.Duration;
 import seedu.planner.model.contact.Contact;
+import seedu.planner.model.field.Name;
 
 /**
  * Helper functions for commands.
@@ -52,6 +55,22 @@ public class CommandUtil {
         return indexOfContact.get();
     }
 
+    /**
+     * Returns the path of the planner named {@code name}, which is saved next to the current planner.
+     */
+    public static Path getPlannerFilePath(Model model, Name name) {
+        return model.getPlannerFilePath().resolveSibling(name.name);
+    }
+
+    /**
+     * Returns true if a planner named {@code name} is saved next to the current planner.
+     * Its directory is checked rather than the planner catalog, which is out of date if planners were added or
+     * deleted outside the app.
+     */
+    public static boolean isPlannerSaved(Model model, Name name) {
+        return Files.exists(getPlannerFilePath(model, name));
+    }
+
     //@@author 1nefootstep
     /**
      * Throws an AssertionError if there is no one and only one non-null object.
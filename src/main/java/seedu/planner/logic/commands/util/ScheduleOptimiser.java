@@ -0,0 +1,501 @@
+package seedu.planner.logic.commands.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import seedu.planner.model.day.ActivityWithTime;
+import seedu.planner.model.field.Cost;
+
+//@@author KxxMxxx
+/**
+ * Chooses the activities of a {@code Day} to keep when it is optimised.
+ * <p>
+ * A schedule starts with one of the activities that start before the first activity ends. Each activity in it is
+ * followed by one of the activities that start before the earliest activity not overlapping it ends, so that no
+ * activity can be added to the schedule without an overlap. The cheapest schedule is chosen, then the one with the
+ * most activities, then the earliest.
+ * <p>
+ * The activities that may follow an activity form a contiguous range of the activities sorted by start time, and
+ * the best schedule after an activity does not depend on the activities before it. The best schedule starting with
+ * each activity is therefore found once, from the last activity to the first, with a binary search for the range
+ * and a segment tree for the best schedule in it. This takes O(n log n) time for n activities.
+ * <p>
+ * A day can instead be optimised for the highest total priority or the most time covered, by choosing any set of
+ * activities that do not overlap. For each total value, the cheapest set with that value is found by a knapsack over
+ * the activities from the last to the first, where taking an activity skips to the first activity after it ends.
+ * As activity values are small, this takes O(nV) time, where V is the highest total value of activities that do not
+ * overlap.
+ * <p>
+ * Several days can also be optimised together within one budget, which is shared between the days.
+ */
+public class ScheduleOptimiser {
+
+    /**
+     * What a day is optimised for.
+     */
+    public enum Objective {
+        COST("cost"),
+        PRIORITY("priority"),
+        DURATION("duration");
+
+        private final String keyword;
+
+        Objective(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        /**
+         * Returns the objective with the given keyword, if there is one.
+         */
+        public static Optional<Objective> fromKeyword(String keyword) {
+            for (Objective objective : values()) {
+                if (objective.keyword.equals(keyword)) {
+                    return Optional.of(objective);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static final int NONE = -1;
+    /**
+     * Priority 1 is the highest and 7 the lowest, so an activity's priority is worth twice this minus its value.
+     * Unprioritised activities, with priority 0, are worth 1, which is less than any priority but still positive.
+     */
+    private static final int PRIORITY_WEIGHT_BASE = 8;
+    private static final int UNPRIORITISED = 0;
+    private static final int UNPRIORITISED_WEIGHT = 1;
+
+    private final List<ActivityWithTime> activities;
+    private final long[] startMinutes;
+    /** The total cost of the best schedule starting with each activity. */
+    private final BigDecimal[] costs;
+    /** The number of activities in the best schedule starting with each activity. */
+    private final int[] counts;
+    /** The activity after each activity in its best schedule, or {@code NONE} if it is the last. */
+    private final int[] successors;
+    /** For each node, the activity with the best schedule among the activities it covers. */
+    private final int[] tree;
+    private final int leafOffset;
+
+    private ScheduleOptimiser(List<ActivityWithTime> activities) {
+        this.activities = activities;
+        int size = activities.size();
+        startMinutes = new long[size];
+        for (int i = 0; i < size; i++) {
+            startMinutes[i] = activities.get(i).getStartMinute();
+        }
+        costs = new BigDecimal[size];
+        counts = new int[size];
+        successors = new int[size];
+        leafOffset = Integer.highestOneBit(Math.max(1, size - 1)) * 2;
+        tree = new int[leafOffset * 2];
+        Arrays.fill(tree, NONE);
+    }
+
+    /**
+     * Returns the activities in the best schedule of {@code activities}, which must be sorted by start time.
+     */
+    public static List<ActivityWithTime> optimise(List<ActivityWithTime> activities) {
+        requireNonNull(activities);
+        if (activities.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ScheduleOptimiser(activities).findBestSchedule();
+    }
+
+    /**
+     * Returns the activities in the best schedule of {@code activities} for {@code objective} that costs no more than
+     * {@code budget}, or an empty list if no activity fits within the budget.
+     * {@code activities} must be sorted by start time.
+     */
+    public static List<ActivityWithTime> optimise(List<ActivityWithTime> activities, Objective objective,
+                                                  Optional<Cost> budget) {
+        requireAllNonNull(activities, objective, budget);
+        if (objective != Objective.COST) {
+            return maximiseValue(activities, budget, getValueFunction(objective));
+        }
+        List<ActivityWithTime> schedule = optimise(activities);
+        return isWithinBudget(getTotalCost(schedule), budget) ? schedule : new ArrayList<>();
+    }
+
+    /**
+     * Finds the best schedule starting with each activity, from the last activity to the first, and returns the best
+     * schedule of the day.
+     */
+    private List<ActivityWithTime> findBestSchedule() {
+        int size = activities.size();
+        for (int i = size - 1; i >= 0; i--) {
+            ActivityWithTime activity = activities.get(i);
+            // Activities that start at the same time always overlap, even if one of them has ended.
+            int next = lowerBound(Math.max(activity.getEndMinute(), activity.getStartMinute() + 1));
+            int successor = next < size ? findBest(next, lowerBound(activities.get(next).getEndMinute())) : NONE;
+
+            successors[i] = successor;
+            costs[i] = getCost(activity);
+            counts[i] = 1;
+            if (successor != NONE) {
+                costs[i] = costs[i].add(costs[successor]);
+                counts[i] += counts[successor];
+            }
+            update(i);
+        }
+
+        List<ActivityWithTime> schedule = new ArrayList<>();
+        int first = findBest(0, Math.max(1, lowerBound(activities.get(0).getEndMinute())));
+        for (int i = first; i != NONE; i = successors[i]) {
+            schedule.add(activities.get(i));
+        }
+        return schedule;
+    }
+
+    /**
+     * Returns the activities that do not overlap, cost no more than {@code budget} in total, and have the highest
+     * total value, choosing the cheapest such activities. Every activity must have a positive value.
+     */
+    private static List<ActivityWithTime> maximiseValue(List<ActivityWithTime> activities, Optional<Cost> budget,
+                                                        ToIntFunction<ActivityWithTime> valueOf) {
+        ValueTable table = new ValueTable(activities, valueOf);
+        List<Integer> values = table.getUsefulValues(budget);
+        return table.getSchedule(values.get(values.size() - 1));
+    }
+
+    /**
+     * Returns the schedule of each of {@code days} that together have the highest total value for {@code objective}
+     * and cost no more than {@code budget}, choosing the cheapest such schedules. The activities of each day must be
+     * sorted by start time. If nothing fits within the budget, every schedule is empty.
+     * <p>
+     * The cheapest schedule for each value of each day is found in parallel on the common {@code ForkJoinPool}. The
+     * values to give the days are then chosen by a knapsack over the total value of the days so far, where each day
+     * takes exactly one of its values.
+     */
+    public static List<List<ActivityWithTime>> optimiseAll(List<List<ActivityWithTime>> days, Objective objective,
+                                                           Optional<Cost> budget) {
+        requireAllNonNull(days, objective, budget);
+        if (objective == Objective.COST) {
+            List<List<ActivityWithTime>> schedules = days.stream()
+                    .map(ScheduleOptimiser::optimise)
+                    .collect(Collectors.toList());
+            BigDecimal totalCost = schedules.stream()
+                    .map(ScheduleOptimiser::getTotalCost)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            if (isWithinBudget(totalCost, budget)) {
+                return schedules;
+            }
+            return days.stream().map(day -> new ArrayList<ActivityWithTime>()).collect(Collectors.toList());
+        }
+
+        ToIntFunction<ActivityWithTime> valueOf = getValueFunction(objective);
+        List<ValueTable> tables = days.parallelStream()
+                .map(day -> new ValueTable(day, valueOf))
+                .collect(Collectors.toList());
+
+        /* minCosts[v] is the least cost of the days so far with total value v, if they can have it within budget. */
+        BigDecimal[] minCosts = {BigDecimal.ZERO};
+        /* chosenValues[d][v] is the value of the d-th day when the days up to it have total value v. */
+        int[][] chosenValues = new int[tables.size()][];
+        for (int d = 0; d < tables.size(); d++) {
+            ValueTable table = tables.get(d);
+            List<Integer> values = table.getUsefulValues(budget);
+            BigDecimal[] nextMinCosts = new BigDecimal[minCosts.length + values.get(values.size() - 1)];
+            chosenValues[d] = new int[nextMinCosts.length];
+            for (int previousValue = 0; previousValue < minCosts.length; previousValue++) {
+                if (minCosts[previousValue] == null) {
+                    continue;
+                }
+                for (int value : values) {
+                    BigDecimal cost = minCosts[previousValue].add(table.getMinCost(value));
+                    int totalValue = previousValue + value;
+                    if (isWithinBudget(cost, budget) && isCheaper(cost, nextMinCosts[totalValue])) {
+                        nextMinCosts[totalValue] = cost;
+                        chosenValues[d][totalValue] = value;
+                    }
+                }
+            }
+            minCosts = nextMinCosts;
+            removeDominatedCosts(minCosts);
+        }
+
+        int totalValue = minCosts.length - 1;
+        while (minCosts[totalValue] == null) {
+            totalValue--;
+        }
+        List<List<ActivityWithTime>> schedules = new ArrayList<>(Collections.nCopies(tables.size(), null));
+        for (int d = tables.size() - 1; d >= 0; d--) {
+            int value = chosenValues[d][totalValue];
+            schedules.set(d, tables.get(d).getSchedule(value));
+            totalValue -= value;
+        }
+        return schedules;
+    }
+
+    /**
+     * Removes every cost that is no cheaper than the cost of a higher value, as it can never be part of the best
+     * choice. This keeps the number of totals considered for the next day small.
+     */
+    private static void removeDominatedCosts(BigDecimal[] minCosts) {
+        BigDecimal cheapestHigherCost = null;
+        for (int value = minCosts.length - 1; value >= 0; value--) {
+            if (minCosts[value] != null && isCheaper(minCosts[value], cheapestHigherCost)) {
+                cheapestHigherCost = minCosts[value];
+            } else {
+                minCosts[value] = null;
+            }
+        }
+    }
+
+    private static ToIntFunction<ActivityWithTime> getValueFunction(Objective objective) {
+        if (objective == Objective.PRIORITY) {
+            return activity -> {
+                int priority = activity.getActivity().getPriority().priorityValue;
+                return priority == UNPRIORITISED ? UNPRIORITISED_WEIGHT : 2 * (PRIORITY_WEIGHT_BASE - priority);
+            };
+        }
+        return activity -> activity.getActivity().getDuration().value;
+    }
+
+    private static boolean isWithinBudget(BigDecimal cost, Optional<Cost> budget) {
+        return budget.isEmpty() || cost.compareTo(toBigDecimal(budget)) <= 0;
+    }
+
+    private static boolean isCheaper(BigDecimal cost, BigDecimal currentCost) {
+        return currentCost == null || cost.compareTo(currentCost) < 0;
+    }
+
+    private static BigDecimal getCost(ActivityWithTime activity) {
+        return toBigDecimal(activity.getActivity().getCost());
+    }
+
+    private static BigDecimal getTotalCost(List<ActivityWithTime> activities) {
+        return activities.stream().map(ScheduleOptimiser::getCost).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * Returns the amount of {@code cost}, or zero if there is no cost.
+     */
+    private static BigDecimal toBigDecimal(Optional<Cost> cost) {
+        return cost.map(Cost::toString)
+                .filter(value -> !value.isEmpty())
+                .map(BigDecimal::new)
+                .orElse(BigDecimal.ZERO);
+    }
+
+    /**
+     * Returns true if the schedule starting with activity {@code i} is better than the one starting with {@code j}.
+     */
+    private boolean isBetter(int i, int j) {
+        int costComparison = costs[i].compareTo(costs[j]);
+        if (costComparison != 0) {
+            return costComparison < 0;
+        }
+        if (counts[i] != counts[j]) {
+            return counts[i] > counts[j];
+        }
+        return i < j;
+    }
+
+    /**
+     * Returns whichever of activities {@code i} and {@code j} has the better schedule, ignoring {@code NONE}.
+     */
+    private int better(int i, int j) {
+        if (i == NONE) {
+            return j;
+        }
+        if (j == NONE) {
+            return i;
+        }
+        return isBetter(i, j) ? i : j;
+    }
+
+    /**
+     * Records the best schedule starting with activity {@code i}, which must have been found.
+     */
+    private void update(int i) {
+        int node = leafOffset + i;
+        tree[node] = i;
+        for (node /= 2; node > 0; node /= 2) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Returns the activity from {@code from} inclusive to {@code to} exclusive with the best schedule, or
+     * {@code NONE} if the range is empty.
+     */
+    private int findBest(int from, int to) {
+        int best = NONE;
+        int low = from + leafOffset;
+        int high = to + leafOffset;
+        while (low < high) {
+            if ((low & 1) == 1) {
+                best = better(best, tree[low++]);
+            }
+            if ((high & 1) == 1) {
+                best = better(best, tree[--high]);
+            }
+            low /= 2;
+            high /= 2;
+        }
+        return best;
+    }
+
+    /**
+     * Returns the index of the first activity that starts at or after {@code minute}.
+     */
+    private int lowerBound(long minute) {
+        return lowerBound(startMinutes, minute);
+    }
+
+    /**
+     * Returns the index of the first of the ascending {@code startMinutes} that is at least {@code minute}.
+     */
+    private static int lowerBound(long[] startMinutes, long minute) {
+        int low = 0;
+        int high = startMinutes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startMinutes[mid] < minute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The least cost of the activities of a day that do not overlap, for each total value they can have.
+     * Taking an activity skips to the first activity that starts after it ends, so the table is filled from the last
+     * activity to the first. Only the rows that are still to be skipped to are kept, and whether each activity was
+     * taken is recorded in a bitmap instead, from which the cheapest activities are found again.
+     */
+    private static class ValueTable {
+        private final List<ActivityWithTime> activities;
+        private final int[] values;
+        /** The first activity that starts after each activity ends. */
+        private final int[] nextFree;
+        /** isTaken[i] has the values v for which the cheapest activities from the i-th onwards take the i-th. */
+        private final BitSet[] isTaken;
+        /** minCosts[v] is the least cost of activities with total value v, if any. */
+        private final BigDecimal[] minCosts;
+
+        ValueTable(List<ActivityWithTime> activities, ToIntFunction<ActivityWithTime> valueOf) {
+            this.activities = activities;
+            int size = activities.size();
+            long[] startMinutes = activities.stream().mapToLong(ActivityWithTime::getStartMinute).toArray();
+            values = activities.stream().mapToInt(valueOf).toArray();
+            nextFree = new int[size];
+            isTaken = new BitSet[size];
+            /* maxValues[i] is the highest total value of activities from the i-th onwards that do not overlap. */
+            int[] maxValues = new int[size + 1];
+            /* lastUses[j] is the last activity filled that needs the row of activities from the j-th onwards. */
+            int[] lastUses = new int[size + 1];
+            for (int i = size - 1; i >= 0; i--) {
+                nextFree[i] = lowerBound(startMinutes, activities.get(i).getEndMinute());
+                maxValues[i] = Math.max(maxValues[i + 1], values[i] + maxValues[nextFree[i]]);
+                lastUses[i + 1] = i;
+            }
+            for (int i = 0; i < size; i++) {
+                lastUses[nextFree[i]] = Math.min(lastUses[nextFree[i]], i);
+            }
+
+            int rowLength = maxValues[0] + 1;
+            BigDecimal[][] rows = new BigDecimal[size + 1][];
+            Deque<BigDecimal[]> freeRows = new ArrayDeque<>();
+            rows[size] = new BigDecimal[rowLength];
+            rows[size][0] = BigDecimal.ZERO;
+            for (int i = size - 1; i >= 0; i--) {
+                BigDecimal cost = getCost(activities.get(i));
+                BigDecimal[] taken = rows[nextFree[i]];
+                BigDecimal[] row = freeRows.isEmpty() ? new BigDecimal[rowLength] : freeRows.pop();
+                System.arraycopy(rows[i + 1], 0, row, 0, rowLength);
+                isTaken[i] = new BitSet(rowLength);
+                int highestValue = values[i] + maxValues[nextFree[i]];
+                for (int value = values[i]; value <= highestValue; value++) {
+                    BigDecimal previous = taken[value - values[i]];
+                    // On a tie the activity is taken, so that the earlier activities are kept.
+                    if (previous != null && (row[value] == null || previous.add(cost).compareTo(row[value]) <= 0)) {
+                        row[value] = previous.add(cost);
+                        isTaken[i].set(value);
+                    }
+                }
+                rows[i] = row;
+                releaseRow(rows, freeRows, lastUses, i + 1, i);
+                releaseRow(rows, freeRows, lastUses, nextFree[i], i);
+            }
+            minCosts = rows[0];
+        }
+
+        /**
+         * Frees the row of activities from the {@code j}-th onwards for reuse if the {@code i}-th activity, which
+         * was just filled, is the last to need it.
+         */
+        private static void releaseRow(BigDecimal[][] rows, Deque<BigDecimal[]> freeRows, int[] lastUses, int j,
+                                       int i) {
+            if (rows[j] != null && lastUses[j] == i) {
+                freeRows.push(rows[j]);
+                rows[j] = null;
+            }
+        }
+
+        /**
+         * Returns the least cost of activities with total value {@code value}, which must be one of the useful values.
+         */
+        BigDecimal getMinCost(int value) {
+            return minCosts[value];
+        }
+
+        /**
+         * Returns, in ascending order, the total values that are within {@code budget} and cheaper than every higher
+         * value. Any other value is never worth choosing. The values always include at least zero.
+         */
+        List<Integer> getUsefulValues(Optional<Cost> budget) {
+            List<Integer> usefulValues = new ArrayList<>();
+            BigDecimal cheapestHigherCost = null;
+            for (int value = minCosts.length - 1; value >= 0; value--) {
+                BigDecimal cost = minCosts[value];
+                if (cost != null && isWithinBudget(cost, budget) && isCheaper(cost, cheapestHigherCost)) {
+                    usefulValues.add(value);
+                    cheapestHigherCost = cost;
+                }
+            }
+            Collections.reverse(usefulValues);
+            return usefulValues;
+        }
+
+        /**
+         * Returns the cheapest activities with total value {@code value}, which must be one of the useful values.
+         */
+        List<ActivityWithTime> getSchedule(int value) {
+            List<ActivityWithTime> schedule = new ArrayList<>();
+            int i = 0;
+            int remainingValue = value;
+            while (remainingValue > 0) {
+                if (isTaken[i].get(remainingValue)) {
+                    schedule.add(activities.get(i));
+                    remainingValue -= values[i];
+                    i = nextFree[i];
+                } else {
+                    i++;
+                }
+            }
+            return schedule;
+        }
+    }
+}
@@ -83,6 +83,6 @@ public class EventFactory {
     }
 
     private static Event generateOptimizeBudgetEvent(OptimiseCommand command, Model model) {
-        return new OptimiseBudgetEvent(command.getDayIndex(), model);
+        return new OptimiseBudgetEvent(command.getDayIndex(), command.getObjective(), command.getBudget(), model);
     }
 }
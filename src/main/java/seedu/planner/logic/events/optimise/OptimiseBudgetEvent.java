@@ -1,5 +1,6 @@
 package seedu.planner.logic.events.optimise;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.planner.commons.core.LogsCenter;
@@ -8,21 +9,27 @@ import seedu.planner.commons.core.index.Index;
 import seedu.planner.logic.commands.OptimiseCommand;
 import seedu.planner.logic.commands.UndoableCommand;
 import seedu.planner.logic.commands.system.SetItineraryCommand;
+import seedu.planner.logic.commands.util.ScheduleOptimiser.Objective;
 import seedu.planner.logic.events.Event;
 import seedu.planner.model.Itinerary;
 import seedu.planner.model.Model;
 import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.model.field.Cost;
 //@@author OneArmyj
 /**
  * An event representing an 'optimise' command.
  */
 public class OptimiseBudgetEvent implements Event {
     private final ReadOnlyItinerary previousItinerary;
-    private final Index dayIndex;
+    private final Optional<Index> dayIndex;
+    private final Objective objective;
+    private final Optional<Cost> budget;
     private final Logger logger = LogsCenter.getLogger(OptimiseBudgetEvent.class);
 
-    public OptimiseBudgetEvent(Index index, Model model) {
+    public OptimiseBudgetEvent(Optional<Index> index, Objective objective, Optional<Cost> budget, Model model) {
         this.dayIndex = index;
+        this.objective = objective;
+        this.budget = budget;
         this.previousItinerary = new Itinerary(model.getItinerary());
     }
 
@@ -41,7 +48,7 @@ public class OptimiseBudgetEvent implements Event {
      */
     public UndoableCommand redo() {
         logger.info(String.format("----------------[REDOING][%s]", this));
-        return new OptimiseCommand(dayIndex, true);
+        return new OptimiseCommand(dayIndex, objective, budget, true);
     }
 
     @Override
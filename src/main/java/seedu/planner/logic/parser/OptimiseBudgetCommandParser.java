@@ -1,10 +1,15 @@
 package seedu.planner.logic.parser;
 
 import static seedu.planner.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.planner.logic.parser.CliSyntax.PREFIX_COST;
+
+import java.util.Optional;
 
 import seedu.planner.commons.core.index.Index;
 import seedu.planner.logic.commands.OptimiseCommand;
+import seedu.planner.logic.commands.util.ScheduleOptimiser.Objective;
 import seedu.planner.logic.parser.exceptions.ParseException;
+import seedu.planner.model.field.Cost;
 
 //@@author KxxMxxx
 /**
@@ -14,15 +19,30 @@ public class OptimiseBudgetCommandParser implements Parser<OptimiseCommand> {
 
     /**
      * Parses arguments for an OptimiseCommand and returns an OptimiseCommand.
-     * If there are no arguments, a ParseException is thrown.
+     * If there is neither a day index nor "all", or the objective is not known, a ParseException is thrown.
      */
     public OptimiseCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_COST);
+        String[] preamble = argMultimap.getPreamble().trim().split("\\s+");
+        if (preamble[0].isEmpty() || preamble.length > 2) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, OptimiseCommand.MESSAGE_USAGE));
         }
-        Index dayIndex = ParserUtil.parseIndex(trimmedArgs);
-        return new OptimiseCommand(dayIndex, false);
+        Optional<Index> dayIndex = Optional.empty();
+        if (!preamble[0].equalsIgnoreCase(OptimiseCommand.ALL_DAYS)) {
+            dayIndex = Optional.of(ParserUtil.parseIndex(preamble[0]));
+        }
+
+        Objective objective = Objective.COST;
+        if (preamble.length == 2) {
+            objective = Objective.fromKeyword(preamble[1].toLowerCase()).orElseThrow(() -> new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, OptimiseCommand.MESSAGE_USAGE)));
+        }
+
+        Optional<Cost> budget = Optional.empty();
+        if (argMultimap.getValue(PREFIX_COST).isPresent()) {
+            budget = Optional.of(ParserUtil.parseCost(argMultimap.getValue(PREFIX_COST).get()));
+        }
+        return new OptimiseCommand(dayIndex, objective, budget, false);
     }
 }
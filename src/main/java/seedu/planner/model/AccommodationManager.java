@@ -12,6 +12,7 @@ import seedu.planner.model.accommodation.Accommodation;
 import seedu.planner.model.accommodation.UniqueAccommodationList;
 import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Name;
+import seedu.planner.model.util.BatchableObservableList;
 //@@author OneArmyj
 /**
  * Wraps all data at the address-book level
@@ -113,6 +114,13 @@ public class AccommodationManager implements ReadOnlyAccommodation {
         return accommodations.getAccommodation(name, address);
     }
 
+    /**
+     * Returns the accommodations located at {@code address}.
+     */
+    public List<Accommodation> getAccommodationsAt(Address address) {
+        return accommodations.getAccommodationsAt(address);
+    }
+
     /**
      * Removes {@code key} from this {@code AccommodationManager}.
      * {@code key} must exist in the address book.
@@ -121,6 +129,21 @@ public class AccommodationManager implements ReadOnlyAccommodation {
         accommodations.remove(key);
     }
 
+    /**
+     * Starts a batch of changes to the accommodation list,
+     * as described in {@link BatchableObservableList#beginBatch()}.
+     */
+    public void beginBatch() {
+        accommodations.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        accommodations.endBatch();
+    }
+
     //// util methods
 
     @Override
@@ -2,8 +2,14 @@ package seedu.planner.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import javafx.collections.ObservableList;
 
@@ -12,6 +18,8 @@ import seedu.planner.model.activity.Activity;
 import seedu.planner.model.activity.UniqueActivityList;
 import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Name;
+import seedu.planner.model.tag.Tag;
+import seedu.planner.model.util.BatchableObservableList;
 //@@author OneArmyj
 /**
  * Wraps all data at the address-book level
@@ -19,6 +27,14 @@ import seedu.planner.model.field.Name;
  */
 public class ActivityManager implements ReadOnlyActivity {
     private final UniqueActivityList activities;
+    /**
+     * The activities with each tag, name and address, in list order. They are updated along with the list, so that
+     * queries, such as those of an autoschedule, do not scan it.
+     */
+    private final QueryIndex<Tag> activitiesByTag = new QueryIndex<>(Activity::getTags);
+    private final QueryIndex<Name> activitiesByName = new QueryIndex<>(activity -> List.of(activity.getName()));
+    private final QueryIndex<Address> activitiesByAddress =
+            new QueryIndex<>(activity -> List.of(activity.getAddress()));
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -58,6 +74,9 @@ public class ActivityManager implements ReadOnlyActivity {
      */
     public void setActivities(List<Activity> activities) {
         this.activities.setActivities(activities);
+        activitiesByTag.rebuild(this.activities);
+        activitiesByName.rebuild(this.activities);
+        activitiesByAddress.rebuild(this.activities);
     }
 
     //// activity-level operations
@@ -91,6 +110,7 @@ public class ActivityManager implements ReadOnlyActivity {
      */
     public void addActivity(Activity a) {
         activities.add(a);
+        addToQueryIndex(a);
     }
 
     /**
@@ -99,6 +119,7 @@ public class ActivityManager implements ReadOnlyActivity {
      */
     public void addActivityAtIndex(Index index, Activity a) {
         activities.addAtIndex(index, a);
+        addToQueryIndex(a);
     }
 
     /**
@@ -111,6 +132,10 @@ public class ActivityManager implements ReadOnlyActivity {
         requireNonNull(editedActivity);
 
         activities.setActivity(target, editedActivity);
+        List<Activity> activityList = activities.asUnmodifiableObservableList();
+        activitiesByTag.replace(target, editedActivity, activityList);
+        activitiesByName.replace(target, editedActivity, activityList);
+        activitiesByAddress.replace(target, editedActivity, activityList);
     }
 
     /**
@@ -119,6 +144,59 @@ public class ActivityManager implements ReadOnlyActivity {
      */
     public void removeActivity(Activity key) {
         activities.remove(key);
+        activitiesByTag.remove(key);
+        activitiesByName.remove(key);
+        activitiesByAddress.remove(key);
+    }
+
+    //// query operations
+
+    /**
+     * Returns the activities with {@code tag}, in list order.
+     */
+    public List<Activity> getActivitiesWithTag(Tag tag) {
+        requireNonNull(tag);
+        return activitiesByTag.get(tag);
+    }
+
+    /**
+     * Returns the activities named {@code name}, in list order.
+     */
+    public List<Activity> getActivitiesWithName(Name name) {
+        requireNonNull(name);
+        return activitiesByName.get(name);
+    }
+
+    /**
+     * Returns the activities at {@code address}, in list order.
+     */
+    public List<Activity> getActivitiesAtAddress(Address address) {
+        requireNonNull(address);
+        return activitiesByAddress.get(address);
+    }
+
+    /**
+     * Indexes {@code activity}, which has just been added to the list, by its tags, name and address.
+     */
+    private void addToQueryIndex(Activity activity) {
+        List<Activity> activityList = activities.asUnmodifiableObservableList();
+        activitiesByTag.add(activity, activityList);
+        activitiesByName.add(activity, activityList);
+        activitiesByAddress.add(activity, activityList);
+    }
+
+    /**
+     * Starts a batch of changes to the activity list, as described in {@link BatchableObservableList#beginBatch()}.
+     */
+    public void beginBatch() {
+        activities.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        activities.endBatch();
     }
 
     //// util methods
@@ -144,4 +222,99 @@ public class ActivityManager implements ReadOnlyActivity {
     public int hashCode() {
         return activities.hashCode();
     }
+
+    /**
+     * The activities with each key, such as a tag, kept in the order of the activity list.
+     */
+    private static class QueryIndex<K> {
+        private final Map<K, List<Activity>> activitiesByKey = new HashMap<>();
+        private final Function<Activity, Collection<K>> keysOf;
+
+        QueryIndex(Function<Activity, Collection<K>> keysOf) {
+            this.keysOf = keysOf;
+        }
+
+        List<Activity> get(K key) {
+            return Collections.unmodifiableList(activitiesByKey.getOrDefault(key, Collections.emptyList()));
+        }
+
+        /**
+         * Indexes every activity in {@code activities}, replacing the existing index.
+         */
+        void rebuild(Iterable<Activity> activities) {
+            activitiesByKey.clear();
+            for (Activity activity : activities) {
+                for (K key : keysOf.apply(activity)) {
+                    activitiesByKey.computeIfAbsent(key, unused -> new ArrayList<>()).add(activity);
+                }
+            }
+        }
+
+        /**
+         * Indexes {@code activity}, which has just been put in {@code activities}.
+         */
+        void add(Activity activity, List<Activity> activities) {
+            for (K key : keysOf.apply(activity)) {
+                insert(key, activity, activities);
+            }
+        }
+
+        void remove(Activity activity) {
+            for (K key : keysOf.apply(activity)) {
+                removeIndexed(key, activity);
+            }
+        }
+
+        /**
+         * Replaces {@code target} with {@code editedActivity}, which has just taken its place in {@code activities}.
+         */
+        void replace(Activity target, Activity editedActivity, List<Activity> activities) {
+            Collection<K> oldKeys = keysOf.apply(target);
+            Collection<K> newKeys = keysOf.apply(editedActivity);
+            for (K key : oldKeys) {
+                if (newKeys.contains(key)) {
+                    List<Activity> indexed = activitiesByKey.get(key);
+                    indexed.set(indexed.indexOf(target), editedActivity);
+                } else {
+                    removeIndexed(key, target);
+                }
+            }
+            for (K key : newKeys) {
+                if (!oldKeys.contains(key)) {
+                    insert(key, editedActivity, activities);
+                }
+            }
+        }
+
+        /**
+         * Inserts {@code activity} under {@code key}, after the activities with {@code key} that come before it in
+         * {@code activities}.
+         */
+        private void insert(K key, Activity activity, List<Activity> activities) {
+            List<Activity> indexed = activitiesByKey.computeIfAbsent(key, unused -> new ArrayList<>());
+            if (activities.get(activities.size() - 1) == activity) {
+                indexed.add(activity);
+                return;
+            }
+
+            int position = 0;
+            for (Activity other : activities) {
+                if (other == activity || position == indexed.size()) {
+                    break;
+                }
+                if (keysOf.apply(other).contains(key)) {
+                    position++;
+                }
+            }
+            indexed.add(position, activity);
+        }
+
+        private void removeIndexed(K key, Activity activity) {
+            List<Activity> indexed = activitiesByKey.get(key);
+            indexed.remove(activity);
+            if (indexed.isEmpty()) {
+                activitiesByKey.remove(key);
+            }
+        }
+    }
 }
@@ -11,6 +11,7 @@ import seedu.planner.commons.core.index.Index;
 import seedu.planner.model.contact.Contact;
 import seedu.planner.model.contact.Phone;
 import seedu.planner.model.contact.UniqueContactList;
+import seedu.planner.model.util.BatchableObservableList;
 //@@author OneArmyj
 /**
  * Wraps all data at the address-book level
@@ -125,6 +126,20 @@ public class ContactManager implements ReadOnlyContact {
         contacts.remove(key);
     }
 
+    /**
+     * Starts a batch of changes to the contact list, as described in {@link BatchableObservableList#beginBatch()}.
+     */
+    public void beginBatch() {
+        contacts.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        contacts.endBatch();
+    }
+
     //// util methods
 
     @Override
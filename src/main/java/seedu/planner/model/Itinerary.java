@@ -18,6 +18,7 @@ import seedu.planner.model.day.Day;
 import seedu.planner.model.day.DayList;
 import seedu.planner.model.day.exceptions.EndOfTimeException;
 import seedu.planner.model.field.Name;
+import seedu.planner.model.util.BatchableObservableList;
 
 /**
  * Wraps all data at the address-book level
@@ -147,6 +148,35 @@ public class Itinerary implements ReadOnlyItinerary {
         return days.getDays(activity);
     }
 
+    /**
+     * Returns true if {@code activity} is scheduled on any day of the itinerary.
+     */
+    public boolean isScheduled(Activity activity) {
+        return days.isScheduled(activity);
+    }
+
+    /**
+     * Schedules {@code toAdd} on {@code day} of the itinerary.
+     */
+    public void scheduleActivity(Day day, ActivityWithTime toAdd) {
+        days.scheduleActivity(day, toAdd);
+    }
+
+    /**
+     * Removes the activity at {@code toRemove} from the schedule of {@code day} of the itinerary.
+     */
+    public void unscheduleActivity(Day day, Index toRemove) {
+        days.unscheduleActivity(day, toRemove);
+    }
+
+    /**
+     * Removes {@code activity} from the schedule of every day of the itinerary.
+     * Returns true if the activity was scheduled on any day.
+     */
+    public boolean unscheduleActivity(Activity activity) {
+        return days.unscheduleActivity(activity);
+    }
+
     public int getNumberOfDays() {
         return days.getNumberOfDays();
     }
@@ -203,6 +233,20 @@ public class Itinerary implements ReadOnlyItinerary {
         return this.startDateProperty;
     }
 
+    /**
+     * Starts a batch of changes to the list of days, as described in {@link BatchableObservableList#beginBatch()}.
+     */
+    public void beginBatch() {
+        days.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        days.endBatch();
+    }
+
     //// util methods
 
     @Override
@@ -16,7 +16,10 @@ import seedu.planner.model.contact.Contact;
 import seedu.planner.model.contact.Phone;
 import seedu.planner.model.day.ActivityWithTime;
 import seedu.planner.model.day.Day;
+import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Name;
+import seedu.planner.model.planner.PlannerCatalog;
+import seedu.planner.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -102,6 +105,23 @@ public interface Model {
      */
     void setItineraryFilePath(Path itineraryFilePath);
 
+    //=========== PlannerCatalog =============================================================================
+
+    /**
+     * Replaces the planner catalog with {@code plannerCatalog}.
+     */
+    void setPlannerCatalog(PlannerCatalog plannerCatalog);
+
+    /**
+     * Returns the catalog of saved planners.
+     */
+    PlannerCatalog getPlannerCatalog();
+
+    /**
+     * Returns true if a planner with the same name as {@code name} has been saved.
+     */
+    boolean hasPlanner(Name name);
+
     //=========== AccommodationManager =========================================================================
 
     /**
@@ -223,6 +243,21 @@ public interface Model {
      */
     void updateFilteredActivityList(Predicate<Activity> predicate);
 
+    /**
+     * Returns the activities in the filtered activity list with {@code tag}, in list order.
+     */
+    List<Activity> getFilteredActivitiesWithTag(Tag tag);
+
+    /**
+     * Returns the activities in the filtered activity list named {@code name}, in list order.
+     */
+    List<Activity> getFilteredActivitiesWithName(Name name);
+
+    /**
+     * Returns the activities in the filtered activity list at {@code address}, in list order.
+     */
+    List<Activity> getFilteredActivitiesAtAddress(Address address);
+
     //=========== ContactManager =============================================================================
 
     /**
@@ -386,4 +421,34 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredItinerary(Predicate<Day> predicate);
+
+    //=========== Change tracking ============================================================================
+
+    /**
+     * Returns the version of the AccommodationManager, which is incremented on every change to it.
+     */
+    long getAccommodationVersion();
+
+    /**
+     * Returns the version of the ActivityManager, which is incremented on every change to it.
+     */
+    long getActivityVersion();
+
+    /**
+     * Returns the version of the ContactManager, which is incremented on every change to it.
+     */
+    long getContactVersion();
+
+    /**
+     * Returns the version of the Itinerary, which is incremented on every change to it.
+     */
+    long getItineraryVersion();
+
+    /**
+     * Runs {@code changes} as one batch. Listeners of the accommodation, activity, contact and day lists are
+     * notified once of all the changes it makes, after it completes.
+     * <br> The lists returned by the {@code getFiltered...List()} methods are only updated when the batch
+     * completes, so {@code changes} must not read them to find the items it has just changed.
+     */
+    void batch(Runnable changes);
 }
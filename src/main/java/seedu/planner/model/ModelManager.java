@@ -6,14 +6,16 @@ import static seedu.planner.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.planner.commons.core.GuiSettings;
@@ -28,6 +30,8 @@ import seedu.planner.model.day.Day;
 import seedu.planner.model.day.exceptions.EndOfTimeException;
 import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Name;
+import seedu.planner.model.planner.PlannerCatalog;
+import seedu.planner.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -44,9 +48,17 @@ public class ModelManager implements Model {
     private final FilteredList<Activity> filteredActivities;
     private final FilteredList<Contact> filteredContacts;
     private final FilteredList<Day> filteredItinerary;
-    private final HashMap<Contact, Activity> contactActivityMap;
-    private final HashMap<Contact, Accommodation> contactAccommodationMap;
-    private final HashMap<Activity, List<Day>> activityDayMap;
+    /**
+     * The activities and accommodations linked to each {@code Contact}, keyed by the id of the stored contact and
+     * then by their own id.
+     */
+    private final Map<Long, Map<Long, Activity>> contactActivityMap;
+    private final Map<Long, Map<Long, Accommodation>> contactAccommodationMap;
+    private PlannerCatalog plannerCatalog = new PlannerCatalog();
+    private long accommodationVersion;
+    private long activityVersion;
+    private long contactVersion;
+    private long itineraryVersion;
 
     /**
      * Initializes a ModelManager with the given address and userPrefs.
@@ -70,24 +82,77 @@ public class ModelManager implements Model {
         filteredItinerary = new FilteredList<>(this.itinerary.getItinerary());
         contactActivityMap = new HashMap<>();
         contactAccommodationMap = new HashMap<>();
-        activityDayMap = new HashMap<>();
         initMap();
+        initChangeTracking();
     }
 
     public ModelManager() {
         this(new AccommodationManager(), new ActivityManager(), new ContactManager(), new Itinerary(), new UserPrefs());
     }
 
+    //=========== Change tracking ============================================================================
+
+    /**
+     * Registers listeners that increment the version of a store whenever its underlying list or properties change.
+     * Changes made to a {@code Day} in place are not observable and are tracked by the methods making them.
+     */
+    private void initChangeTracking() {
+        accommodations.getAccommodationList().addListener((ListChangeListener<Accommodation>) change ->
+                accommodationVersion++);
+        activities.getActivityList().addListener((ListChangeListener<Activity>) change -> activityVersion++);
+        contacts.getContactList().addListener((ListChangeListener<Contact>) change -> contactVersion++);
+        itinerary.getItinerary().addListener((ListChangeListener<Day>) change -> itineraryVersion++);
+        itinerary.getNameProperty().addListener((observable, oldName, newName) -> itineraryVersion++);
+        itinerary.getStartDateProperty().addListener((observable, oldDate, newDate) -> itineraryVersion++);
+    }
+
+    @Override
+    public long getAccommodationVersion() {
+        return accommodationVersion;
+    }
+
+    @Override
+    public long getActivityVersion() {
+        return activityVersion;
+    }
+
+    @Override
+    public long getContactVersion() {
+        return contactVersion;
+    }
+
+    @Override
+    public long getItineraryVersion() {
+        return itineraryVersion;
+    }
+
+    @Override
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        accommodations.beginBatch();
+        activities.beginBatch();
+        contacts.beginBatch();
+        itinerary.beginBatch();
+        try {
+            changes.run();
+        } finally {
+            itinerary.endBatch();
+            contacts.endBatch();
+            activities.endBatch();
+            accommodations.endBatch();
+        }
+    }
+
     //=========== Mapping ====================================================================================
 
     //@@author KxxMxxx
     /**
      * Initiates mapping of {@code Activity} and {@code Accommodation} to {@code Contact}, vice versa.
+     * The days on which each {@code Activity} is scheduled are tracked by the {@code Itinerary}.
      */
     private void initMap() {
         populateActivityMap(this.activities.getActivityList());
         populateAccommodationMap(this.accommodations.getAccommodationList());
-        populateDayMap(this.itinerary.getItinerary());
     }
 
     //@@author KxxMxxx
@@ -97,14 +162,7 @@ public class ModelManager implements Model {
      */
     private void populateActivityMap(List<Activity> list) {
         for (Activity act : list) {
-            if (act.getContact().isPresent() && hasContact(act.getContact().get())) {
-                Contact contact = getContact(act.getContact().get()).get();
-                contactActivityMap.put(contact, act);
-            } else if (act.getContact().isPresent() && !hasContact(act.getContact().get())) {
-                Contact contact = act.getContact().get();
-                addContact(contact);
-                contactActivityMap.put(contact, act);
-            }
+            addActivityMapping(act);
         }
     }
 
@@ -115,32 +173,7 @@ public class ModelManager implements Model {
      */
     private void populateAccommodationMap(List<Accommodation> list) {
         for (Accommodation acc : list) {
-            if (acc.getContact().isPresent() && hasContact(acc.getContact().get())) {
-                Contact contact = getContact(acc.getContact().get()).get();
-                contactAccommodationMap.put(contact, acc);
-            } else if (acc.getContact().isPresent() && !hasContact(acc.getContact().get())) {
-                Contact contact = acc.getContact().get();
-                addContact(contact);
-                contactAccommodationMap.put(contact, acc);
-            }
-        }
-    }
-
-    //@@author KxxMxxx
-    /**
-     * Iterates through the {@code Itinerary} and creates a mapping between an {@code Activity} and the {@code Day}
-     * containing it.
-     */
-    private void populateDayMap(List<Day> days) {
-        for (Day day : days) {
-            List<ActivityWithTime> activities = day.getListOfActivityWithTime();
-            for (ActivityWithTime act : activities) {
-                if (activityDayMap.containsKey(act.getActivity())) {
-                    activityDayMap.get(act.getActivity()).add(day);
-                } else {
-                    activityDayMap.put(act.getActivity(), new ArrayList<>(Arrays.asList(day)));
-                }
-            }
+            addAccommodationMapping(acc);
         }
     }
 
@@ -154,123 +187,85 @@ public class ModelManager implements Model {
             if (!hasContact(contact)) {
                 addContact(contact);
             }
-            contactActivityMap.put(contact, act);
-        }
-    }
-
-    //@@author KxxMxxx
-    /**
-     * Creates a mapping between an {@code Activity} and the {@code Day} containing it.
-     */
-    private void addDayMapping(Activity act, Day day) {
-        if (activityDayMap.containsKey(act)) {
-            activityDayMap.get(act).add(day);
-        } else {
-            activityDayMap.put(act, new ArrayList<>(Arrays.asList(day)));
+            link(contactActivityMap, getContactId(contact), act.getId(), act);
         }
     }
 
     //@@author KxxMxxx
     /**
-     * Creates a mapping between an {@code Activity} and the {@code Day} containing it.
+     * Creates a mapping between an {@code Accommodation} and it's {@code Contact}, if it possesses one.
      */
-    private void addDayMapping(Day day) {
-        for (ActivityWithTime act : day.getListOfActivityWithTime()) {
-            addDayMapping(act.getActivity(), day);
+    private void addAccommodationMapping(Accommodation acc) {
+        if (acc.getContact().isPresent()) {
+            Contact contact = acc.getContact().get();
+            if (!hasContact(contact)) {
+                addContact(contact);
+            }
+            link(contactAccommodationMap, getContactId(contact), acc.getId(), acc);
         }
     }
 
     //@@author KxxMxxx
     /**
-     * Removes the mapping of an {@code Activity} in all the relevant {@code Contact} related {@code HashMap}.
+     * Removes the mapping of an {@code Activity} to its {@code Contact}. The {@code Contact} is removed as well
+     * if no other {@code Activity} or {@code Accommodation} is linked to it.
      */
     private void removeActivityMapping(Activity act) {
         if (act.getContact().isPresent()) {
-            Contact contact = getContact(act.getContact().get()).get();
-            if (contactAccommodationMap.containsKey(contact) && contactActivityMap.containsKey(contact)) {
-                //if contact linked to both
-                contactActivityMap.remove(contact);
-            } else if (contactActivityMap.containsKey(contact) && !contactAccommodationMap.containsKey(contact)) {
-                //if linked only to activity
-                removeContact(contact);
-            }
+            getContact(act.getContact().get()).ifPresent(contact -> {
+                if (unlink(contactActivityMap, contact.getId(), act.getId()) && !isLinked(contact.getId())) {
+                    removeContact(contact);
+                }
+            });
         }
     }
 
     //@@author KxxMxxx
     /**
-     * Removes the mapping of an {@code Accommodation} in all the relevant {@code Contact} related {@code HashMap}.
+     * Removes the mapping of an {@code Accommodation} to its {@code Contact}. The {@code Contact} is removed as well
+     * if no other {@code Activity} or {@code Accommodation} is linked to it.
      */
     private void removeAccommodationMapping(Accommodation acc) {
         if (acc.getContact().isPresent()) {
-            Contact contact = getContact(acc.getContact().get()).get();
-            if (contactActivityMap.containsKey(contact) && contactAccommodationMap.containsKey(contact)) {
-                //if contact linked to both
-                contactAccommodationMap.remove(contact);
-            } else if (contactAccommodationMap.containsKey(contact) && !contactActivityMap.containsKey(contact)) {
-                //if only linked to accommodation
-                removeContact(contact);
-            }
+            getContact(acc.getContact().get()).ifPresent(contact -> {
+                if (unlink(contactAccommodationMap, contact.getId(), acc.getId()) && !isLinked(contact.getId())) {
+                    removeContact(contact);
+                }
+            });
         }
     }
 
     //@@author KxxMxxx
     /**
-     * Removes the mapping of an {@code Activity} in the {@code Day} related {@code HashMap} when an activity is
-     * deleted.
+     * Removes an {@code Activity} from every {@code Day} it is scheduled on when the activity is deleted.
      */
     private void removeDayMapping(Activity act) {
-        if (activityDayMap.containsKey(act)) {
-            List<Day> listOfDays = activityDayMap.remove(act);
-            for (Day day : listOfDays) {
-                day.removeActivity(act);
-            }
-        }
-    }
-
-    //@@author KxxMxxx
-    /**
-     * Removes the mapping of an {@code Activity} in the {@code Day} related {@code HashMap} when an activity is
-     * undscheduled.
-     */
-    private void removeDayMapping(Activity act, Day day) {
-        if (activityDayMap.containsKey(act)) {
-            activityDayMap.get(act).remove(day);
-        }
-    }
-
-    //@@author KxxMxxx
-    /**
-     * Creates a mapping between an {@code Accommodation} and it's {@code Contact}, if it possesses one.
-     */
-    private void addAccommodationMapping(Accommodation acc) {
-        if (acc.getContact().isPresent()) {
-            Contact contact = acc.getContact().get();
-            if (!hasContact(contact)) {
-                addContact(contact);
-            }
-            contactAccommodationMap.put(contact, acc);
+        if (itinerary.unscheduleActivity(act)) {
+            itineraryVersion++;
         }
     }
 
     //@@author KxxMxxx
     /**
-     * Removes the mapping of a {@code Contact} and it's related {@code Activity} and {@code Accommodation}.
+     * Removes the mapping of a {@code Contact} and all of its related {@code Activity} and {@code Accommodation},
+     * which no longer have a {@code Contact}.
      */
     private void removeContactMapping(Contact contact) {
-        if (contactActivityMap.containsKey(contact)) {
-            Activity act = contactActivityMap.remove(contact);
-
-            Activity newAct = new Activity(act.getName(), act.getAddress(), null,
-                    act.getCost().isPresent() ? act.getCost().get() : null, act.getTags(), act.getDuration(),
-                    act.getPriority());
-            this.activities.setActivity(act, newAct);
+        long contactId = getContactId(contact);
+        Map<Long, Activity> linkedActivities = contactActivityMap.remove(contactId);
+        if (linkedActivities != null) {
+            for (Activity act : linkedActivities.values()) {
+                replaceActivity(act, new Activity(act.getId(), act.getName(), act.getAddress(), null,
+                        act.getCost().orElse(null), act.getTags(), act.getDuration(), act.getPriority()));
+            }
         }
 
-        if (contactAccommodationMap.containsKey(contact)) {
-            Accommodation acc = contactAccommodationMap.remove(contact);
-            Accommodation newAcc = new Accommodation(acc.getName(), acc.getAddress(), null, acc.getTags());
-            this.accommodations.setAccommodation(acc, newAcc);
+        Map<Long, Accommodation> linkedAccommodations = contactAccommodationMap.remove(contactId);
+        if (linkedAccommodations != null) {
+            for (Accommodation acc : linkedAccommodations.values()) {
+                this.accommodations.setAccommodation(acc,
+                        new Accommodation(acc.getId(), acc.getName(), acc.getAddress(), null, acc.getTags()));
+            }
         }
     }
 
@@ -280,20 +275,9 @@ public class ModelManager implements Model {
      * the {@code Day} containing it is updated.
      */
     private void updateDay(Activity oldAct, Activity newAct) throws EndOfTimeException {
-        List<Day> listOfDays = activityDayMap.get(oldAct);
-        List<Day> newListOfDays = new ArrayList<>();
-
-        if (!listOfDays.isEmpty()) {
-            itinerary.getItinerary().forEach(day -> {
-                if (listOfDays.contains(day)) {
-                    Day newDay = itinerary.updateDayActivity(oldAct, newAct, day);
-                    setDay(day, newDay);
-                    newListOfDays.add(newDay);
-                }
-            });
+        for (Day day : itinerary.getDays(oldAct)) {
+            setDay(day, itinerary.updateDayActivity(oldAct, newAct, day));
         }
-        activityDayMap.remove(oldAct);
-        activityDayMap.put(newAct, newListOfDays);
     }
 
     //@@author KxxMxxx
@@ -302,104 +286,48 @@ public class ModelManager implements Model {
      * {@code Activity} is changed, the {@code Contact} is also updated.
      */
     private void updateMapping(Activity oldAct, Activity newAct) throws EndOfTimeException {
-        if (oldAct.getContact().isPresent()) { //checks for existing mapping
-            Contact oldContact = oldAct.getContact().get();
-
-            if (contactAccommodationMap.containsKey(oldContact) && contactActivityMap.containsKey(oldContact)) {
-                //if it is linked to both
-                contactActivityMap.remove(oldContact);
-            } else if (contactActivityMap.containsKey(oldContact) && !contactAccommodationMap.containsKey(oldContact)) {
-                //if linked to just activity
-                removeContact(oldContact);
-            }
-
-            if (newAct.getContact().isPresent()) {
-                Contact newContact = newAct.getContact().get();
-                if (!hasContact(newContact)) {
-                    addContact(newContact);
-                }
-                contactActivityMap.put(newContact, newAct);
-            }
-        } else if (newAct.getContact().isPresent()) { //activity gets new contact previously not there
-            Contact newContact = newAct.getContact().get();
-            if (!hasContact(newContact)) {
-                addContact(newContact);
-            }
-            addActivityMapping(newAct);
-        }
-        if (activityDayMap.containsKey(oldAct)) { //updates the activities in a day
+        removeActivityMapping(oldAct);
+        addActivityMapping(newAct);
+        if (itinerary.isScheduled(oldAct)) { //updates the activities in a day
             updateDay(oldAct, newAct);
         }
     }
 
     //@@author KxxMxxx
     /**
-     * Updates the mapping when there is a change to an {@code Activity}. When the {@code Contact} of the
-     * {@code Activity} is changed, the {@code Contact} is also updated.
+     * Updates the mapping when there is a change to an {@code Accommodation}. When the {@code Contact} of the
+     * {@code Accommodation} is changed, the {@code Contact} is also updated.
      */
     private void updateMapping(Accommodation oldAcc, Accommodation newAcc) {
-        if (oldAcc.getContact().isPresent()) { //checks for existing mapping
-            Contact oldContact = oldAcc.getContact().get();
-            if (contactActivityMap.containsKey(oldContact) && contactAccommodationMap.containsKey(oldContact)) {
-                //if linked to both
-                contactAccommodationMap.remove(oldContact);
-            } else if (contactAccommodationMap.containsKey(oldContact) && !contactActivityMap.containsKey(oldContact)) {
-                removeContact(oldContact);
-            }
-            if (newAcc.getContact().isPresent()) {
-                Contact newContact = newAcc.getContact().get();
-                if (!hasContact(newContact)) {
-                    addContact(newContact);
-                }
-                contactAccommodationMap.put(newContact, newAcc);
-            }
-        } else if (newAcc.getContact().isPresent()) { //activity gets new contact previously not there
-            Contact newContact = newAcc.getContact().get();
-            if (!hasContact(newContact)) {
-                addContact(newContact);
-            }
-            addAccommodationMapping(newAcc);
-        }
+        removeAccommodationMapping(oldAcc);
+        addAccommodationMapping(newAcc);
     }
 
     //@@author KxxMxxx
     /**
-     * Updates the mapping when there is a change to a {@code Contact}. When the {@code Contact} changes, the
+     * Updates the mapping when there is a change to a {@code Contact}. When the {@code Contact} changes, every
      * {@code Activity} and {@code Accommodation} sharing the same contact is also updated.
      */
     private void updateMapping(Contact oldContact, Contact newContact) {
-        if (contactActivityMap.containsKey(oldContact)) {
-            Activity oldAct = contactActivityMap.remove(oldContact);
-            Activity newAct = new Activity(oldAct.getName(), oldAct.getAddress(), newContact,
-                    oldAct.getCost().orElse(null), oldAct.getTags(), oldAct.getDuration(),
-                    oldAct.getPriority());
-            activities.setActivity(oldAct, newAct);
-            contactActivityMap.put(newContact, newAct);
-        }
-        if (contactAccommodationMap.containsKey(oldContact)) {
-            Accommodation oldAcc = contactAccommodationMap.remove(oldContact);
-            Accommodation newAcc = new Accommodation(oldAcc.getName(), oldAcc.getAddress(), newContact,
-                    oldAcc.getTags());
-            accommodations.setAccommodation(oldAcc, newAcc);
-            contactAccommodationMap.put(newContact, newAcc);
+        long oldContactId = getContactId(oldContact);
+        Map<Long, Activity> linkedActivities = contactActivityMap.remove(oldContactId);
+        if (linkedActivities != null) {
+            for (Activity oldAct : linkedActivities.values()) {
+                Activity newAct = new Activity(oldAct.getId(), oldAct.getName(), oldAct.getAddress(), newContact,
+                        oldAct.getCost().orElse(null), oldAct.getTags(), oldAct.getDuration(),
+                        oldAct.getPriority());
+                replaceActivity(oldAct, newAct);
+                link(contactActivityMap, newContact.getId(), newAct.getId(), newAct);
+            }
         }
-    }
 
-    //@@author KxxMxxx
-    /**
-     * Updates the mapping when there is a change in a {@code Day}.
-     */
-    private void updateMapping(Day oldDay, Day newDay) {
-        List<ActivityWithTime> oldList = oldDay.getListOfActivityWithTime();
-        for (ActivityWithTime act : oldList) {
-            activityDayMap.get(act.getActivity()).remove(oldDay);
-        }
-        List<ActivityWithTime> newList = newDay.getListOfActivityWithTime();
-        for (ActivityWithTime act : newList) {
-            if (activityDayMap.containsKey(act.getActivity())) {
-                activityDayMap.get(act.getActivity()).add(newDay);
-            } else {
-                activityDayMap.put(act.getActivity(), new ArrayList<>(Arrays.asList(newDay)));
+        Map<Long, Accommodation> linkedAccommodations = contactAccommodationMap.remove(oldContactId);
+        if (linkedAccommodations != null) {
+            for (Accommodation oldAcc : linkedAccommodations.values()) {
+                Accommodation newAcc = new Accommodation(oldAcc.getId(), oldAcc.getName(), oldAcc.getAddress(),
+                        newContact, oldAcc.getTags());
+                accommodations.setAccommodation(oldAcc, newAcc);
+                link(contactAccommodationMap, newContact.getId(), newAcc.getId(), newAcc);
             }
         }
     }
@@ -435,27 +363,68 @@ public class ModelManager implements Model {
             Accommodation accommodationToMap = this.accommodations.getAccommodation(name, address).orElse(null);
 
             if (activityToMap != null) {
-                Activity newActivity = new Activity(activityToMap.getName(), activityToMap.getAddress(), contact,
-                        activityToMap.getCost().orElse(null), activityToMap.getTags(), activityToMap.getDuration(),
-                        activityToMap.getPriority());
-                this.activities.setActivity(activityToMap, newActivity);
-                contactActivityMap.put(contact, newActivity);
+                Activity newActivity = new Activity(activityToMap.getId(), activityToMap.getName(),
+                        activityToMap.getAddress(), contact, activityToMap.getCost().orElse(null),
+                        activityToMap.getTags(), activityToMap.getDuration(), activityToMap.getPriority());
+                replaceActivity(activityToMap, newActivity);
+                link(contactActivityMap, contact.getId(), newActivity.getId(), newActivity);
             }
             if (accommodationToMap != null) {
-                Accommodation newAccommodation = new Accommodation(accommodationToMap.getName(),
-                        accommodationToMap.getAddress(), contact, activityToMap.getTags());
+                Accommodation newAccommodation = new Accommodation(accommodationToMap.getId(),
+                        accommodationToMap.getName(), accommodationToMap.getAddress(), contact,
+                        accommodationToMap.getTags());
                 this.accommodations.setAccommodation(accommodationToMap, newAccommodation);
-                contactAccommodationMap.put(contact, newAccommodation);
+                link(contactAccommodationMap, contact.getId(), newAccommodation.getId(), newAccommodation);
             }
         }
     }
 
     /**
-     * Clears all the mappings related to {@code Day} and re-populates the mappings.
+     * Returns the id of the stored {@code Contact} equal to {@code contact}, or the id of {@code contact} itself
+     * if it is not stored.
+     */
+    private long getContactId(Contact contact) {
+        return getContact(contact).map(Contact::getId).orElse(contact.getId());
+    }
+
+    /**
+     * Returns true if any {@code Activity} or {@code Accommodation} is linked to the contact with the given id.
+     */
+    private boolean isLinked(long contactId) {
+        return contactActivityMap.containsKey(contactId) || contactAccommodationMap.containsKey(contactId);
+    }
+
+    /**
+     * Links {@code item}, which has id {@code id}, to the contact with id {@code contactId} in {@code map}.
+     */
+    private static <T> void link(Map<Long, Map<Long, T>> map, long contactId, long id, T item) {
+        map.computeIfAbsent(contactId, unused -> new LinkedHashMap<>()).put(id, item);
+    }
+
+    /**
+     * Unlinks the item with id {@code id} from the contact with id {@code contactId} in {@code map}.
+     * Returns true if the item was linked to the contact.
+     */
+    private static <T> boolean unlink(Map<Long, Map<Long, T>> map, long contactId, long id) {
+        Map<Long, T> items = map.get(contactId);
+        if (items == null || items.remove(id) == null) {
+            return false;
+        }
+        if (items.isEmpty()) {
+            map.remove(contactId);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces {@code oldAct} with {@code newAct}, which only differs in its {@code Contact}, in the activity list
+     * and in every {@code Day} it is scheduled on.
      */
-    private void redoDayMapping(List<Day> days) {
-        activityDayMap.clear();
-        populateDayMap(days);
+    private void replaceActivity(Activity oldAct, Activity newAct) {
+        if (itinerary.isScheduled(oldAct)) {
+            updateDay(oldAct, newAct);
+        }
+        activities.setActivity(oldAct, newAct);
     }
 
     //=========== UserPrefs ==================================================================================
@@ -537,6 +506,25 @@ public class ModelManager implements Model {
         userPrefs.setItineraryFilePath(itineraryFilePath);
     }
 
+    //=========== PlannerCatalog =============================================================================
+
+    @Override
+    public void setPlannerCatalog(PlannerCatalog plannerCatalog) {
+        requireNonNull(plannerCatalog);
+        this.plannerCatalog = plannerCatalog;
+    }
+
+    @Override
+    public PlannerCatalog getPlannerCatalog() {
+        return plannerCatalog;
+    }
+
+    @Override
+    public boolean hasPlanner(Name name) {
+        requireNonNull(name);
+        return plannerCatalog.hasPlanner(name);
+    }
+
     //=========== AccommodationManager =========================================================================
 
     @Override
@@ -671,8 +659,10 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteContact(Contact target) {
-        removeContactMapping(target);
-        removeContact(target);
+        batch(() -> {
+            removeContactMapping(target);
+            removeContact(target);
+        });
     }
 
     private void removeContact(Contact target) {
@@ -695,8 +685,10 @@ public class ModelManager implements Model {
     @Override
     public void setContact(Contact target, Contact editedContact) {
         requireAllNonNull(target, editedContact);
-        updateMapping(target, editedContact);
-        contacts.setContact(target, editedContact);
+        batch(() -> {
+            updateMapping(target, editedContact);
+            contacts.setContact(target, editedContact);
+        });
     }
 
     @Override
@@ -780,18 +772,15 @@ public class ModelManager implements Model {
     @Override
     public void addDayAtIndex(Index index, Day day) {
         itinerary.addDayAtIndex(index, day);
-        addDayMapping(day);
         updateFilteredItinerary(PREDICATE_SHOW_ALL_DAYS);
     }
 
     @Override
     public void setDays(List<Day> itinerary) {
-        redoDayMapping(itinerary);
         this.itinerary.setDays(itinerary);
     }
 
     public void setDay(Day oldDay, Day newDay) {
-        updateMapping(oldDay, newDay);
         this.itinerary.setDay(oldDay, newDay);
     }
 
@@ -807,15 +796,14 @@ public class ModelManager implements Model {
 
     @Override
     public void scheduleActivity(Day day, ActivityWithTime toAdd) {
-        addDayMapping(toAdd.getActivity(), day);
-        day.addActivityWithTime(toAdd);
+        itinerary.scheduleActivity(day, toAdd);
+        itineraryVersion++;
     }
 
     @Override
     public void unscheduleActivity(Day day, Index toRemove) {
-        Activity activity = day.getListOfActivityWithTime().get(toRemove.getZeroBased()).getActivity();
-        removeDayMapping(activity, day);
-        day.removeActivityWithIndex(toRemove);
+        itinerary.unscheduleActivity(day, toRemove);
+        itineraryVersion++;
     }
 
     public List<Day> getDays(Activity activity) {
@@ -860,6 +848,32 @@ public class ModelManager implements Model {
         filteredActivities.setPredicate(predicate);
     }
 
+    @Override
+    public List<Activity> getFilteredActivitiesWithTag(Tag tag) {
+        return filterActivities(activities.getActivitiesWithTag(tag));
+    }
+
+    @Override
+    public List<Activity> getFilteredActivitiesWithName(Name name) {
+        return filterActivities(activities.getActivitiesWithName(name));
+    }
+
+    @Override
+    public List<Activity> getFilteredActivitiesAtAddress(Address address) {
+        return filterActivities(activities.getActivitiesAtAddress(address));
+    }
+
+    /**
+     * Returns the activities in {@code toFilter} that are in the filtered activity list.
+     */
+    private List<Activity> filterActivities(List<Activity> toFilter) {
+        Predicate<? super Activity> predicate = filteredActivities.getPredicate();
+        if (predicate == null) {
+            return toFilter;
+        }
+        return toFilter.stream().filter(predicate).collect(Collectors.toList());
+    }
+
     // CONTACT FilteredList
     /**
      * Returns an unmodifiable view of the list of {@code Contact} backed by the internal list of
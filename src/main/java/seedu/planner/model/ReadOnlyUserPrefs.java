@@ -20,4 +20,10 @@ public interface ReadOnlyUserPrefs {
     Path getPlannerFilePath();
 
     Path getItineraryFilePath();
+
+    boolean isWriteBehindEnabled();
+
+    boolean isBinaryStorageEnabled();
+
+    boolean isJournalEnabled();
 }
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.util.Objects;
 
 import seedu.planner.commons.core.GuiSettings;
+import seedu.planner.commons.util.FileUtil;
 
 /**
  * Represents User's preferences.
@@ -18,6 +19,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path activityFilePath = plannerFilePath.resolve("activity.json");
     private Path contactFilePath = plannerFilePath.resolve("contact.json");
     private Path itineraryFilePath = plannerFilePath.resolve("itinerary.json");
+    private boolean writeBehindEnabled = false;
+    private boolean binaryStorageEnabled = false;
+    private boolean journalEnabled = false;
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -41,6 +45,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setActivityFilePath(newUserPrefs.getActivityFilePath());
         setContactFilePath(newUserPrefs.getContactFilePath());
         setItineraryFilePath(newUserPrefs.getItineraryFilePath());
+        setWriteBehindEnabled(newUserPrefs.isWriteBehindEnabled());
+        setBinaryStorageEnabled(newUserPrefs.isBinaryStorageEnabled());
+        setJournalEnabled(newUserPrefs.isJournalEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -107,6 +114,41 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.itineraryFilePath = itineraryFilePath;
     }
 
+    public boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
+    }
+
+    public void setWriteBehindEnabled(boolean writeBehindEnabled) {
+        this.writeBehindEnabled = writeBehindEnabled;
+    }
+
+    public boolean isBinaryStorageEnabled() {
+        return binaryStorageEnabled;
+    }
+
+    public void setBinaryStorageEnabled(boolean binaryStorageEnabled) {
+        this.binaryStorageEnabled = binaryStorageEnabled;
+    }
+
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    /**
+     * Changes the file extension of all data files to {@code extension}, e.g. when the storage format changes.
+     */
+    public void setDataFileExtension(String extension) {
+        requireNonNull(extension);
+        accommodationFilePath = FileUtil.changeFileExtension(accommodationFilePath, extension);
+        activityFilePath = FileUtil.changeFileExtension(activityFilePath, extension);
+        contactFilePath = FileUtil.changeFileExtension(contactFilePath, extension);
+        itineraryFilePath = FileUtil.changeFileExtension(itineraryFilePath, extension);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -122,12 +164,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 && accommodationFilePath.equals(o.accommodationFilePath)
                 && activityFilePath.equals(o.activityFilePath)
                 && contactFilePath.equals(o.contactFilePath)
-                && itineraryFilePath.equals(o.itineraryFilePath);
+                && itineraryFilePath.equals(o.itineraryFilePath)
+                && writeBehindEnabled == o.writeBehindEnabled
+                && binaryStorageEnabled == o.binaryStorageEnabled
+                && journalEnabled == o.journalEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, accommodationFilePath, activityFilePath, contactFilePath, itineraryFilePath);
+        return Objects.hash(guiSettings, accommodationFilePath, activityFilePath, contactFilePath, itineraryFilePath,
+                writeBehindEnabled, binaryStorageEnabled, journalEnabled);
     }
 
     @Override
@@ -138,6 +184,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nLocal Activity data file location : " + activityFilePath);
         sb.append("\nLocal Contact data file location : " + contactFilePath);
         sb.append("\nLocal Itinerary data file location : " + itineraryFilePath);
+        sb.append("\nWrite-behind saving enabled : " + writeBehindEnabled);
+        sb.append("\nBinary storage enabled : " + binaryStorageEnabled);
+        sb.append("\nJournal enabled : " + journalEnabled);
         return sb.toString();
     }
 
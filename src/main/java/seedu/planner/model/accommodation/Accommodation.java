@@ -9,6 +9,7 @@ import seedu.planner.model.contact.Contact;
 import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Name;
 import seedu.planner.model.tag.Tag;
+import seedu.planner.model.util.IdGenerator;
 
 /**
  * Represents an Accommodation in the trip planner.
@@ -16,6 +17,7 @@ import seedu.planner.model.tag.Tag;
  */
 public class Accommodation {
 
+    private final long id;
     private final Name name;
     private final Address address;
     private final Contact contact;
@@ -25,12 +27,30 @@ public class Accommodation {
      * Every field must be present and not null.
      */
     public Accommodation(Name name, Address address, Contact contact, Set<Tag> tags) {
+        this(IdGenerator.nextId(), name, address, contact, tags);
+    }
+
+    /**
+     * Creates an {@code Accommodation} with the given id, such as an edited version of an existing accommodation.
+     * Every field must be present and not null.
+     */
+    public Accommodation(long id, Name name, Address address, Contact contact, Set<Tag> tags) {
+        IdGenerator.reserve(id);
+        this.id = id;
         this.name = name;
         this.address = address;
         this.contact = contact;
         this.tags = tags;
     }
 
+    /**
+     * Returns the id of this accommodation, which is kept when the accommodation is edited.
+     * Ids are not compared by {@code equals}, which compares the fields of the accommodation.
+     */
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -3,8 +3,12 @@ package seedu.planner.model.accommodation;
 import static java.util.Objects.requireNonNull;
 import static seedu.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.collections.FXCollections;
@@ -14,6 +18,7 @@ import seedu.planner.model.accommodation.exceptions.AccommodationNotFoundExcepti
 import seedu.planner.model.accommodation.exceptions.DuplicateAccommodationException;
 import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Name;
+import seedu.planner.model.util.BatchableObservableList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -24,23 +29,25 @@ import seedu.planner.model.field.Name;
  * fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Accommodations are also indexed by their identity fields and by address, so that lookups take constant time.
  *
  * @see Accommodation#isSameAccommodation
  * (Accommodation)
  */
 public class UniqueAccommodationList implements Iterable<Accommodation> {
 
-    private final ObservableList<Accommodation>
-            internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Accommodation> internalList = new BatchableObservableList<>();
     private final ObservableList<Accommodation> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Map.Entry<Name, Address>, Accommodation> identityIndex = new HashMap<>();
+    private final Map<Address, List<Accommodation>> addressIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent contacts as the given argument.
      */
     public boolean contains(Accommodation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAccommodation);
+        return identityIndex.containsKey(getIdentity(toCheck));
     }
 
     /**
@@ -48,8 +55,15 @@ public class UniqueAccommodationList implements Iterable<Accommodation> {
      */
     public Optional<Accommodation> getAccommodation(Name name, Address address) {
         requireAllNonNull(name, address);
-        return internalList.stream().filter(x -> x.getName().equals(name) && x.getAddress().equals(address))
-                .findFirst();
+        return Optional.ofNullable(identityIndex.get(new SimpleImmutableEntry<>(name, address)));
+    }
+
+    /**
+     * Returns the accommodations located at {@code address}, in no particular order.
+     */
+    public List<Accommodation> getAccommodationsAt(Address address) {
+        requireNonNull(address);
+        return List.copyOf(addressIndex.getOrDefault(address, List.of()));
     }
 
     /**
@@ -74,6 +88,7 @@ public class UniqueAccommodationList implements Iterable<Accommodation> {
             throw new DuplicateAccommodationException();
         }
         internalList.add(toAdd);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -86,11 +101,13 @@ public class UniqueAccommodationList implements Iterable<Accommodation> {
             throw new DuplicateAccommodationException();
         }
         internalList.add(index.getZeroBased(), toAdd);
+        addToIndexes(toAdd);
     }
 
     public void setAccommodations(UniqueAccommodationList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -104,6 +121,7 @@ public class UniqueAccommodationList implements Iterable<Accommodation> {
         }
 
         internalList.setAll(accommodations);
+        rebuildIndexes();
     }
 
     /**
@@ -125,6 +143,8 @@ public class UniqueAccommodationList implements Iterable<Accommodation> {
         }
 
         internalList.set(index, editedAccommodation);
+        removeFromIndexes(target);
+        addToIndexes(editedAccommodation);
     }
 
     /**
@@ -136,6 +156,21 @@ public class UniqueAccommodationList implements Iterable<Accommodation> {
         if (!internalList.remove(toRemove)) {
             throw new AccommodationNotFoundException();
         }
+        removeFromIndexes(toRemove);
+    }
+
+    /**
+     * Starts a batch of changes to the list, as described in {@link BatchableObservableList#beginBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -163,16 +198,40 @@ public class UniqueAccommodationList implements Iterable<Accommodation> {
     }
 
     /**
-     * Returns true if {@code activities} contains only unique activities.
+     * Returns true if {@code accommodations} contains only unique accommodations.
      */
     private boolean accommodationsAreUnique(List<Accommodation> accommodations) {
-        for (int i = 0; i < accommodations.size() - 1; i++) {
-            for (int j = i + 1; j < accommodations.size(); j++) {
-                if (accommodations.get(i).isSameAccommodation(accommodations.get(j))) {
-                    return false;
-                }
+        return accommodations.stream().map(UniqueAccommodationList::getIdentity).distinct().count()
+                == accommodations.size();
+    }
+
+    /**
+     * Returns the key that identifies {@code accommodation} in the list, consistent with
+     * {@link Accommodation#isSameAccommodation(Accommodation)}.
+     */
+    private static Map.Entry<Name, Address> getIdentity(Accommodation accommodation) {
+        return new SimpleImmutableEntry<>(accommodation.getName(), accommodation.getAddress());
+    }
+
+    private void addToIndexes(Accommodation accommodation) {
+        identityIndex.put(getIdentity(accommodation), accommodation);
+        addressIndex.computeIfAbsent(accommodation.getAddress(), address -> new ArrayList<>()).add(accommodation);
+    }
+
+    private void removeFromIndexes(Accommodation accommodation) {
+        Accommodation indexed = identityIndex.remove(getIdentity(accommodation));
+        List<Accommodation> atAddress = addressIndex.get(accommodation.getAddress());
+        if (atAddress != null) {
+            atAddress.remove(indexed);
+            if (atAddress.isEmpty()) {
+                addressIndex.remove(accommodation.getAddress());
             }
         }
-        return true;
+    }
+
+    private void rebuildIndexes() {
+        identityIndex.clear();
+        addressIndex.clear();
+        internalList.forEach(this::addToIndexes);
     }
 }
@@ -11,6 +11,7 @@ import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Cost;
 import seedu.planner.model.field.Name;
 import seedu.planner.model.tag.Tag;
+import seedu.planner.model.util.IdGenerator;
 
 //@@author oscarsu97
 
@@ -20,6 +21,7 @@ import seedu.planner.model.tag.Tag;
  */
 public class Activity implements Comparable<Activity> {
 
+    private final long id;
     private final Name name;
     private final Address address;
     private final Contact contact;
@@ -33,6 +35,17 @@ public class Activity implements Comparable<Activity> {
      */
     public Activity(Name name, Address address, Contact contact, Cost cost, Set<Tag> tags, Duration duration,
                     Priority priority) {
+        this(IdGenerator.nextId(), name, address, contact, cost, tags, duration, priority);
+    }
+
+    /**
+     * Creates an {@code Activity} with the given id, such as an edited version of an existing activity.
+     * Every field must be present and not null.
+     */
+    public Activity(long id, Name name, Address address, Contact contact, Cost cost, Set<Tag> tags,
+                    Duration duration, Priority priority) {
+        IdGenerator.reserve(id);
+        this.id = id;
         this.name = name;
         this.address = address;
         this.contact = contact;
@@ -42,6 +55,14 @@ public class Activity implements Comparable<Activity> {
         this.priority = priority;
     }
 
+    /**
+     * Returns the id of this activity, which is kept when the activity is edited.
+     * Ids are not compared by {@code equals}, which compares the fields of the activity.
+     */
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
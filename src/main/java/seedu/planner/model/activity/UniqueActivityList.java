@@ -3,8 +3,11 @@ package seedu.planner.model.activity;
 import static java.util.Objects.requireNonNull;
 import static seedu.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.collections.FXCollections;
@@ -14,6 +17,7 @@ import seedu.planner.model.activity.exceptions.ActivityNotFoundException;
 import seedu.planner.model.activity.exceptions.DuplicateActivityException;
 import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Name;
+import seedu.planner.model.util.BatchableObservableList;
 
 /**
  * A list of activities that enforces uniqueness between its elements and does not allow nulls.
@@ -24,21 +28,23 @@ import seedu.planner.model.field.Name;
  * exactly the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * Activities are also indexed by their identity fields, so that lookups by identity take constant time.
  *
  * @see Activity#isSameActivity(Activity)
  */
 public class UniqueActivityList implements Iterable<Activity> {
 
-    private final ObservableList<Activity> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Activity> internalList = new BatchableObservableList<>();
     private final ObservableList<Activity> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Map.Entry<Name, Address>, Activity> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent activities as the given argument.
      */
     public boolean contains(Activity toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameActivity);
+        return identityIndex.containsKey(getIdentity(toCheck));
     }
 
     /**
@@ -46,8 +52,7 @@ public class UniqueActivityList implements Iterable<Activity> {
      */
     public Optional<Activity> getActivity(Name name, Address address) {
         requireAllNonNull(name, address);
-        return internalList.stream().filter(x -> x.getName().equals(name) && x.getAddress().equals(address))
-                .findFirst();
+        return Optional.ofNullable(identityIndex.get(new SimpleImmutableEntry<>(name, address)));
     }
 
     /**
@@ -73,6 +78,7 @@ public class UniqueActivityList implements Iterable<Activity> {
             throw new DuplicateActivityException();
         }
         internalList.add(toAdd);
+        identityIndex.put(getIdentity(toAdd), toAdd);
     }
 
     /**
@@ -85,11 +91,14 @@ public class UniqueActivityList implements Iterable<Activity> {
             throw new DuplicateActivityException();
         }
         internalList.add(index.getZeroBased(), toAdd);
+        identityIndex.put(getIdentity(toAdd), toAdd);
     }
 
     public void setActivities(UniqueActivityList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
     }
 
     /**
@@ -98,11 +107,14 @@ public class UniqueActivityList implements Iterable<Activity> {
      */
     public void setActivities(List<Activity> activities) {
         requireAllNonNull(activities);
-        if (!activitiesAreUnique(activities)) {
+        Map<Map.Entry<Name, Address>, Activity> replacementIndex = indexByIdentity(activities);
+        if (replacementIndex.size() != activities.size()) {
             throw new DuplicateActivityException();
         }
 
         internalList.setAll(activities);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
     }
 
     /**
@@ -124,6 +136,8 @@ public class UniqueActivityList implements Iterable<Activity> {
         }
 
         internalList.set(index, editedActivity);
+        identityIndex.remove(getIdentity(target));
+        identityIndex.put(getIdentity(editedActivity), editedActivity);
     }
 
     /**
@@ -135,6 +149,21 @@ public class UniqueActivityList implements Iterable<Activity> {
         if (!internalList.remove(toRemove)) {
             throw new ActivityNotFoundException();
         }
+        identityIndex.remove(getIdentity(toRemove));
+    }
+
+    /**
+     * Starts a batch of changes to the list, as described in {@link BatchableObservableList#beginBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -162,16 +191,22 @@ public class UniqueActivityList implements Iterable<Activity> {
     }
 
     /**
-     * Returns true if {@code activities} contains only unique activities.
+     * Returns the key that identifies {@code activity} in the list, consistent with
+     * {@link Activity#isSameActivity(Activity)}.
+     */
+    private static Map.Entry<Name, Address> getIdentity(Activity activity) {
+        return new SimpleImmutableEntry<>(activity.getName(), activity.getAddress());
+    }
+
+    /**
+     * Returns {@code activities} keyed by their identity. The result is smaller than {@code activities} if
+     * {@code activities} contains duplicate activities.
      */
-    private boolean activitiesAreUnique(List<Activity> activities) {
-        for (int i = 0; i < activities.size() - 1; i++) {
-            for (int j = i + 1; j < activities.size(); j++) {
-                if (activities.get(i).isSameActivity(activities.get(j))) {
-                    return false;
-                }
-            }
+    private static Map<Map.Entry<Name, Address>, Activity> indexByIdentity(List<Activity> activities) {
+        Map<Map.Entry<Name, Address>, Activity> index = new HashMap<>();
+        for (Activity activity : activities) {
+            index.put(getIdentity(activity), activity);
         }
-        return true;
+        return index;
     }
 }
@@ -11,6 +11,7 @@ import java.util.Set;
 import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Name;
 import seedu.planner.model.tag.Tag;
+import seedu.planner.model.util.IdGenerator;
 
 /**
  * Represents a Contact in the address book.
@@ -18,6 +19,8 @@ import seedu.planner.model.tag.Tag;
  */
 public class Contact {
 
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -31,7 +34,17 @@ public class Contact {
      * Every field must be present and not null.
      */
     public Contact(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        this(IdGenerator.nextId(), name, phone, email, address, tags);
+    }
+
+    /**
+     * Creates a {@code Contact} with the given id, such as an edited version of an existing contact.
+     * Every field must be present and not null.
+     */
+    public Contact(long id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         requireAllNonNull(name, phone, tags);
+        IdGenerator.reserve(id);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -39,6 +52,14 @@ public class Contact {
         this.tags.addAll(tags);
     }
 
+    /**
+     * Returns the id of this contact, which is kept when the contact is edited.
+     * Ids are not compared by {@code equals}, which compares the fields of the contact.
+     */
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
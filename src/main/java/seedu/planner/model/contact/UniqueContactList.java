@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import static seedu.planner.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.collections.FXCollections;
@@ -13,6 +16,9 @@ import javafx.collections.ObservableList;
 import seedu.planner.commons.core.index.Index;
 import seedu.planner.model.contact.exceptions.ContactNotFoundException;
 import seedu.planner.model.contact.exceptions.DuplicateContactException;
+import seedu.planner.model.field.Address;
+import seedu.planner.model.field.Name;
+import seedu.planner.model.util.BatchableObservableList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -22,21 +28,24 @@ import seedu.planner.model.contact.exceptions.DuplicateContactException;
  * contacts uses Contact#equals(Object) so as to ensure that the contacts with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Contacts are also indexed by their identity fields and by phone, so that lookups take constant time.
  *
  * @see Contact#isSameContact(Contact)
  */
 public class UniqueContactList implements Iterable<Contact> {
 
-    private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Contact> internalList = new BatchableObservableList<>();
     private final ObservableList<Contact> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Map.Entry<Name, Map.Entry<Phone, Optional<Address>>>, Contact> identityIndex = new HashMap<>();
+    private final Map<Phone, Integer> phoneCounts = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent contacts as the given argument.
      */
     public boolean contains(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContact);
+        return identityIndex.containsKey(getIdentity(toCheck));
     }
 
     /**
@@ -57,7 +66,7 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public boolean containsPhone(Phone toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(x -> x.getPhone().equals(toCheck));
+        return phoneCounts.containsKey(toCheck);
     }
 
     /**
@@ -70,6 +79,7 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
         internalList.add(toAdd);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -82,6 +92,7 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
         internalList.add(index.getZeroBased(), toAdd);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -102,6 +113,8 @@ public class UniqueContactList implements Iterable<Contact> {
         }
 
         internalList.set(index, editedContact);
+        removeFromIndexes(target);
+        addToIndexes(editedContact);
     }
 
     /**
@@ -113,11 +126,16 @@ public class UniqueContactList implements Iterable<Contact> {
         if (!internalList.remove(toRemove)) {
             throw new ContactNotFoundException();
         }
+        removeFromIndexes(toRemove);
     }
 
     public void setContacts(UniqueContactList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        phoneCounts.clear();
+        phoneCounts.putAll(replacement.phoneCounts);
     }
 
     /**
@@ -131,6 +149,9 @@ public class UniqueContactList implements Iterable<Contact> {
         }
 
         internalList.setAll(contacts);
+        identityIndex.clear();
+        phoneCounts.clear();
+        contacts.forEach(this::addToIndexes);
     }
 
     /**
@@ -138,7 +159,21 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public Optional<Contact> getContact(Contact contact) {
         requireNonNull(contact);
-        return internalList.stream().filter(x -> x.equals(contact)).findFirst();
+        return Optional.ofNullable(identityIndex.get(getIdentity(contact))).filter(contact::equals);
+    }
+
+    /**
+     * Starts a batch of changes to the list, as described in {@link BatchableObservableList#beginBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -169,13 +204,25 @@ public class UniqueContactList implements Iterable<Contact> {
      * Returns true if {@code contacts} contains only unique contacts.
      */
     private boolean contactsAreUnique(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).isSameContact(contacts.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return contacts.stream().map(UniqueContactList::getIdentity).distinct().count() == contacts.size();
+    }
+
+    /**
+     * Returns the key that identifies {@code contact} in the list, consistent with
+     * {@link Contact#isSameContact(Contact)}.
+     */
+    private static Map.Entry<Name, Map.Entry<Phone, Optional<Address>>> getIdentity(Contact contact) {
+        return new SimpleImmutableEntry<>(contact.getName(),
+                new SimpleImmutableEntry<>(contact.getPhone(), contact.getAddress()));
+    }
+
+    private void addToIndexes(Contact contact) {
+        identityIndex.put(getIdentity(contact), contact);
+        phoneCounts.merge(contact.getPhone(), 1, Integer::sum);
+    }
+
+    private void removeFromIndexes(Contact contact) {
+        identityIndex.remove(getIdentity(contact));
+        phoneCounts.computeIfPresent(contact.getPhone(), (phone, count) -> count == 1 ? null : count - 1);
     }
 }
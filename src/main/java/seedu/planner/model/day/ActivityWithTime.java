@@ -3,21 +3,28 @@ package seedu.planner.model.day;
 import static seedu.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import seedu.planner.model.activity.Activity;
 
 //@@author 1nefootstep
 /**
  * Wraps the Activity in an object with time and duration fields.
+ * The start and end are also kept as minutes since the epoch, so that comparing and checking for overlaps
+ * does not allocate.
  */
 public class ActivityWithTime implements Comparable<ActivityWithTime> {
     private final Activity activity;
     private final LocalDateTime startDateTime;
+    private final long startMinute;
+    private final long endMinute;
 
     public ActivityWithTime(Activity activity, LocalDateTime startDateTime) {
         requireAllNonNull(activity, startDateTime);
         this.activity = activity;
         this.startDateTime = startDateTime;
+        this.startMinute = Math.floorDiv(startDateTime.toEpochSecond(ZoneOffset.UTC), 60);
+        this.endMinute = startMinute + activity.getDuration().value;
     }
 
     public ActivityWithTime changeStartDateTime(LocalDateTime newStartDateTime) {
@@ -36,14 +43,26 @@ public class ActivityWithTime implements Comparable<ActivityWithTime> {
         return startDateTime.plusMinutes(activity.getDuration().value);
     }
 
+    /**
+     * Returns the start of the activity in minutes since the epoch.
+     */
+    public long getStartMinute() {
+        return startMinute;
+    }
+
+    /**
+     * Returns the end of the activity in minutes since the epoch.
+     */
+    public long getEndMinute() {
+        return endMinute;
+    }
+
     /**
      * Checks whether activities are overlapping.
      */
     public boolean isOverlapping(ActivityWithTime other) {
-        return !((this.startDateTime.compareTo(other.startDateTime) < 0
-                && this.getEndDateTime().compareTo(other.startDateTime) <= 0)
-            || (other.startDateTime.compareTo(this.startDateTime) < 0
-                && other.getEndDateTime().compareTo(this.startDateTime) <= 0));
+        return !((this.startMinute < other.startMinute && this.endMinute <= other.startMinute)
+            || (other.startMinute < this.startMinute && other.endMinute <= this.startMinute));
     }
 
     @Override
@@ -64,11 +83,11 @@ public class ActivityWithTime implements Comparable<ActivityWithTime> {
 
         return this.activity.equals(otherActivity.activity)
                 && this.startDateTime.equals(otherActivity.startDateTime)
-                && this.getEndDateTime().equals(otherActivity.getEndDateTime());
+                && this.endMinute == otherActivity.endMinute;
     }
 
     @Override
     public int compareTo(ActivityWithTime other) {
-        return this.startDateTime.compareTo(other.startDateTime);
+        return Long.compare(this.startMinute, other.startMinute);
     }
 }
@@ -38,12 +38,23 @@ public class Day {
     //@@author 1nefootstep
     /**
      * Gets all the activities present in {@code Day} and wraps them in ActivityWithTime.
-     * @return list of {@code ActivityWithTime} present in {@code Day}
+     * @return unmodifiable view of the {@code ActivityWithTime} present in {@code Day}
      */
     public List<ActivityWithTime> getListOfActivityWithTime() {
         return this.timetable.getActivitiesWithTime();
     }
 
+    public int getNumberOfActivities() {
+        return this.timetable.getNumberOfActivities();
+    }
+
+    /**
+     * Returns the number of times the {@code Activity} is scheduled in the {@code Day}.
+     */
+    public int countActivity(Activity activity) {
+        return this.timetable.countActivity(activity);
+    }
+
     public void addActivityWithTime(ActivityWithTime toAdd) {
         this.timetable.addActivityWithTime(toAdd);
     }
@@ -80,12 +91,18 @@ public class Day {
         return timetable.findAllOverlap(activity);
     }
 
+    /**
+     * Returns the number of activities in the {@code Day} that overlap with the given {@code ActivityWithTime}.
+     */
+    public int countOverlaps(ActivityWithTime activity) {
+        return timetable.countOverlaps(activity);
+    }
+
     /**
      * Checks whether the {@code Day} contains the {@code Activity}.
      */
     public boolean hasActivity(Activity activity) {
-        return timetable.getActivitiesWithTime().stream()
-                .anyMatch(x -> x.getActivity().equals(activity));
+        return timetable.countActivity(activity) > 0;
     }
 
     //@@author 1nefootstep
@@ -4,23 +4,37 @@ import static java.util.Objects.requireNonNull;
 import static seedu.planner.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.planner.commons.core.index.Index;
 import seedu.planner.model.activity.Activity;
 import seedu.planner.model.day.exceptions.DayNotFoundException;
+import seedu.planner.model.util.BatchableObservableList;
 
 /**
  * DayList class helps to manage the list of days in an Planner.
+ * Also keeps an index of the days on which each activity is scheduled. The index is updated by every method that
+ * changes the days, so activities must be scheduled and unscheduled through this class rather than on a
+ * {@code Day} directly.
  */
 public class DayList implements Iterable<Day> {
-    private final ObservableList<Day>
-            internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Day> internalList = new BatchableObservableList<>();
     private final ObservableList<Day> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /**
+     * The days on which each activity is scheduled, with the number of times it is scheduled on each day, keyed by
+     * the id of the activity.
+     */
+    private final Map<Long, Map<Day, Integer>> scheduledDays = new HashMap<>();
+    /** The position of each day in the list, used to order the days on which an activity is scheduled. */
+    private final Map<Day, Integer> dayPositions = new IdentityHashMap<>();
 
     /**
      * Returns true if the list contains an equivalent contacts as the given argument.
@@ -36,6 +50,8 @@ public class DayList implements Iterable<Day> {
     public void add(Day d) {
         requireNonNull(d);
         internalList.add(d);
+        dayPositions.put(d, internalList.size() - 1);
+        addToIndex(d);
     }
 
     /**
@@ -45,6 +61,8 @@ public class DayList implements Iterable<Day> {
         requireAllNonNull(index, d);
 
         internalList.add(index.getZeroBased(), d);
+        updatePositions(index.getZeroBased());
+        addToIndex(d);
     }
 
     /**
@@ -52,15 +70,22 @@ public class DayList implements Iterable<Day> {
      */
     public void adds(int numDays) {
         requireNonNull(numDays);
-        for (int i = 0; i < numDays; i++) {
-            Day toAdd = new Day();
-            internalList.add(toAdd);
+        internalList.beginBatch();
+        try {
+            for (int i = 0; i < numDays; i++) {
+                Day toAdd = new Day();
+                internalList.add(toAdd);
+                dayPositions.put(toAdd, internalList.size() - 1);
+            }
+        } finally {
+            internalList.endBatch();
         }
     }
 
     public void setDays(DayList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -69,6 +94,7 @@ public class DayList implements Iterable<Day> {
     public void setDays(List<Day> days) {
         requireAllNonNull(days);
         internalList.setAll(days);
+        rebuildIndex();
     }
 
     /**
@@ -85,7 +111,10 @@ public class DayList implements Iterable<Day> {
         if (index == -1) {
             throw new DayNotFoundException();
         }
-        internalList.set(index, editedDay);
+        Day oldDay = internalList.set(index, editedDay);
+        removeFromIndex(oldDay);
+        addToIndex(editedDay);
+        updatePosition(oldDay, editedDay, index);
     }
 
     public Day getDay(Index index) {
@@ -107,7 +136,10 @@ public class DayList implements Iterable<Day> {
         if (indexOfToRemove == -1) {
             throw new DayNotFoundException();
         }
-        internalList.remove(toRemove);
+        Day removed = internalList.remove(indexOfToRemove);
+        removeFromIndex(removed);
+        dayPositions.remove(removed);
+        updatePositions(indexOfToRemove);
     }
 
     /**
@@ -116,18 +148,69 @@ public class DayList implements Iterable<Day> {
      */
     public void deleteDays(int n) {
         int lastIndex = internalList.size() - 1;
-        for (int i = 0; i < n; i++) {
-            internalList.remove(lastIndex - i);
+        internalList.beginBatch();
+        try {
+            for (int i = 0; i < n; i++) {
+                Day removed = internalList.remove(lastIndex - i);
+                removeFromIndex(removed);
+                dayPositions.remove(removed);
+            }
+        } finally {
+            internalList.endBatch();
+        }
+    }
+
+    /**
+     * Schedules {@code toAdd} on {@code day}, which must be in the list.
+     */
+    public void scheduleActivity(Day day, ActivityWithTime toAdd) {
+        requireAllNonNull(day, toAdd);
+        day.addActivityWithTime(toAdd);
+        addToIndex(toAdd.getActivity(), day);
+    }
+
+    /**
+     * Removes the activity at {@code toRemove} from the schedule of {@code day}, which must be in the list.
+     */
+    public void unscheduleActivity(Day day, Index toRemove) {
+        requireAllNonNull(day, toRemove);
+        Activity activity = day.getActivityWithIndex(toRemove).getActivity();
+        day.removeActivityWithIndex(toRemove);
+        removeFromIndex(activity, day);
+    }
+
+    /**
+     * Removes {@code activity} from the schedule of every day.
+     * Returns true if the activity was scheduled on any day.
+     */
+    public boolean unscheduleActivity(Activity activity) {
+        requireNonNull(activity);
+        Map<Day, Integer> days = scheduledDays.remove(activity.getId());
+        if (days == null) {
+            return false;
         }
+        days.keySet().forEach(day -> day.removeActivity(activity));
+        return true;
+    }
+
+    /**
+     * Returns true if {@code activity} is scheduled on any day.
+     */
+    public boolean isScheduled(Activity activity) {
+        requireNonNull(activity);
+        return scheduledDays.containsKey(activity.getId());
     }
 
+    /**
+     * Returns the days on which {@code activity} is scheduled, in order.
+     */
     public List<Day> getDays(Activity activity) {
-        List<Day> listOfDays = new ArrayList<>();
-        for (Day day : internalList) {
-            if (day.hasActivity(activity)) {
-                listOfDays.add(day);
-            }
+        Map<Day, Integer> days = scheduledDays.get(activity.getId());
+        if (days == null) {
+            return new ArrayList<>();
         }
+        List<Day> listOfDays = new ArrayList<>(days.keySet());
+        listOfDays.sort(Comparator.comparing(dayPositions::get));
         return listOfDays;
     }
 
@@ -142,10 +225,17 @@ public class DayList implements Iterable<Day> {
      * @param endIndex the end index, exclusive
      */
     public void shiftDatesInItinerary(long days, Index startIndex, Index endIndex) {
-        for (int i = startIndex.getZeroBased(); i < endIndex.getZeroBased(); i++) {
-            Day currDay = internalList.get(i);
-            Day editedDay = shiftDatesOfAllActivitiesInDay(currDay, days);
-            setDay(currDay, editedDay);
+        internalList.beginBatch();
+        try {
+            for (int i = startIndex.getZeroBased(); i < endIndex.getZeroBased(); i++) {
+                Day editedDay = shiftDatesOfAllActivitiesInDay(internalList.get(i), days);
+                Day oldDay = internalList.set(i, editedDay);
+                removeFromIndex(oldDay);
+                addToIndex(editedDay);
+                updatePosition(oldDay, editedDay, i);
+            }
+        } finally {
+            internalList.endBatch();
         }
     }
 
@@ -166,6 +256,72 @@ public class DayList implements Iterable<Day> {
         return new Day(editedActivitiesInADay);
     }
 
+    private void addToIndex(Activity activity, Day day) {
+        scheduledDays.computeIfAbsent(activity.getId(), unused -> new IdentityHashMap<>())
+                .merge(day, 1, Integer::sum);
+    }
+
+    private void removeFromIndex(Activity activity, Day day) {
+        Map<Day, Integer> days = scheduledDays.get(activity.getId());
+        if (days == null) {
+            return;
+        }
+        days.computeIfPresent(day, (unused, count) -> count == 1 ? null : count - 1);
+        if (days.isEmpty()) {
+            scheduledDays.remove(activity.getId());
+        }
+    }
+
+    private void addToIndex(Day day) {
+        for (ActivityWithTime activityWithTime : day.getListOfActivityWithTime()) {
+            addToIndex(activityWithTime.getActivity(), day);
+        }
+    }
+
+    private void removeFromIndex(Day day) {
+        for (ActivityWithTime activityWithTime : day.getListOfActivityWithTime()) {
+            removeFromIndex(activityWithTime.getActivity(), day);
+        }
+    }
+
+    /**
+     * Records {@code newDay} at {@code position}, which {@code oldDay} was replaced from.
+     */
+    private void updatePosition(Day oldDay, Day newDay, int position) {
+        dayPositions.remove(oldDay);
+        dayPositions.put(newDay, position);
+    }
+
+    /**
+     * Records the positions of the days from {@code start} onwards, after a day is inserted or removed there.
+     */
+    private void updatePositions(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            dayPositions.put(internalList.get(i), i);
+        }
+    }
+
+    private void rebuildIndex() {
+        scheduledDays.clear();
+        internalList.forEach(this::addToIndex);
+        dayPositions.clear();
+        updatePositions(0);
+    }
+
+    /**
+     * Starts a batch of changes to the list of days, as described in {@link BatchableObservableList#beginBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -1,45 +1,92 @@
 package seedu.planner.model.day;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import seedu.planner.commons.core.index.Index;
 import seedu.planner.model.activity.Activity;
 
 /**
  * Represents the timetable of a {@code Day}.
+ * Activities are kept sorted by start time. Their start and end times are also kept as sorted arrays of epoch
+ * minutes, so that overlaps are found by binary search instead of by comparing against every activity.
  */
 public class Timetable {
-    private List<ActivityWithTime> timetable;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final List<ActivityWithTime> timetable;
+    private final List<ActivityWithTime> unmodifiableTimetable;
+    /** The start of each activity in {@code timetable}, in the same order. */
+    private long[] startMinutes;
+    /** The ends of all activities in {@code timetable}, in ascending order. */
+    private long[] sortedEndMinutes;
 
     //@@author 1nefootstep
     public Timetable() {
         timetable = new ArrayList<>();
+        unmodifiableTimetable = Collections.unmodifiableList(timetable);
+        startMinutes = new long[INITIAL_CAPACITY];
+        sortedEndMinutes = new long[INITIAL_CAPACITY];
     }
 
     public Timetable(List<ActivityWithTime> activities) {
-        timetable = activities;
+        timetable = new ArrayList<>(activities);
         timetable.sort(ActivityWithTime::compareTo);
+        unmodifiableTimetable = Collections.unmodifiableList(timetable);
+        int capacity = Math.max(INITIAL_CAPACITY, timetable.size());
+        startMinutes = new long[capacity];
+        sortedEndMinutes = new long[capacity];
+        for (int i = 0; i < timetable.size(); i++) {
+            startMinutes[i] = timetable.get(i).getStartMinute();
+            sortedEndMinutes[i] = timetable.get(i).getEndMinute();
+        }
+        Arrays.sort(sortedEndMinutes, 0, timetable.size());
     }
 
     //@@author 1nefootstep
+    /**
+     * Returns the activities in the timetable as an unmodifiable view, which reflects later changes to the timetable.
+     */
     public List<ActivityWithTime> getActivitiesWithTime() {
-        return new ArrayList<>(this.timetable);
+        return unmodifiableTimetable;
+    }
+
+    public int getNumberOfActivities() {
+        return timetable.size();
+    }
+
+    /**
+     * Returns the number of times {@code activity} is scheduled in the timetable.
+     */
+    public int countActivity(Activity activity) {
+        int count = 0;
+        for (ActivityWithTime activityWithTime : timetable) {
+            if (activityWithTime.getActivity().equals(activity)) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
-     * Adds an activity with time to the list.
+     * Adds an activity with time to the list, after any activities that start at the same time.
      */
     public void addActivityWithTime(ActivityWithTime toAdd) {
-        this.timetable.add(toAdd);
-        timetable.sort(ActivityWithTime::compareTo);
+        int size = timetable.size();
+        long start = toAdd.getStartMinute();
+        long end = toAdd.getEndMinute();
+        int index = upperBound(startMinutes, size, start);
+        timetable.add(index, toAdd);
+        startMinutes = insert(startMinutes, size, index, start);
+        sortedEndMinutes = insert(sortedEndMinutes, size, upperBound(sortedEndMinutes, size, end), end);
     }
 
     //@@author 1nefootstep
     public void removeActivityWithIndex(Index toRemove) {
-        this.timetable.remove(toRemove.getZeroBased());
+        removeAt(toRemove.getZeroBased());
     }
 
     //@@author 1nefootstep
@@ -47,8 +94,10 @@ public class Timetable {
      * Removes an {@code Activity} from a timetable.
      */
     public void removeActivity(Activity activity) {
-        while (timetable.contains(activity)) {
-            timetable.remove(timetable.indexOf(activity));
+        for (int i = timetable.size() - 1; i >= 0; i--) {
+            if (activity.equals(timetable.get(i))) {
+                removeAt(i);
+            }
         }
     }
 
@@ -68,13 +117,10 @@ public class Timetable {
      */
     public Optional<ActivityWithTime> findNextNoOverlap(Index index) {
         ActivityWithTime currAct = timetable.get(index.getZeroBased());
-        for (int i = index.getZeroBased() + 1; i < timetable.size(); i++) {
-            ActivityWithTime nextAct = timetable.get(i);
-            if (!currAct.isOverlapping(nextAct)) {
-                return Optional.of(nextAct);
-            }
-        }
-        return Optional.empty();
+        // Activities that start at the same time always overlap, even if the current activity has ended.
+        long earliestStart = Math.max(currAct.getEndMinute(), currAct.getStartMinute() + 1);
+        int nextIndex = lowerBound(startMinutes, timetable.size(), earliestStart);
+        return nextIndex < timetable.size() ? Optional.of(timetable.get(nextIndex)) : Optional.empty();
     }
 
     //@@author KxxMxxx
@@ -82,8 +128,70 @@ public class Timetable {
      * Finds all activities that overlaps with the current activity.
      */
     public List<ActivityWithTime> findAllOverlap(ActivityWithTime activity) {
-        return timetable.stream().filter(x -> x.isOverlapping(activity)
-                && activity.getStartDateTime().compareTo(x.getStartDateTime()) <= 0).collect(Collectors.toList());
+        int size = timetable.size();
+        int from = lowerBound(startMinutes, size, activity.getStartMinute());
+        int to = Math.max(from, lowerBound(startMinutes, size, activity.getEndMinute()));
+        return new ArrayList<>(timetable.subList(from, to));
+    }
+
+    /**
+     * Returns the number of activities in the timetable that overlap with {@code activity}.
+     */
+    public int countOverlaps(ActivityWithTime activity) {
+        int size = timetable.size();
+        // Every activity that neither starts after the end of activity nor ends before its start overlaps it.
+        int notStartedAfter = lowerBound(startMinutes, size, activity.getEndMinute());
+        int endedBefore = upperBound(sortedEndMinutes, size, activity.getStartMinute());
+        return notStartedAfter - endedBefore;
+    }
+
+    private void removeAt(int index) {
+        int size = timetable.size();
+        ActivityWithTime removed = timetable.remove(index);
+        remove(startMinutes, size, index);
+        remove(sortedEndMinutes, size, lowerBound(sortedEndMinutes, size, removed.getEndMinute()));
+    }
+
+    /**
+     * Returns the index of the first of the {@code size} values in {@code array} that is at least {@code value}.
+     */
+    private static int lowerBound(long[] array, int size, long value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first of the {@code size} values in {@code array} that is more than {@code value}.
+     */
+    private static int upperBound(long[] array, int size, long value) {
+        return lowerBound(array, size, value == Long.MAX_VALUE ? value : value + 1);
+    }
+
+    /**
+     * Inserts {@code value} at {@code index} into the first {@code size} values of {@code array}, growing it if
+     * it is full. Returns the array holding the result.
+     */
+    private static long[] insert(long[] array, int size, int index, long value) {
+        long[] result = size < array.length ? array : Arrays.copyOf(array, Math.max(INITIAL_CAPACITY, size * 2));
+        System.arraycopy(array, index, result, index + 1, size - index);
+        result[index] = value;
+        return result;
+    }
+
+    /**
+     * Removes the value at {@code index} from the first {@code size} values of {@code array}.
+     */
+    private static void remove(long[] array, int size, int index) {
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
     }
 
     //@@author 1nefootstep
@@ -97,8 +205,6 @@ public class Timetable {
             return false;
         }
 
-        List<ActivityWithTime> otherActivities = ((Timetable) other).getActivitiesWithTime();
-        List<ActivityWithTime> thisActivities = this.getActivitiesWithTime();
-        return thisActivities.equals(otherActivities);
+        return timetable.equals(((Timetable) other).timetable);
     }
 }
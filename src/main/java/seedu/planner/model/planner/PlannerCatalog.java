@@ -0,0 +1,88 @@
+package seedu.planner.model.planner;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.planner.model.field.Name;
+
+/**
+ * Keeps a {@code PlannerSummary} for every saved Planner, keyed by the name of the Planner.
+ * <br> Lets Planners be listed and looked up without reading their data files, which are only read when a Planner
+ * is loaded.
+ */
+public class PlannerCatalog {
+
+    private final Map<String, PlannerSummary> summaries = new TreeMap<>();
+
+    public PlannerCatalog() {}
+
+    /**
+     * Creates a PlannerCatalog containing the summaries in {@code toBeCopied}.
+     */
+    public PlannerCatalog(Collection<PlannerSummary> toBeCopied) {
+        requireNonNull(toBeCopied);
+        toBeCopied.forEach(this::setPlanner);
+    }
+
+    /**
+     * Returns true if a Planner named {@code name} has been saved.
+     */
+    public boolean hasPlanner(Name name) {
+        requireNonNull(name);
+        return summaries.containsKey(name.name);
+    }
+
+    /**
+     * Returns the summary of the Planner named {@code name}, if it has been saved.
+     */
+    public Optional<PlannerSummary> getPlanner(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(summaries.get(name.name));
+    }
+
+    /**
+     * Adds {@code summary} to the catalog, replacing any summary of a Planner with the same name.
+     */
+    public void setPlanner(PlannerSummary summary) {
+        requireNonNull(summary);
+        summaries.put(summary.getName().name, summary);
+    }
+
+    /**
+     * Removes the summary of the Planner named {@code name}, if there is one.
+     */
+    public void removePlanner(Name name) {
+        requireNonNull(name);
+        summaries.remove(name.name);
+    }
+
+    /**
+     * Returns the summaries of all saved Planners, sorted by name.
+     */
+    public List<PlannerSummary> getPlannerList() {
+        return new ArrayList<>(summaries.values());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PlannerCatalog // instanceof handles nulls
+                && summaries.equals(((PlannerCatalog) other).summaries));
+    }
+
+    @Override
+    public int hashCode() {
+        return summaries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return summaries.size() + " planners";
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.planner.model.planner;
+
+import static seedu.planner.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.planner.model.ReadOnlyActivity;
+import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.model.field.Name;
+
+/**
+ * Represents the details of a saved Planner that can be shown without reading its data files.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class PlannerSummary {
+
+    private final Name name;
+    private final LocalDate startDate;
+    private final int dayCount;
+    private final int activityCount;
+    private final LocalDateTime lastModified;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PlannerSummary(Name name, LocalDate startDate, int dayCount, int activityCount,
+                          LocalDateTime lastModified) {
+        requireAllNonNull(name, startDate, lastModified);
+        this.name = name;
+        this.startDate = startDate;
+        this.dayCount = dayCount;
+        this.activityCount = activityCount;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Returns the summary of the Planner named {@code name} with the given {@code itinerary} and {@code activity}.
+     */
+    public static PlannerSummary of(Name name, ReadOnlyItinerary itinerary, ReadOnlyActivity activity,
+                                    LocalDateTime lastModified) {
+        return new PlannerSummary(name, itinerary.getStartDate(), itinerary.getItinerary().size(),
+                activity.getActivityList().size(), lastModified);
+    }
+
+    public Name getName() {
+        return name;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    public int getActivityCount() {
+        return activityCount;
+    }
+
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PlannerSummary)) {
+            return false;
+        }
+
+        PlannerSummary otherSummary = (PlannerSummary) other;
+        return otherSummary.getName().equals(getName())
+                && otherSummary.getStartDate().equals(getStartDate())
+                && otherSummary.getDayCount() == getDayCount()
+                && otherSummary.getActivityCount() == getActivityCount()
+                && otherSummary.getLastModified().equals(getLastModified());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, startDate, dayCount, activityCount, lastModified);
+    }
+
+    @Override
+    public String toString() {
+        return getName() + " Start date: " + getStartDate() + " Days: " + getDayCount()
+                + " Activities: " + getActivityCount() + " Last modified: " + getLastModified();
+    }
+}
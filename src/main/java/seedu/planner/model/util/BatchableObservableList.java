@@ -0,0 +1,58 @@
+package seedu.planner.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose changes can be grouped into a batch.
+ * Listeners are notified once, when the outermost batch ends, of all the changes made during it.
+ * Batches may be nested.
+ */
+public class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> list = new ArrayList<>();
+
+    /**
+     * Starts a batch of changes, which listeners of the list are notified of once the batch ends.
+     * Every call must be followed by a call to {@link #endBatch()}.
+     * <br> Reads of this list see every change made so far, but lists derived from it, such as
+     * {@code FilteredList} and {@code SortedList}, are only updated when they are notified.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends a batch, notifying listeners of its changes if it is the outermost batch.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        list.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return list.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return list.remove(index);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.planner.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates the ids that identify an {@code Activity}, {@code Accommodation} or {@code Contact} across edits.
+ * Ids are never reused within a run, including ids that were read from storage.
+ */
+public class IdGenerator {
+
+    private static final AtomicLong nextId = new AtomicLong(1);
+
+    private IdGenerator() {}
+
+    /**
+     * Returns an id that has not been generated or reserved before.
+     */
+    public static long nextId() {
+        return nextId.getAndIncrement();
+    }
+
+    /**
+     * Ensures that {@code id}, which is already in use, is never generated.
+     */
+    public static void reserve(long id) {
+        nextId.accumulateAndGet(id + 1, Math::max);
+    }
+}
@@ -0,0 +1,345 @@
+package seedu.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.planner.commons.core.LogsCenter;
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.commons.exceptions.IllegalValueException;
+import seedu.planner.commons.util.FileUtil;
+import seedu.planner.model.AccommodationManager;
+import seedu.planner.model.ActivityManager;
+import seedu.planner.model.ContactManager;
+import seedu.planner.model.Itinerary;
+import seedu.planner.model.ReadOnlyActivity;
+import seedu.planner.model.accommodation.Accommodation;
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.activity.Duration;
+import seedu.planner.model.activity.Priority;
+import seedu.planner.model.contact.Contact;
+import seedu.planner.model.contact.Email;
+import seedu.planner.model.contact.Phone;
+import seedu.planner.model.day.ActivityWithTime;
+import seedu.planner.model.day.Day;
+import seedu.planner.model.field.Address;
+import seedu.planner.model.field.Cost;
+import seedu.planner.model.field.Name;
+import seedu.planner.model.tag.Tag;
+import seedu.planner.model.util.IdGenerator;
+import seedu.planner.storage.day.ActivityReferences;
+
+/**
+ * Reads Planner data in the binary format written by {@link BinaryDataWriter}.
+ */
+public class BinaryDataReader {
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "File is not in the binary Planner format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary Planner format version %d is not supported.";
+    public static final String MESSAGE_INVALID_REFERENCE = "File refers to data that does not exist.";
+    public static final String MESSAGE_DUPLICATE_ACCOMMODATION = "Accommodation list contains duplicate "
+            + "accommodation(s).";
+    public static final String MESSAGE_DUPLICATE_ACTIVITY = "Activities list contains one or more duplicate "
+            + "activity.";
+    public static final String MESSAGE_DUPLICATE_CONTACT = "Contacts list contains duplicate contact(s).";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryDataReader.class);
+
+    private final DataInputStream in;
+    /** The size of the file, which no count of the items in it can exceed as each item takes at least a byte. */
+    private final long fileSize;
+    private final int version;
+    private final String[] strings;
+    private final List<Contact> contacts = new ArrayList<>();
+    private final List<Activity> activities = new ArrayList<>();
+
+    private BinaryDataReader(DataInputStream in, long fileSize) throws IOException, IllegalValueException {
+        this.in = in;
+        this.fileSize = fileSize;
+        if (in.readInt() != BinaryDataWriter.MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        version = in.readInt();
+        if (version < 1 || version > BinaryDataWriter.FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        strings = new String[readCount()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readCount()];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Returns the data read by {@code decoder} from {@code filePath}, or {@code Optional.empty()} if the file is
+     * not found.
+     * @throws DataConversionException if the file is not in the expected format or contains invalid data.
+     */
+    public static <T> Optional<T> readFile(Path filePath, Decoder<T> decoder) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream fileIn = FileUtil.newInputStream(filePath)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(fileIn));
+            return Optional.of(decoder.decode(new BinaryDataReader(in, Files.size(filePath))));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException | IllegalArgumentException | DateTimeException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    // ================ Planner data ==============================
+
+    /**
+     * Reads all accommodations into an {@code AccommodationManager}.
+     */
+    public AccommodationManager readAccommodations() throws IOException, IllegalValueException {
+        AccommodationManager accommodationManager = new AccommodationManager();
+        int count = readCount();
+        for (int i = 0; i < count; i++) {
+            long id = readId();
+            Name name = readName();
+            Address address = readAddress();
+            Contact contact = readContactReference();
+            Set<Tag> tags = readTags();
+            Accommodation accommodation = new Accommodation(id, name, address, contact, tags);
+            if (accommodationManager.hasAccommodation(accommodation)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ACCOMMODATION);
+            }
+            accommodationManager.addAccommodation(accommodation);
+        }
+        return accommodationManager;
+    }
+
+    /**
+     * Reads all activities into an {@code ActivityManager}.
+     */
+    public ActivityManager readActivities() throws IOException, IllegalValueException {
+        ActivityManager activityManager = new ActivityManager();
+        int count = readCount();
+        for (int i = 0; i < count; i++) {
+            Activity activity = readActivity();
+            if (activityManager.hasActivity(activity)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ACTIVITY);
+            }
+            activityManager.addActivity(activity);
+        }
+        return activityManager;
+    }
+
+    /**
+     * Reads all contacts into a {@code ContactManager}.
+     */
+    public ContactManager readContacts() throws IOException, IllegalValueException {
+        ContactManager contactManager = new ContactManager();
+        int count = readCount();
+        for (int i = 0; i < count; i++) {
+            Contact contact = readContact();
+            if (contactManager.hasContact(contact)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_CONTACT);
+            }
+            contactManager.addContact(contact);
+        }
+        return contactManager;
+    }
+
+    /**
+     * Reads the name, start date and all days of an {@code Itinerary}.
+     * Scheduled activities that are also in {@code activity} share its {@code Activity} objects.
+     */
+    public Itinerary readItinerary(ReadOnlyActivity activity) throws IOException, IllegalValueException {
+        ActivityReferences listedActivities = new ActivityReferences(activity.getActivityList());
+
+        Itinerary itinerary = new Itinerary(readName());
+        itinerary.setStartDate(LocalDate.ofEpochDay(in.readLong()));
+        int dayCount = readCount();
+        for (int i = 0; i < dayCount; i++) {
+            int activityCount = readCount();
+            List<ActivityWithTime> activitiesWithTime = new ArrayList<>();
+            for (int j = 0; j < activityCount; j++) {
+                Activity scheduledActivity = readActivityReference();
+                LocalDateTime startDateTime = LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC);
+                activitiesWithTime.add(new ActivityWithTime(
+                        toListedActivity(scheduledActivity, listedActivities), startDateTime));
+            }
+            itinerary.addDay(new Day(activitiesWithTime));
+        }
+        return itinerary;
+    }
+
+    /**
+     * Returns the activity in {@code listedActivities} that {@code scheduledActivity} refers to, or
+     * {@code scheduledActivity} itself if there is none.
+     * Files saved before activities had ids give their activities new ids whenever they are read, so their
+     * scheduled activities are matched by name and address instead.
+     */
+    private Activity toListedActivity(Activity scheduledActivity, ActivityReferences listedActivities) {
+        if (version >= BinaryDataWriter.FIRST_VERSION_WITH_IDS) {
+            return listedActivities.getActivity(scheduledActivity.getId()).orElse(scheduledActivity);
+        }
+        return listedActivities.getActivity(scheduledActivity.getName(), scheduledActivity.getAddress())
+                .filter(scheduledActivity::equals).orElse(scheduledActivity);
+    }
+
+    // ================ Records ==============================
+
+    private Activity readActivity() throws IOException, IllegalValueException {
+        long id = readId();
+        Name name = readName();
+        Address address = readAddress();
+        Contact contact = readContactReference();
+        String cost = readString();
+        if (cost != null && !Cost.isValidCost(cost)) {
+            throw new IllegalValueException(Cost.MESSAGE_CONSTRAINTS);
+        }
+        Set<Tag> tags = readTags();
+        int duration = in.readInt();
+        if (!Duration.isValidDuration(Integer.toString(duration))) {
+            throw new IllegalValueException(Duration.MESSAGE_CONSTRAINTS);
+        }
+        int priority = in.readInt();
+        if (!Priority.isValidPriority(Integer.toString(priority))) {
+            throw new IllegalValueException(Priority.MESSAGE_CONSTRAINTS);
+        }
+        return new Activity(id, name, address, contact, cost == null ? null : new Cost(cost), tags,
+                new Duration(duration), new Priority(priority));
+    }
+
+    private Contact readContact() throws IOException, IllegalValueException {
+        long id = readId();
+        Name name = readName();
+        String phone = readString();
+        if (phone == null || !Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String email = readString();
+        if (email != null && !Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        Address address = readAddress();
+        Set<Tag> tags = readTags();
+        return new Contact(id, name, new Phone(phone), email == null ? null : new Email(email), address, tags);
+    }
+
+    /**
+     * Reads the id of a record, or generates one if the file was written before records had ids.
+     */
+    private long readId() throws IOException {
+        return version >= BinaryDataWriter.FIRST_VERSION_WITH_IDS ? in.readLong() : IdGenerator.nextId();
+    }
+
+    /**
+     * Reads a reference to an activity, followed by the activity itself if it has not been read before.
+     */
+    private Activity readActivityReference() throws IOException, IllegalValueException {
+        int number = in.readInt();
+        if (number == activities.size()) {
+            activities.add(readActivity());
+        } else if (number < 0 || number > activities.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        return activities.get(number);
+    }
+
+    /**
+     * Reads a reference to a contact, followed by the contact itself if it has not been read before.
+     * Returns null if there is no contact.
+     */
+    private Contact readContactReference() throws IOException, IllegalValueException {
+        int number = in.readInt();
+        if (number == BinaryDataWriter.NULL_REFERENCE) {
+            return null;
+        } else if (number == contacts.size()) {
+            contacts.add(readContact());
+        } else if (number < 0 || number > contacts.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        return contacts.get(number);
+    }
+
+    private Name readName() throws IOException, IllegalValueException {
+        String name = readString();
+        if (name == null || !Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    private Address readAddress() throws IOException, IllegalValueException {
+        String address = readString();
+        if (address != null && !Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+        return address == null ? null : new Address(address);
+    }
+
+    private Set<Tag> readTags() throws IOException, IllegalValueException {
+        int count = readCount();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            String tagName = readString();
+            if (tagName == null || !Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+        return tags;
+    }
+
+    /**
+     * Reads the number of items that follow. The count is checked against the size of the file before it is used,
+     * so that a corrupted count cannot make the reader allocate more memory than the file could fill.
+     */
+    private int readCount() throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0 || count > fileSize) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        return count;
+    }
+
+    /**
+     * Reads a reference to a string in the string table. Returns null if there is no string.
+     */
+    private String readString() throws IOException, IllegalValueException {
+        int number = in.readInt();
+        if (number == BinaryDataWriter.NULL_REFERENCE) {
+            return null;
+        } else if (number < 0 || number >= strings.length) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE);
+        }
+        return strings[number];
+    }
+
+    /**
+     * Reads a type of Planner data using a {@code BinaryDataReader}.
+     */
+    @FunctionalInterface
+    public interface Decoder<T> {
+        T decode(BinaryDataReader reader) throws IOException, IllegalValueException;
+    }
+}
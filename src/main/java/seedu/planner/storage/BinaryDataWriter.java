@@ -0,0 +1,220 @@
+package seedu.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.planner.commons.util.FileUtil;
+import seedu.planner.model.ReadOnlyAccommodation;
+import seedu.planner.model.ReadOnlyActivity;
+import seedu.planner.model.ReadOnlyContact;
+import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.model.accommodation.Accommodation;
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.contact.Contact;
+import seedu.planner.model.day.ActivityWithTime;
+import seedu.planner.model.day.Day;
+import seedu.planner.model.tag.Tag;
+
+/**
+ * Writes Planner data in a compact binary format that is read by {@link BinaryDataReader}.
+ * <br> A file consists of a header, a table of all strings in the file and the records of the file.
+ * Records refer to strings by their position in the table, so repeated names, addresses and tags are stored once.
+ * Contacts and activities are stored in full the first time they appear and referred to by number afterwards.
+ */
+public class BinaryDataWriter {
+
+    public static final String FILE_EXTENSION = "bin";
+    static final int MAGIC_NUMBER = 0x50325442;
+    static final int FORMAT_VERSION = 2;
+    /** The first version that records the id of each accommodation, activity and contact. */
+    static final int FIRST_VERSION_WITH_IDS = 2;
+    static final int NULL_REFERENCE = -1;
+
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(records);
+    private final Map<String, Integer> stringNumbers = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final Map<Contact, Integer> contactNumbers = new HashMap<>();
+    private final Map<Long, Integer> activityNumbers = new HashMap<>();
+
+    private BinaryDataWriter() {}
+
+    /**
+     * Writes the data given to {@code encoder} to {@code filePath}, replacing the file atomically.
+     */
+    public static void writeFile(Path filePath, Encoder encoder) throws IOException {
+        requireNonNull(filePath);
+
+        BinaryDataWriter writer = new BinaryDataWriter();
+        encoder.encode(writer);
+        FileUtil.writeToFileAtomically(filePath, writer::writeTo);
+    }
+
+    private void writeTo(OutputStream target) throws IOException {
+        DataOutputStream fileOut = new DataOutputStream(target);
+        fileOut.writeInt(MAGIC_NUMBER);
+        fileOut.writeInt(FORMAT_VERSION);
+        fileOut.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            fileOut.writeInt(bytes.length);
+            fileOut.write(bytes);
+        }
+        records.writeTo(fileOut);
+        fileOut.flush();
+    }
+
+    // ================ Planner data ==============================
+
+    /**
+     * Writes all accommodations in {@code accommodation}.
+     */
+    public void writeAccommodations(ReadOnlyAccommodation accommodation) throws IOException {
+        out.writeInt(accommodation.getAccommodationList().size());
+        for (Accommodation a : accommodation.getAccommodationList()) {
+            out.writeLong(a.getId());
+            writeString(a.getName().name);
+            writeString(a.getAddress() == null ? null : a.getAddress().value);
+            writeContactReference(a.getContact().orElse(null));
+            writeTags(a.getTags());
+        }
+    }
+
+    /**
+     * Writes all activities in {@code activity}.
+     */
+    public void writeActivities(ReadOnlyActivity activity) throws IOException {
+        out.writeInt(activity.getActivityList().size());
+        for (Activity a : activity.getActivityList()) {
+            writeActivity(a);
+        }
+    }
+
+    /**
+     * Writes all contacts in {@code contact}.
+     */
+    public void writeContacts(ReadOnlyContact contact) throws IOException {
+        out.writeInt(contact.getContactList().size());
+        for (Contact c : contact.getContactList()) {
+            writeContact(c);
+        }
+    }
+
+    /**
+     * Writes the name, start date and all days of {@code itinerary}.
+     */
+    public void writeItinerary(ReadOnlyItinerary itinerary) throws IOException {
+        writeString(itinerary.getName().name);
+        out.writeLong(itinerary.getStartDate().toEpochDay());
+        out.writeInt(itinerary.getItinerary().size());
+        for (Day day : itinerary.getItinerary()) {
+            List<ActivityWithTime> activitiesWithTime = day.getListOfActivityWithTime();
+            out.writeInt(activitiesWithTime.size());
+            for (ActivityWithTime activityWithTime : activitiesWithTime) {
+                writeActivityReference(activityWithTime.getActivity());
+                out.writeLong(activityWithTime.getStartDateTime().toEpochSecond(ZoneOffset.UTC));
+            }
+        }
+    }
+
+    // ================ Records ==============================
+
+    private void writeActivity(Activity activity) throws IOException {
+        out.writeLong(activity.getId());
+        writeString(activity.getName().name);
+        writeString(activity.getAddress() == null ? null : activity.getAddress().value);
+        writeContactReference(activity.getContact().orElse(null));
+        writeString(activity.getCost().map(cost -> cost.cost).orElse(null));
+        writeTags(activity.getTags());
+        out.writeInt(activity.getDuration().value);
+        out.writeInt(activity.getPriority().priorityValue);
+    }
+
+    private void writeContact(Contact contact) throws IOException {
+        out.writeLong(contact.getId());
+        writeString(contact.getName().name);
+        writeString(contact.getPhone().value);
+        writeString(contact.getEmail().map(email -> email.value).orElse(null));
+        writeString(contact.getAddress().map(address -> address.value).orElse(null));
+        writeTags(contact.getTags());
+    }
+
+    /**
+     * Writes the number of {@code activity}, followed by the activity itself if no activity with its id has been
+     * written before.
+     */
+    private void writeActivityReference(Activity activity) throws IOException {
+        Integer number = activityNumbers.get(activity.getId());
+        if (number != null) {
+            out.writeInt(number);
+            return;
+        }
+        number = activityNumbers.size();
+        activityNumbers.put(activity.getId(), number);
+        out.writeInt(number);
+        writeActivity(activity);
+    }
+
+    /**
+     * Writes the number of {@code contact}, followed by the contact itself if it has not been written before.
+     */
+    private void writeContactReference(Contact contact) throws IOException {
+        if (contact == null) {
+            out.writeInt(NULL_REFERENCE);
+            return;
+        }
+        Integer number = contactNumbers.get(contact);
+        if (number != null) {
+            out.writeInt(number);
+            return;
+        }
+        number = contactNumbers.size();
+        contactNumbers.put(contact, number);
+        out.writeInt(number);
+        writeContact(contact);
+    }
+
+    private void writeTags(Set<Tag> tags) throws IOException {
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            writeString(tag.tagName);
+        }
+    }
+
+    /**
+     * Writes the position of {@code string} in the string table, adding it to the table if needed.
+     */
+    private void writeString(String string) throws IOException {
+        if (string == null) {
+            out.writeInt(NULL_REFERENCE);
+            return;
+        }
+        Integer number = stringNumbers.get(string);
+        if (number == null) {
+            number = strings.size();
+            stringNumbers.put(string, number);
+            strings.add(string);
+        }
+        out.writeInt(number);
+    }
+
+    /**
+     * Writes a type of Planner data using a {@code BinaryDataWriter}.
+     */
+    @FunctionalInterface
+    public interface Encoder {
+        void encode(BinaryDataWriter writer) throws IOException;
+    }
+}
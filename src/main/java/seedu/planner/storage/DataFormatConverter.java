@@ -0,0 +1,71 @@
+package seedu.planner.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.planner.commons.core.LogsCenter;
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.commons.util.FileUtil;
+
+/**
+ * Converts a data file between the json and binary formats when the format selected in the user preferences
+ * changes.
+ * <br> The data is read from the file in the other format, saved in the selected format, and the old file is then
+ * deleted, so that the two files never hold different versions of the same data.
+ */
+public class DataFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFormatConverter.class);
+
+    private DataFormatConverter() {}
+
+    /**
+     * Returns true if {@code filePath} does not exist but {@code oldFilePath}, in the other format, does.
+     */
+    public static boolean isConversionNeeded(Path oldFilePath, Path filePath) {
+        return !FileUtil.isFileExists(filePath) && FileUtil.isFileExists(oldFilePath);
+    }
+
+    /**
+     * Returns the data read by {@code reader} from {@code oldFilePath}, after saving it to {@code filePath} with
+     * {@code writer} and deleting {@code oldFilePath}.
+     * If the data cannot be saved, the old file is kept and converted again on the next read.
+     *
+     * @throws DataConversionException if the old file is not in the correct format.
+     */
+    public static <T> Optional<T> convert(Path oldFilePath, Path filePath, DataReader<T> reader,
+                                          DataWriter<T> writer) throws DataConversionException {
+        logger.info("Converting " + oldFilePath + " to " + filePath);
+        Optional<T> data = reader.read();
+        if (!data.isPresent()) {
+            return data;
+        }
+
+        try {
+            writer.write(data.get(), filePath);
+            Files.delete(oldFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to convert " + oldFilePath + " to " + filePath + ": " + e);
+        }
+        return data;
+    }
+
+    /**
+     * Reads data from a file in the old format.
+     */
+    @FunctionalInterface
+    public interface DataReader<T> {
+        Optional<T> read() throws DataConversionException;
+    }
+
+    /**
+     * Saves data to a file in the selected format.
+     */
+    @FunctionalInterface
+    public interface DataWriter<T> {
+        void write(T data, Path filePath) throws IOException;
+    }
+}
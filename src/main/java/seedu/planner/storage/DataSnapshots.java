@@ -0,0 +1,84 @@
+package seedu.planner.storage;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.model.day.Day;
+import seedu.planner.model.field.Name;
+
+/**
+ * Copies Planner data so that it can be saved later without being affected by further changes to the model.
+ */
+final class DataSnapshots {
+
+    private DataSnapshots() {}
+
+    /**
+     * Returns an unmodifiable copy of {@code list}. The elements are immutable and can be shared.
+     */
+    static <T> ObservableList<T> listOf(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    /**
+     * Returns an immutable copy of {@code itinerary}.
+     */
+    static ReadOnlyItinerary itineraryOf(ReadOnlyItinerary itinerary) {
+        return new ItinerarySnapshot(itinerary);
+    }
+
+    /**
+     * An immutable copy of a {@code ReadOnlyItinerary}. Days are copied as they can be modified in place.
+     */
+    private static class ItinerarySnapshot implements ReadOnlyItinerary {
+        private final ObservableList<Day> days;
+        private final Name name;
+        private final LocalDate startDate;
+        private final LocalDateTime lastDateTime;
+
+        ItinerarySnapshot(ReadOnlyItinerary source) {
+            days = listOf(source.getItinerary().stream()
+                    .map(day -> new Day(day.getListOfActivityWithTime()))
+                    .collect(Collectors.toList()));
+            name = source.getName();
+            startDate = source.getStartDate();
+            lastDateTime = source.getLastDateTime();
+        }
+
+        @Override
+        public ObservableList<Day> getItinerary() {
+            return days;
+        }
+
+        @Override
+        public Name getName() {
+            return name;
+        }
+
+        @Override
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        @Override
+        public LocalDateTime getLastDateTime() {
+            return lastDateTime;
+        }
+
+        @Override
+        public SimpleObjectProperty<LocalDate> getStartDateProperty() {
+            return new SimpleObjectProperty<>(startDate);
+        }
+
+        @Override
+        public SimpleObjectProperty<Name> getNameProperty() {
+            return new SimpleObjectProperty<>(name);
+        }
+    }
+}
@@ -0,0 +1,513 @@
+package seedu.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.planner.commons.core.LogsCenter;
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.commons.exceptions.IllegalValueException;
+import seedu.planner.commons.util.FileUtil;
+import seedu.planner.commons.util.JsonUtil;
+import seedu.planner.model.AccommodationManager;
+import seedu.planner.model.ActivityManager;
+import seedu.planner.model.ContactManager;
+import seedu.planner.model.Itinerary;
+import seedu.planner.model.ReadOnlyAccommodation;
+import seedu.planner.model.ReadOnlyActivity;
+import seedu.planner.model.ReadOnlyContact;
+import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.model.accommodation.Accommodation;
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.contact.Contact;
+import seedu.planner.model.day.ActivityWithTime;
+import seedu.planner.model.day.Day;
+import seedu.planner.storage.accommodation.AccommodationStorage;
+import seedu.planner.storage.activity.ActivityStorage;
+import seedu.planner.storage.contact.ContactStorage;
+import seedu.planner.storage.day.ActivityReferences;
+import seedu.planner.storage.day.ItineraryStorage;
+import seedu.planner.storage.planner.PlannerCatalogStorage;
+
+/**
+ * A {@code StorageManager} that records changes to the current planner in an append-only journal.
+ * Each save appends only what changed since the previous save, instead of rewriting the whole data file.
+ * Once the journal reaches {@link #COMPACTION_THRESHOLD} entries, the data files are rewritten on a background
+ * thread and the entries they now contain are removed from the journal.
+ * Reads replay the journal on top of the data files, so a planner is never missing changes that were recorded.
+ * <br> Only the disk writes are proportional to the change. To find what changed, each save still snapshots the
+ * whole list and compares it with the previous snapshot, so it takes time proportional to the size of the planner.
+ */
+public class JournalingStorageManager extends StorageManager {
+
+    public static final String JOURNAL_FILE_NAME = "journal.log";
+    static final int COMPACTION_THRESHOLD = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingStorageManager.class);
+
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The data last recorded for the current planner, or null if it has not been recorded or read yet. */
+    private List<Accommodation> savedAccommodations;
+    private List<Activity> savedActivities;
+    private List<Contact> savedContacts;
+    private ReadOnlyItinerary savedItinerary;
+    /** The number of entries in the journal of the current planner that are not in its data files yet. */
+    private int journalLength;
+    private boolean isCompactionScheduled;
+    private IOException compactionFailure;
+
+    public JournalingStorageManager(AccommodationStorage accommodationStorage, ActivityStorage activityStorage,
+                                    ContactStorage contactStorage, ItineraryStorage itineraryStorage,
+                                    UserPrefsStorage userPrefsStorage,
+                                    PlannerCatalogStorage plannerCatalogStorage) {
+        super(accommodationStorage, activityStorage, contactStorage, itineraryStorage, userPrefsStorage,
+                plannerCatalogStorage);
+    }
+
+    // ================ Journal methods ==============================
+
+    /**
+     * Returns the path of the journal of the planner that {@code itineraryFilePath} belongs to.
+     */
+    public static Path getJournalFilePath(Path itineraryFilePath) {
+        return itineraryFilePath.resolveSibling(JOURNAL_FILE_NAME);
+    }
+
+    /**
+     * Appends {@code entry}, if present, to the journal of the current planner.
+     * Schedules a compaction once the journal is long enough.
+     */
+    private void record(Optional<JsonAdaptedJournalEntry> entry) throws IOException {
+        assert Thread.holdsLock(this);
+        throwIfCompactionFailed();
+        if (!entry.isPresent()) {
+            return;
+        }
+        FileUtil.appendToFile(getJournalFilePath(getItineraryFilePath()), JsonUtil.toJsonLine(entry.get()) + "\n");
+        journalLength++;
+        if (journalLength >= COMPACTION_THRESHOLD && !isCompactionScheduled) {
+            isCompactionScheduled = true;
+            compactor.execute(this::compactInBackground);
+        }
+    }
+
+    /**
+     * Returns the entries in the journal next to {@code dataFilePath}, in the order they were recorded.
+     * An incomplete last entry, left by a save that was interrupted, is ignored and removed from the journal.
+     *
+     * @throws DataConversionException if any other entry cannot be read.
+     */
+    private synchronized List<JsonAdaptedJournalEntry> readJournal(Path dataFilePath)
+            throws DataConversionException, IOException {
+        Path journalFilePath = getJournalFilePath(dataFilePath);
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return entries;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            try {
+                entries.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Error reading entry " + (i + 1) + " of journal " + journalFilePath + ": " + e);
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                writeJournal(journalFilePath, lines.subList(0, i));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Replaces the journal at {@code journalFilePath} with {@code lines}, deleting it if there are none.
+     */
+    private static void writeJournal(Path journalFilePath, List<String> lines) throws IOException {
+        if (lines.isEmpty()) {
+            Files.deleteIfExists(journalFilePath);
+            FileUtil.getBackupFilePath(journalFilePath).toFile().delete();
+            return;
+        }
+        FileUtil.writeToFileAtomically(journalFilePath, String.join("\n", lines) + "\n");
+    }
+
+    /**
+     * Writes the recorded data of the current planner to its data files, and removes the journal entries that
+     * they now contain. Does nothing if the journal is empty or if some of the data has not been recorded yet.
+     */
+    private void compact() throws IOException {
+        List<Accommodation> accommodations;
+        List<Activity> activities;
+        List<Contact> contacts;
+        ReadOnlyItinerary itinerary;
+        int compactedLength;
+        Path accommodationFilePath;
+        Path activityFilePath;
+        Path contactFilePath;
+        Path itineraryFilePath;
+        synchronized (this) {
+            isCompactionScheduled = false;
+            if (journalLength == 0 || savedAccommodations == null || savedActivities == null
+                    || savedContacts == null || savedItinerary == null) {
+                return;
+            }
+            accommodations = savedAccommodations;
+            activities = savedActivities;
+            contacts = savedContacts;
+            itinerary = savedItinerary;
+            compactedLength = journalLength;
+            accommodationFilePath = getAccommodationFilePath();
+            activityFilePath = getActivityFilePath();
+            contactFilePath = getContactFilePath();
+            itineraryFilePath = getItineraryFilePath();
+        }
+
+        super.saveAccommodation(() -> DataSnapshots.listOf(accommodations), accommodationFilePath);
+        super.saveActivity(() -> DataSnapshots.listOf(activities), activityFilePath);
+        super.saveContact(() -> DataSnapshots.listOf(contacts), contactFilePath);
+        super.saveItinerary(itinerary, itineraryFilePath);
+
+        synchronized (this) {
+            Path journalFilePath = getJournalFilePath(itineraryFilePath);
+            if (FileUtil.isFileExists(journalFilePath)) {
+                List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+                writeJournal(journalFilePath, lines.subList(Math.min(compactedLength, lines.size()), lines.size()));
+            }
+            if (itineraryFilePath.equals(getItineraryFilePath())) {
+                journalLength = Math.max(0, journalLength - compactedLength);
+            }
+        }
+        logger.fine("Compacted " + compactedLength + " journal entries into the data files");
+    }
+
+    /**
+     * Runs {@link #compact()} on the compactor thread, keeping any error for the next save or {@link #flush()}.
+     */
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (IOException e) {
+            logger.warning("Failed to compact the journal in the background: " + e);
+            synchronized (this) {
+                if (compactionFailure == null) {
+                    compactionFailure = e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Throws the first error encountered by the compactor thread since the last call, if any.
+     */
+    private synchronized void throwIfCompactionFailed() throws IOException {
+        IOException failure = compactionFailure;
+        compactionFailure = null;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Compacts the journal of the current planner, so that all of its data is in the data files.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            compactor.submit(() -> {
+                compact();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the journal to be compacted");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        }
+        throwIfCompactionFailed();
+    }
+
+    // ================ AccommodationStorage methods ==============================
+
+    @Override
+    public synchronized void setAccommodationFilePath(Path accommodationFilePath) {
+        super.setAccommodationFilePath(accommodationFilePath);
+        savedAccommodations = null;
+    }
+
+    @Override
+    public Optional<ReadOnlyAccommodation> readAccommodation(Path filePath) throws DataConversionException,
+            IOException {
+        Optional<ReadOnlyAccommodation> accommodation = super.readAccommodation(filePath);
+        List<JsonAdaptedJournalEntry> journal = readJournal(filePath);
+        if (journal.stream().anyMatch(JsonAdaptedJournalEntry::hasAccommodations)) {
+            List<Accommodation> accommodations = accommodation.<List<Accommodation>>map(
+                    ReadOnlyAccommodation::getAccommodationList).orElse(List.of());
+            try {
+                for (JsonAdaptedJournalEntry entry : journal) {
+                    if (entry.hasAccommodations()) {
+                        accommodations = entry.applyToAccommodations(accommodations);
+                    }
+                }
+                AccommodationManager accommodationManager = new AccommodationManager();
+                accommodationManager.setAccommodations(accommodations);
+                accommodation = Optional.of(accommodationManager);
+            } catch (IllegalValueException | RuntimeException e) {
+                logger.info("Illegal values found in journal of " + filePath + ": " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+        }
+
+        synchronized (this) {
+            if (filePath.equals(getAccommodationFilePath())) {
+                savedAccommodations = accommodation.map(a -> List.copyOf(a.getAccommodationList())).orElse(null);
+                journalLength = journal.size();
+            }
+        }
+        return accommodation;
+    }
+
+    @Override
+    public synchronized void saveAccommodation(ReadOnlyAccommodation accommodation, Path filePath)
+            throws IOException {
+        requireNonNull(accommodation);
+        if (!filePath.equals(getAccommodationFilePath())) {
+            super.saveAccommodation(accommodation, filePath);
+            return;
+        }
+        List<Accommodation> snapshot = List.copyOf(accommodation.getAccommodationList());
+        record(JsonAdaptedJournalEntry.ofAccommodations(savedAccommodations, snapshot));
+        savedAccommodations = snapshot;
+    }
+
+    // ================ ActivityStorage methods ==============================
+
+    @Override
+    public synchronized void setActivityFilePath(Path activityFilePath) {
+        super.setActivityFilePath(activityFilePath);
+        savedActivities = null;
+    }
+
+    @Override
+    public Optional<ReadOnlyActivity> readActivity(Path filePath) throws DataConversionException, IOException {
+        Optional<ReadOnlyActivity> activity = super.readActivity(filePath);
+        List<JsonAdaptedJournalEntry> journal = readJournal(filePath);
+        if (journal.stream().anyMatch(JsonAdaptedJournalEntry::hasActivities)) {
+            List<Activity> activities = activity.<List<Activity>>map(ReadOnlyActivity::getActivityList)
+                    .orElse(List.of());
+            try {
+                for (JsonAdaptedJournalEntry entry : journal) {
+                    if (entry.hasActivities()) {
+                        activities = entry.applyToActivities(activities);
+                    }
+                }
+                ActivityManager activityManager = new ActivityManager();
+                activityManager.setActivities(activities);
+                activity = Optional.of(activityManager);
+            } catch (IllegalValueException | RuntimeException e) {
+                logger.info("Illegal values found in journal of " + filePath + ": " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+        }
+
+        synchronized (this) {
+            if (filePath.equals(getActivityFilePath())) {
+                savedActivities = activity.map(a -> List.copyOf(a.getActivityList())).orElse(null);
+                journalLength = journal.size();
+            }
+        }
+        return activity;
+    }
+
+    @Override
+    public synchronized void saveActivity(ReadOnlyActivity activity, Path filePath) throws IOException {
+        requireNonNull(activity);
+        if (!filePath.equals(getActivityFilePath())) {
+            super.saveActivity(activity, filePath);
+            return;
+        }
+        List<Activity> snapshot = List.copyOf(activity.getActivityList());
+        record(JsonAdaptedJournalEntry.ofActivities(savedActivities, snapshot));
+        savedActivities = snapshot;
+    }
+
+    // ================ ContactStorage methods ==============================
+
+    @Override
+    public synchronized void setContactFilePath(Path contactFilePath) {
+        super.setContactFilePath(contactFilePath);
+        savedContacts = null;
+    }
+
+    @Override
+    public Optional<ReadOnlyContact> readContact(Path filePath) throws DataConversionException, IOException {
+        Optional<ReadOnlyContact> contact = super.readContact(filePath);
+        List<JsonAdaptedJournalEntry> journal = readJournal(filePath);
+        if (journal.stream().anyMatch(JsonAdaptedJournalEntry::hasContacts)) {
+            List<Contact> contacts = contact.<List<Contact>>map(ReadOnlyContact::getContactList).orElse(List.of());
+            try {
+                for (JsonAdaptedJournalEntry entry : journal) {
+                    if (entry.hasContacts()) {
+                        contacts = entry.applyToContacts(contacts);
+                    }
+                }
+                ContactManager contactManager = new ContactManager();
+                contactManager.setContacts(contacts);
+                contact = Optional.of(contactManager);
+            } catch (IllegalValueException | RuntimeException e) {
+                logger.info("Illegal values found in journal of " + filePath + ": " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+        }
+
+        synchronized (this) {
+            if (filePath.equals(getContactFilePath())) {
+                savedContacts = contact.map(c -> List.copyOf(c.getContactList())).orElse(null);
+                journalLength = journal.size();
+            }
+        }
+        return contact;
+    }
+
+    @Override
+    public synchronized void saveContact(ReadOnlyContact contact, Path filePath) throws IOException {
+        requireNonNull(contact);
+        if (!filePath.equals(getContactFilePath())) {
+            super.saveContact(contact, filePath);
+            return;
+        }
+        List<Contact> snapshot = List.copyOf(contact.getContactList());
+        record(JsonAdaptedJournalEntry.ofContacts(savedContacts, snapshot));
+        savedContacts = snapshot;
+    }
+
+    // ================ ItineraryStorage methods ==============================
+
+    @Override
+    public synchronized void setItineraryFilePath(Path itineraryFilePath) {
+        super.setItineraryFilePath(itineraryFilePath);
+        savedItinerary = null;
+        journalLength = 0;
+    }
+
+    @Override
+    public Optional<ReadOnlyItinerary> readItinerary(Path filePath, ReadOnlyActivity activity)
+            throws DataConversionException, IOException {
+        List<JsonAdaptedJournalEntry> journal = readJournal(filePath);
+        Optional<ReadOnlyItinerary> itinerary;
+        if (journal.stream().anyMatch(JsonAdaptedJournalEntry::hasItinerary)) {
+            itinerary = Optional.of(replayItinerary(filePath, journal, activity));
+        } else {
+            itinerary = super.readItinerary(filePath, activity);
+        }
+
+        synchronized (this) {
+            if (filePath.equals(getItineraryFilePath())) {
+                savedItinerary = itinerary.map(DataSnapshots::itineraryOf).orElse(null);
+                journalLength = journal.size();
+            }
+        }
+        return itinerary;
+    }
+
+    /**
+     * Returns the itinerary in the data file at {@code filePath} with the changes in {@code journal} applied.
+     * Each day refers to its activities as they were when the day was saved, which may since have been edited or
+     * deleted, so the activity changes in the journal are replayed in step with the itinerary changes. The scheduled
+     * activities of the result are then shared with {@code activity}, the activity list after the whole journal.
+     */
+    private Itinerary replayItinerary(Path filePath, List<JsonAdaptedJournalEntry> journal,
+                                      ReadOnlyActivity activity) throws DataConversionException, IOException {
+        Path activityFilePath = filePath.resolveSibling(getActivityFilePath().getFileName());
+        List<Activity> activities = super.readActivity(activityFilePath)
+                .<List<Activity>>map(ReadOnlyActivity::getActivityList).orElse(List.of());
+        try {
+            ActivityManager savedActivity = new ActivityManager();
+            savedActivity.setActivities(activities);
+            Itinerary changedItinerary = super.readItinerary(filePath, savedActivity)
+                    .map(Itinerary::new).orElseGet(Itinerary::new);
+            for (JsonAdaptedJournalEntry entry : journal) {
+                if (entry.hasActivities()) {
+                    activities = entry.applyToActivities(activities);
+                }
+                changedItinerary = entry.applyToItinerary(changedItinerary, activities);
+            }
+            return shareActivities(changedItinerary, activity);
+        } catch (IllegalValueException | RuntimeException e) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns {@code itinerary} with each scheduled activity replaced by the activity with the same id in
+     * {@code activity}, if there is one.
+     */
+    private static Itinerary shareActivities(Itinerary itinerary, ReadOnlyActivity activity) {
+        ActivityReferences listedActivities = new ActivityReferences(activity.getActivityList());
+        List<Day> days = new ArrayList<>();
+        for (Day day : itinerary.getItinerary()) {
+            List<ActivityWithTime> activitiesWithTime = new ArrayList<>();
+            for (ActivityWithTime activityWithTime : day.getListOfActivityWithTime()) {
+                Activity scheduledActivity = activityWithTime.getActivity();
+                activitiesWithTime.add(new ActivityWithTime(
+                        listedActivities.getActivity(scheduledActivity.getId()).orElse(scheduledActivity),
+                        activityWithTime.getStartDateTime()));
+            }
+            days.add(new Day(activitiesWithTime));
+        }
+        itinerary.setDays(days);
+        return itinerary;
+    }
+
+    @Override
+    public synchronized void saveItinerary(ReadOnlyItinerary itinerary, Path filePath) throws IOException {
+        requireNonNull(itinerary);
+        if (!filePath.equals(getItineraryFilePath())) {
+            super.saveItinerary(itinerary, filePath);
+            return;
+        }
+        ReadOnlyItinerary snapshot = DataSnapshots.itineraryOf(itinerary);
+        record(JsonAdaptedJournalEntry.ofItinerary(savedItinerary, snapshot));
+        savedItinerary = snapshot;
+    }
+
+    // ================ PlannerFilePath methods ==============================
+
+    @Override
+    public void deletePlannerFilePath() {
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.warning("Failed to compact the journal before deleting the planner: " + e);
+        }
+        synchronized (this) {
+            Path journalFilePath = getJournalFilePath(getItineraryFilePath());
+            journalFilePath.toFile().delete();
+            FileUtil.getBackupFilePath(journalFilePath).toFile().delete();
+            savedAccommodations = null;
+            savedActivities = null;
+            savedContacts = null;
+            savedItinerary = null;
+            journalLength = 0;
+            super.deletePlannerFilePath();
+        }
+    }
+}
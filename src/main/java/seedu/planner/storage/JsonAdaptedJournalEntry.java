@@ -0,0 +1,344 @@
+package seedu.planner.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.planner.commons.exceptions.IllegalValueException;
+import seedu.planner.model.Itinerary;
+import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.model.accommodation.Accommodation;
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.contact.Contact;
+import seedu.planner.model.day.Day;
+import seedu.planner.model.field.Name;
+import seedu.planner.storage.accommodation.JsonAdaptedAccommodation;
+import seedu.planner.storage.activity.JsonAdaptedActivity;
+import seedu.planner.storage.contact.JsonAdaptedContact;
+import seedu.planner.storage.day.ActivityReferences;
+import seedu.planner.storage.day.JsonAdaptedDay;
+
+/**
+ * Jackson-friendly record of a change to one type of Planner data, stored as a line of the journal.
+ * <br> Accommodations, activities and contacts are recorded by identity: the ones that were removed, and the ones
+ * that were added or edited together with their position. Days are recorded by position. A reset entry holds the
+ * whole data instead of a change. Applying an entry to data that already contains the change leaves the data
+ * unchanged, so entries that were already compacted into a snapshot can safely be replayed again.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_DAY = "Journal entry refers to a day that does not exist.";
+    public static final String MESSAGE_INVALID_DATE = "Journal entry's start date should be in ISO-8601 format.";
+
+    private final boolean isReset;
+    private final List<JsonAdaptedAccommodation> removedAccommodations;
+    private final Map<Integer, JsonAdaptedAccommodation> accommodations;
+    private final List<JsonAdaptedActivity> removedActivities;
+    private final Map<Integer, JsonAdaptedActivity> activities;
+    private final List<JsonAdaptedContact> removedContacts;
+    private final Map<Integer, JsonAdaptedContact> contacts;
+    private final String itineraryName;
+    private final String startDate;
+    private final Integer dayCount;
+    private final Map<Integer, JsonAdaptedDay> days;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("isReset") boolean isReset,
+            @JsonProperty("removedAccommodations") List<JsonAdaptedAccommodation> removedAccommodations,
+            @JsonProperty("accommodations") Map<Integer, JsonAdaptedAccommodation> accommodations,
+            @JsonProperty("removedActivities") List<JsonAdaptedActivity> removedActivities,
+            @JsonProperty("activities") Map<Integer, JsonAdaptedActivity> activities,
+            @JsonProperty("removedContacts") List<JsonAdaptedContact> removedContacts,
+            @JsonProperty("contacts") Map<Integer, JsonAdaptedContact> contacts,
+            @JsonProperty("itineraryName") String itineraryName, @JsonProperty("startDate") String startDate,
+            @JsonProperty("dayCount") Integer dayCount, @JsonProperty("days") Map<Integer, JsonAdaptedDay> days) {
+        this.isReset = isReset;
+        this.removedAccommodations = removedAccommodations;
+        this.accommodations = accommodations;
+        this.removedActivities = removedActivities;
+        this.activities = activities;
+        this.removedContacts = removedContacts;
+        this.contacts = contacts;
+        this.itineraryName = itineraryName;
+        this.startDate = startDate;
+        this.dayCount = dayCount;
+        this.days = days;
+    }
+
+    // ================ Recording changes ==============================
+
+    /**
+     * Returns the entry that changes {@code savedAccommodations} into {@code accommodations}, or an empty
+     * {@code Optional} if they are the same. A reset entry is returned if {@code savedAccommodations} is null.
+     */
+    static Optional<JsonAdaptedJournalEntry> ofAccommodations(List<Accommodation> savedAccommodations,
+                                                              List<Accommodation> accommodations) {
+        List<JsonAdaptedAccommodation> removed = getRemoved(savedAccommodations, accommodations,
+                JsonAdaptedJournalEntry::getIdentity, JsonAdaptedAccommodation::new);
+        Map<Integer, JsonAdaptedAccommodation> changed = getChanged(savedAccommodations, accommodations,
+                JsonAdaptedJournalEntry::getIdentity, JsonAdaptedAccommodation::new);
+        if (savedAccommodations != null && removed.isEmpty() && changed.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new JsonAdaptedJournalEntry(savedAccommodations == null, removed, changed,
+                null, null, null, null, null, null, null, null));
+    }
+
+    /**
+     * Returns the entry that changes {@code savedActivities} into {@code activities}, or an empty
+     * {@code Optional} if they are the same. A reset entry is returned if {@code savedActivities} is null.
+     */
+    static Optional<JsonAdaptedJournalEntry> ofActivities(List<Activity> savedActivities, List<Activity> activities) {
+        List<JsonAdaptedActivity> removed = getRemoved(savedActivities, activities,
+                JsonAdaptedJournalEntry::getIdentity, JsonAdaptedActivity::new);
+        Map<Integer, JsonAdaptedActivity> changed = getChanged(savedActivities, activities,
+                JsonAdaptedJournalEntry::getIdentity, JsonAdaptedActivity::new);
+        if (savedActivities != null && removed.isEmpty() && changed.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new JsonAdaptedJournalEntry(savedActivities == null, null, null, removed, changed,
+                null, null, null, null, null, null));
+    }
+
+    /**
+     * Returns the entry that changes {@code savedContacts} into {@code contacts}, or an empty
+     * {@code Optional} if they are the same. A reset entry is returned if {@code savedContacts} is null.
+     */
+    static Optional<JsonAdaptedJournalEntry> ofContacts(List<Contact> savedContacts, List<Contact> contacts) {
+        List<JsonAdaptedContact> removed = getRemoved(savedContacts, contacts,
+                JsonAdaptedJournalEntry::getIdentity, JsonAdaptedContact::new);
+        Map<Integer, JsonAdaptedContact> changed = getChanged(savedContacts, contacts,
+                JsonAdaptedJournalEntry::getIdentity, JsonAdaptedContact::new);
+        if (savedContacts != null && removed.isEmpty() && changed.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new JsonAdaptedJournalEntry(savedContacts == null, null, null, null, null,
+                removed, changed, null, null, null, null));
+    }
+
+    /**
+     * Returns the entry that changes {@code savedItinerary} into {@code itinerary}, or an empty {@code Optional}
+     * if they are the same. All days are recorded if {@code savedItinerary} is null.
+     */
+    static Optional<JsonAdaptedJournalEntry> ofItinerary(ReadOnlyItinerary savedItinerary,
+                                                         ReadOnlyItinerary itinerary) {
+        List<Day> savedDays = savedItinerary == null ? List.of() : savedItinerary.getItinerary();
+        List<Day> itineraryDays = itinerary.getItinerary();
+        Map<Integer, JsonAdaptedDay> changed = new TreeMap<>();
+        for (int i = 0; i < itineraryDays.size(); i++) {
+            if (i >= savedDays.size() || !savedDays.get(i).equals(itineraryDays.get(i))) {
+                changed.put(i, new JsonAdaptedDay(itineraryDays.get(i)));
+            }
+        }
+        if (savedItinerary != null && changed.isEmpty() && savedDays.size() == itineraryDays.size()
+                && savedItinerary.getName().equals(itinerary.getName())
+                && savedItinerary.getStartDate().equals(itinerary.getStartDate())) {
+            return Optional.empty();
+        }
+        return Optional.of(new JsonAdaptedJournalEntry(false, null, null, null, null, null, null,
+                itinerary.getName().name, itinerary.getStartDate().toString(), itineraryDays.size(), changed));
+    }
+
+    // ================ Replaying changes ==============================
+
+    boolean hasAccommodations() {
+        return accommodations != null;
+    }
+
+    boolean hasActivities() {
+        return activities != null;
+    }
+
+    boolean hasContacts() {
+        return contacts != null;
+    }
+
+    boolean hasItinerary() {
+        return itineraryName != null;
+    }
+
+    /**
+     * Returns {@code list} with the recorded accommodation changes applied.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the recorded accommodations.
+     */
+    List<Accommodation> applyToAccommodations(List<Accommodation> list) throws IllegalValueException {
+        return apply(list, removedAccommodations, accommodations, JsonAdaptedJournalEntry::getIdentity,
+                JsonAdaptedAccommodation::toModelType);
+    }
+
+    /**
+     * Returns {@code list} with the recorded activity changes applied.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the recorded activities.
+     */
+    List<Activity> applyToActivities(List<Activity> list) throws IllegalValueException {
+        return apply(list, removedActivities, activities, JsonAdaptedJournalEntry::getIdentity,
+                JsonAdaptedActivity::toModelType);
+    }
+
+    /**
+     * Returns {@code list} with the recorded contact changes applied.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the recorded contacts.
+     */
+    List<Contact> applyToContacts(List<Contact> list) throws IllegalValueException {
+        return apply(list, removedContacts, contacts, JsonAdaptedJournalEntry::getIdentity,
+                JsonAdaptedContact::toModelType);
+    }
+
+    /**
+     * Returns {@code itinerary} with the recorded changes applied.
+     * Scheduled activities are resolved against {@code activities}, which should be the activity list as it was
+     * when this entry was recorded.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the recorded itinerary.
+     */
+    Itinerary applyToItinerary(Itinerary itinerary, List<Activity> activities) throws IllegalValueException {
+        if (!hasItinerary()) {
+            return itinerary;
+        }
+        if (!Name.isValidName(itineraryName)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (dayCount == null || dayCount < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_DAY);
+        }
+
+        ActivityReferences activityReferences = new ActivityReferences(activities);
+        List<Day> result = new ArrayList<>(itinerary.getItinerary().subList(0,
+                Math.min(dayCount, itinerary.getItinerary().size())));
+        while (result.size() < dayCount) {
+            result.add(new Day());
+        }
+        if (days != null) {
+            for (Map.Entry<Integer, JsonAdaptedDay> day : days.entrySet()) {
+                if (day.getKey() < 0 || day.getKey() >= dayCount) {
+                    throw new IllegalValueException(MESSAGE_INVALID_DAY);
+                }
+                result.set(day.getKey(), day.getValue().toModelType(activityReferences));
+            }
+        }
+
+        Itinerary changedItinerary = new Itinerary(new Name(itineraryName));
+        try {
+            changedItinerary.setStartDate(LocalDate.parse(startDate));
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
+        changedItinerary.setDays(result);
+        return changedItinerary;
+    }
+
+    // ================ Utilities ==============================
+
+    private static Object getIdentity(Accommodation accommodation) {
+        return Arrays.asList(accommodation.getName(), accommodation.getAddress());
+    }
+
+    private static Object getIdentity(Activity activity) {
+        return ActivityReferences.getIdentity(activity);
+    }
+
+    private static Object getIdentity(Contact contact) {
+        return Arrays.asList(contact.getName(), contact.getPhone(), contact.getAddress());
+    }
+
+    /**
+     * Returns the elements of {@code savedList} that have no element of the same identity in {@code list}.
+     */
+    private static <T, J> List<J> getRemoved(List<T> savedList, List<T> list, Function<T, Object> identity,
+                                             Function<T, J> adapter) {
+        List<J> removed = new ArrayList<>();
+        if (savedList == null) {
+            return removed;
+        }
+        Set<Object> identities = new HashSet<>();
+        list.forEach(element -> identities.add(identity.apply(element)));
+        for (T savedElement : savedList) {
+            if (!identities.contains(identity.apply(savedElement))) {
+                removed.add(adapter.apply(savedElement));
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the elements of {@code list} that are not in {@code savedList}, keyed by their position in
+     * {@code list}.
+     */
+    private static <T, J> Map<Integer, J> getChanged(List<T> savedList, List<T> list, Function<T, Object> identity,
+                                                     Function<T, J> adapter) {
+        Map<Object, T> savedElements = new HashMap<>();
+        if (savedList != null) {
+            savedList.forEach(element -> savedElements.put(identity.apply(element), element));
+        }
+        Map<Integer, J> changed = new TreeMap<>();
+        for (int i = 0; i < list.size(); i++) {
+            T element = list.get(i);
+            if (!element.equals(savedElements.get(identity.apply(element)))) {
+                changed.put(i, adapter.apply(element));
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns a copy of {@code list} without the {@code removed} elements, and with each of the {@code changed}
+     * elements replacing the element of the same identity, or inserted at its position if there is none.
+     * The copy starts out empty for a reset entry.
+     */
+    private <T, J> List<T> apply(List<T> list, List<J> removed, Map<Integer, J> changed,
+                                 Function<T, Object> identity, Converter<J, T> converter)
+            throws IllegalValueException {
+        if (changed == null) {
+            return list;
+        }
+        List<T> result = isReset ? new ArrayList<>() : new ArrayList<>(list);
+        if (removed != null) {
+            for (J adaptedElement : removed) {
+                Object removedIdentity = identity.apply(converter.convert(adaptedElement));
+                result.removeIf(element -> identity.apply(element).equals(removedIdentity));
+            }
+        }
+        for (Map.Entry<Integer, J> adaptedElement : new TreeMap<>(changed).entrySet()) {
+            T element = converter.convert(adaptedElement.getValue());
+            Object elementIdentity = identity.apply(element);
+            int position = 0;
+            while (position < result.size() && !identity.apply(result.get(position)).equals(elementIdentity)) {
+                position++;
+            }
+            if (position < result.size()) {
+                result.set(position, element);
+            } else {
+                result.add(Math.max(0, Math.min(adaptedElement.getKey(), result.size())), element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts a Jackson-friendly element into its model type.
+     */
+    @FunctionalInterface
+    private interface Converter<J, T> {
+        T convert(J adaptedElement) throws IllegalValueException;
+    }
+}
@@ -12,16 +12,18 @@ import seedu.planner.model.ReadOnlyContact;
 import seedu.planner.model.ReadOnlyItinerary;
 import seedu.planner.model.ReadOnlyUserPrefs;
 import seedu.planner.model.UserPrefs;
+import seedu.planner.model.planner.PlannerCatalog;
 import seedu.planner.storage.accommodation.AccommodationStorage;
 import seedu.planner.storage.activity.ActivityStorage;
 import seedu.planner.storage.contact.ContactStorage;
 import seedu.planner.storage.day.ItineraryStorage;
+import seedu.planner.storage.planner.PlannerCatalogStorage;
 //@@author OneArmyj
 /**
  * API of the Storage component
  */
 public interface Storage extends AccommodationStorage, ActivityStorage, ContactStorage, ItineraryStorage,
-        UserPrefsStorage {
+        UserPrefsStorage, PlannerCatalogStorage {
 
     // ================ UserPrefs methods ==============================
 
@@ -82,15 +84,32 @@ public interface Storage extends AccommodationStorage, ActivityStorage, ContactS
     void setItineraryFilePath(Path itineraryFilePath);
 
     @Override
-    Optional<ReadOnlyItinerary> readItinerary() throws DataConversionException, IOException;
+    Optional<ReadOnlyItinerary> readItinerary(ReadOnlyActivity activity) throws DataConversionException,
+            IOException;
 
     @Override
     void saveItinerary(ReadOnlyItinerary itinerary) throws IOException;
 
+    // ================ PlannerCatalog methods ==============================
+
+    @Override
+    Optional<PlannerCatalog> readPlannerCatalog() throws DataConversionException, IOException;
+
+    @Override
+    void savePlannerCatalog(PlannerCatalog plannerCatalog) throws IOException;
+
     // ================ PlannerFilePath methods ==============================
 
     /**
      * Deletes the user prefs' planner file path.
      */
     void deletePlannerFilePath();
+
+    // ================ Flush methods ==============================
+
+    /**
+     * Blocks until all saves requested so far have been written to local storage.
+     * @throws IOException if any of the requested saves failed.
+     */
+    void flush() throws IOException;
 }
@@ -2,11 +2,13 @@ package seedu.planner.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.planner.commons.core.LogsCenter;
 import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.commons.util.FileUtil;
 
 import seedu.planner.model.ReadOnlyAccommodation;
 import seedu.planner.model.ReadOnlyActivity;
@@ -14,10 +16,12 @@ import seedu.planner.model.ReadOnlyContact;
 import seedu.planner.model.ReadOnlyItinerary;
 import seedu.planner.model.ReadOnlyUserPrefs;
 import seedu.planner.model.UserPrefs;
+import seedu.planner.model.planner.PlannerCatalog;
 import seedu.planner.storage.accommodation.AccommodationStorage;
 import seedu.planner.storage.activity.ActivityStorage;
 import seedu.planner.storage.contact.ContactStorage;
 import seedu.planner.storage.day.ItineraryStorage;
+import seedu.planner.storage.planner.PlannerCatalogStorage;
 
 //@@author OneArmyj
 /**
@@ -31,17 +35,18 @@ public class StorageManager implements Storage {
     private ContactStorage contactStorage;
     private ItineraryStorage itineraryStorage;
     private UserPrefsStorage userPrefsStorage;
-
+    private PlannerCatalogStorage plannerCatalogStorage;
 
     public StorageManager(AccommodationStorage accommodationStorage, ActivityStorage activityStorage,
                           ContactStorage contactStorage, ItineraryStorage itineraryStorage,
-                          UserPrefsStorage userPrefsStorage) {
+                          UserPrefsStorage userPrefsStorage, PlannerCatalogStorage plannerCatalogStorage) {
         super();
         this.accommodationStorage = accommodationStorage;
         this.activityStorage = activityStorage;
         this.contactStorage = contactStorage;
         this.itineraryStorage = itineraryStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.plannerCatalogStorage = plannerCatalogStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -180,15 +185,16 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyItinerary> readItinerary() throws DataConversionException, IOException {
-        return readItinerary(itineraryStorage.getItineraryFilePath());
+    public Optional<ReadOnlyItinerary> readItinerary(ReadOnlyActivity activity) throws DataConversionException,
+            IOException {
+        return readItinerary(itineraryStorage.getItineraryFilePath(), activity);
     }
 
     @Override
-    public Optional<ReadOnlyItinerary> readItinerary(Path filePath) throws DataConversionException,
-            IOException {
+    public Optional<ReadOnlyItinerary> readItinerary(Path filePath, ReadOnlyActivity activity)
+            throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return itineraryStorage.readItinerary(filePath);
+        return itineraryStorage.readItinerary(filePath, activity);
     }
 
     @Override
@@ -202,14 +208,41 @@ public class StorageManager implements Storage {
         itineraryStorage.saveItinerary(itinerary, filePath);
     }
 
+    // ================ PlannerCatalog methods ==============================
+
+    @Override
+    public Path getPlannerCatalogFilePath() {
+        return plannerCatalogStorage.getPlannerCatalogFilePath();
+    }
+
+    @Override
+    public Optional<PlannerCatalog> readPlannerCatalog() throws DataConversionException, IOException {
+        logger.fine("Attempting to read data from file: " + getPlannerCatalogFilePath());
+        return plannerCatalogStorage.readPlannerCatalog();
+    }
+
+    @Override
+    public void savePlannerCatalog(PlannerCatalog plannerCatalog) throws IOException {
+        logger.fine("Attempting to write to data file: " + getPlannerCatalogFilePath());
+        plannerCatalogStorage.savePlannerCatalog(plannerCatalog);
+    }
+
     // ================ PlannerFilePath methods ==============================
 
     @Override
     public void deletePlannerFilePath() {
-        getAccommodationFilePath().toFile().delete();
-        getActivityFilePath().toFile().delete();
-        getContactFilePath().toFile().delete();
-        getItineraryFilePath().toFile().delete();
+        for (Path filePath : List.of(getAccommodationFilePath(), getActivityFilePath(), getContactFilePath(),
+                getItineraryFilePath())) {
+            filePath.toFile().delete();
+            FileUtil.getBackupFilePath(filePath).toFile().delete();
+        }
         getItineraryFilePath().getParent().toFile().delete();
     }
+
+    // ================ Flush methods ==============================
+
+    @Override
+    public void flush() throws IOException {
+        // Saves are written synchronously, so there is nothing to wait for.
+    }
 }
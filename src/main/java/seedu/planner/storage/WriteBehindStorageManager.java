@@ -0,0 +1,223 @@
+package seedu.planner.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import seedu.planner.commons.core.LogsCenter;
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.model.ReadOnlyAccommodation;
+import seedu.planner.model.ReadOnlyActivity;
+import seedu.planner.model.ReadOnlyContact;
+import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.model.accommodation.Accommodation;
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.contact.Contact;
+import seedu.planner.model.planner.PlannerCatalog;
+import seedu.planner.storage.accommodation.AccommodationStorage;
+import seedu.planner.storage.activity.ActivityStorage;
+import seedu.planner.storage.contact.ContactStorage;
+import seedu.planner.storage.day.ItineraryStorage;
+import seedu.planner.storage.planner.PlannerCatalogStorage;
+
+/**
+ * A {@code StorageManager} that saves Planner data on a background writer thread.
+ * Each save takes a snapshot of the data and queues it. Saves to the same file that are queued before the
+ * writer gets to them are coalesced, so that only the latest snapshot is written.
+ * Errors from the writer thread are reported by the next save or {@link #flush()}.
+ */
+public class WriteBehindStorageManager extends StorageManager {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorageManager.class);
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The queued writes, keyed by the file they write to. */
+    private final Map<Path, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private IOException writeFailure;
+
+    public WriteBehindStorageManager(AccommodationStorage accommodationStorage, ActivityStorage activityStorage,
+                                     ContactStorage contactStorage, ItineraryStorage itineraryStorage,
+                                     UserPrefsStorage userPrefsStorage,
+                                     PlannerCatalogStorage plannerCatalogStorage) {
+        super(accommodationStorage, activityStorage, contactStorage, itineraryStorage, userPrefsStorage,
+                plannerCatalogStorage);
+    }
+
+    // ================ Write-behind methods ==============================
+
+    /**
+     * Queues {@code write} to be run by the writer thread, replacing any queued write to the same {@code filePath}.
+     */
+    private void enqueue(Path filePath, PendingWrite write) throws IOException {
+        throwIfWriteFailed();
+        synchronized (pendingWrites) {
+            boolean isDrainScheduled = !pendingWrites.isEmpty();
+            pendingWrites.put(filePath, write);
+            if (!isDrainScheduled) {
+                writer.execute(this::drainPendingWrites);
+            }
+        }
+    }
+
+    /**
+     * Runs all queued writes. Called on the writer thread only.
+     */
+    private void drainPendingWrites() {
+        List<PendingWrite> writes;
+        synchronized (pendingWrites) {
+            writes = List.copyOf(pendingWrites.values());
+            pendingWrites.clear();
+        }
+        for (PendingWrite write : writes) {
+            try {
+                write.run();
+            } catch (IOException e) {
+                logger.warning("Failed to write data in the background: " + e);
+                synchronized (pendingWrites) {
+                    if (writeFailure == null) {
+                        writeFailure = e;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Throws the first error encountered by the writer thread since the last call, if any.
+     */
+    private void throwIfWriteFailed() throws IOException {
+        IOException failure;
+        synchronized (pendingWrites) {
+            failure = writeFailure;
+            writeFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        throwIfWriteFailed();
+    }
+
+    // ================ AccommodationStorage methods ==============================
+
+    @Override
+    public Optional<ReadOnlyAccommodation> readAccommodation(Path filePath) throws DataConversionException,
+            IOException {
+        flush();
+        return super.readAccommodation(filePath);
+    }
+
+    @Override
+    public void saveAccommodation(ReadOnlyAccommodation accommodation, Path filePath) throws IOException {
+        requireNonNull(accommodation);
+        ObservableList<Accommodation> snapshot = DataSnapshots.listOf(accommodation.getAccommodationList());
+        enqueue(filePath, () -> super.saveAccommodation(() -> snapshot, filePath));
+    }
+
+    // ================ ActivityStorage methods ==============================
+
+    @Override
+    public Optional<ReadOnlyActivity> readActivity(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return super.readActivity(filePath);
+    }
+
+    @Override
+    public void saveActivity(ReadOnlyActivity activity, Path filePath) throws IOException {
+        requireNonNull(activity);
+        ObservableList<Activity> snapshot = DataSnapshots.listOf(activity.getActivityList());
+        enqueue(filePath, () -> super.saveActivity(() -> snapshot, filePath));
+    }
+
+    // ================ ContactStorage methods ==============================
+
+    @Override
+    public Optional<ReadOnlyContact> readContact(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return super.readContact(filePath);
+    }
+
+    @Override
+    public void saveContact(ReadOnlyContact contact, Path filePath) throws IOException {
+        requireNonNull(contact);
+        ObservableList<Contact> snapshot = DataSnapshots.listOf(contact.getContactList());
+        enqueue(filePath, () -> super.saveContact(() -> snapshot, filePath));
+    }
+
+    // ================ ItineraryStorage methods ==============================
+
+    @Override
+    public Optional<ReadOnlyItinerary> readItinerary(Path filePath, ReadOnlyActivity activity)
+            throws DataConversionException, IOException {
+        flush();
+        return super.readItinerary(filePath, activity);
+    }
+
+    @Override
+    public void saveItinerary(ReadOnlyItinerary itinerary, Path filePath) throws IOException {
+        requireNonNull(itinerary);
+        ReadOnlyItinerary itinerarySnapshot = DataSnapshots.itineraryOf(itinerary);
+        enqueue(filePath, () -> super.saveItinerary(itinerarySnapshot, filePath));
+    }
+
+    // ================ PlannerCatalog methods ==============================
+
+    @Override
+    public Optional<PlannerCatalog> readPlannerCatalog() throws DataConversionException, IOException {
+        flush();
+        return super.readPlannerCatalog();
+    }
+
+    @Override
+    public void savePlannerCatalog(PlannerCatalog plannerCatalog) throws IOException {
+        requireNonNull(plannerCatalog);
+        PlannerCatalog snapshot = new PlannerCatalog(plannerCatalog.getPlannerList());
+        enqueue(getPlannerCatalogFilePath(), () -> super.savePlannerCatalog(snapshot));
+    }
+
+    // ================ PlannerFilePath methods ==============================
+
+    @Override
+    public void deletePlannerFilePath() {
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.warning("Failed to save data before deleting the planner: " + e);
+        }
+        super.deletePlannerFilePath();
+    }
+
+    /**
+     * A write that is waiting to be run by the writer thread.
+     */
+    @FunctionalInterface
+    private interface PendingWrite {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.planner.storage.accommodation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.commons.util.FileUtil;
+import seedu.planner.model.ReadOnlyAccommodation;
+import seedu.planner.storage.BinaryDataReader;
+import seedu.planner.storage.BinaryDataWriter;
+import seedu.planner.storage.DataFormatConverter;
+
+/**
+ * A class to access Accommodation data stored as a binary file on the hard disk.
+ * <br> If the binary file does not exist yet, the json file of the same name is converted to it, so that existing
+ * planners are moved to the binary format.
+ */
+public class BinaryAccommodationStorage implements AccommodationStorage {
+
+    private Path filePath;
+
+    public BinaryAccommodationStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAccommodationFilePath() {
+        return filePath;
+    }
+
+    public void setAccommodationFilePath(Path accommodationFilePath) {
+        requireNonNull(accommodationFilePath);
+        filePath = accommodationFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAccommodation> readAccommodation() throws DataConversionException {
+        return readAccommodation(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAccommodation}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAccommodation> readAccommodation(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Path jsonFilePath = FileUtil.changeFileExtension(filePath, "json");
+        if (DataFormatConverter.isConversionNeeded(jsonFilePath, filePath)) {
+            return DataFormatConverter.convert(jsonFilePath, filePath,
+                    new JsonAccommodationStorage(jsonFilePath)::readAccommodation, this::saveAccommodation);
+        }
+
+        return BinaryDataReader.readFile(filePath, BinaryDataReader::readAccommodations);
+    }
+
+    @Override
+    public void saveAccommodation(ReadOnlyAccommodation accommodation) throws IOException {
+        saveAccommodation(accommodation, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAccommodation(ReadOnlyAccommodation)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAccommodation(ReadOnlyAccommodation accommodation, Path filePath) throws IOException {
+        requireNonNull(accommodation);
+        requireNonNull(filePath);
+
+        BinaryDataWriter.writeFile(filePath, writer -> writer.writeAccommodations(accommodation));
+    }
+
+}
@@ -13,9 +13,13 @@ import seedu.planner.commons.exceptions.IllegalValueException;
 import seedu.planner.commons.util.FileUtil;
 import seedu.planner.commons.util.JsonUtil;
 import seedu.planner.model.ReadOnlyAccommodation;
+import seedu.planner.storage.BinaryDataWriter;
+import seedu.planner.storage.DataFormatConverter;
 //@@author OneArmyj
 /**
  * A class to access Accommodation data stored as a json file on the hard disk.
+ * <br> If the json file does not exist yet, the binary file of the same name is converted to it, so that planners
+ * saved while binary storage was enabled are moved back to the json format.
  */
 public class JsonAccommodationStorage implements AccommodationStorage {
 
@@ -50,6 +54,12 @@ public class JsonAccommodationStorage implements AccommodationStorage {
     public Optional<ReadOnlyAccommodation> readAccommodation(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        Path binaryFilePath = FileUtil.changeFileExtension(filePath, BinaryDataWriter.FILE_EXTENSION);
+        if (DataFormatConverter.isConversionNeeded(binaryFilePath, filePath)) {
+            return DataFormatConverter.convert(binaryFilePath, filePath,
+                    new BinaryAccommodationStorage(binaryFilePath)::readAccommodation, this::saveAccommodation);
+        }
+
         Optional<JsonSerializableAccommodation> jsonAccommodation = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAccommodation.class);
         if (!jsonAccommodation.isPresent()) {
@@ -79,7 +89,7 @@ public class JsonAccommodationStorage implements AccommodationStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAccommodation(accommodation), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAccommodation(accommodation), filePath, false);
     }
 
 }
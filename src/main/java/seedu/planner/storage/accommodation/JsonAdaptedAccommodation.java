@@ -15,6 +15,7 @@ import seedu.planner.model.contact.Contact;
 import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Name;
 import seedu.planner.model.tag.Tag;
+import seedu.planner.model.util.IdGenerator;
 import seedu.planner.storage.JsonAdaptedTag;
 import seedu.planner.storage.contact.JsonAdaptedContact;
 //@@author OneArmyj
@@ -29,19 +30,22 @@ public class JsonAdaptedAccommodation {
     private final String address;
     private final JsonAdaptedContact contact;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
+    private final Long id;
 
     /**
      * Constructs a {@code JsonAdaptedAccommodation} with the given accommodations details.
      */
     @JsonCreator
     public JsonAdaptedAccommodation(@JsonProperty("name") String name, @JsonProperty("address") String address,
-            @JsonProperty("contact") JsonAdaptedContact contact, @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+            @JsonProperty("contact") JsonAdaptedContact contact, @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
+            @JsonProperty("id") Long id) {
         this.name = name;
         this.address = address;
         this.contact = contact;
         if (tagged != null) {
             this.tagged.addAll(tagged);
         }
+        this.id = id;
     }
 
     /**
@@ -54,6 +58,7 @@ public class JsonAdaptedAccommodation {
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
+        id = source.getId();
     }
 
     /**
@@ -83,7 +88,9 @@ public class JsonAdaptedAccommodation {
         final Contact modelContact = (contact == null) ? null : contact.toModelType();
 
         final Set<Tag> modelTags = new HashSet<>(accommodationTags);
-        return new Accommodation(modelName, modelAddress, modelContact, modelTags);
+        // Files saved before accommodations had ids get a new id
+        final long modelId = id == null ? IdGenerator.nextId() : id;
+        return new Accommodation(modelId, modelName, modelAddress, modelContact, modelTags);
     }
 
 }
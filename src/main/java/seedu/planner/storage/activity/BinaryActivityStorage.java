@@ -0,0 +1,78 @@
+package seedu.planner.storage.activity;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.commons.util.FileUtil;
+import seedu.planner.model.ReadOnlyActivity;
+import seedu.planner.storage.BinaryDataReader;
+import seedu.planner.storage.BinaryDataWriter;
+import seedu.planner.storage.DataFormatConverter;
+
+/**
+ * A class to access Activity data stored as a binary file on the hard disk.
+ * <br> If the binary file does not exist yet, the json file of the same name is converted to it, so that existing
+ * planners are moved to the binary format.
+ */
+public class BinaryActivityStorage implements ActivityStorage {
+
+    private Path filePath;
+
+    public BinaryActivityStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getActivityFilePath() {
+        return filePath;
+    }
+
+    public void setActivityFilePath(Path activityFilePath) {
+        requireNonNull(activityFilePath);
+        filePath = activityFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyActivity> readActivity() throws DataConversionException {
+        return readActivity(filePath);
+    }
+
+    /**
+     * Similar to {@link #readActivity}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyActivity> readActivity(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Path jsonFilePath = FileUtil.changeFileExtension(filePath, "json");
+        if (DataFormatConverter.isConversionNeeded(jsonFilePath, filePath)) {
+            return DataFormatConverter.convert(jsonFilePath, filePath,
+                    new JsonActivityStorage(jsonFilePath)::readActivity, this::saveActivity);
+        }
+
+        return BinaryDataReader.readFile(filePath, BinaryDataReader::readActivities);
+    }
+
+    @Override
+    public void saveActivity(ReadOnlyActivity activity) throws IOException {
+        saveActivity(activity, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveActivity(ReadOnlyActivity)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveActivity(ReadOnlyActivity activity, Path filePath) throws IOException {
+        requireNonNull(activity);
+        requireNonNull(filePath);
+
+        BinaryDataWriter.writeFile(filePath, writer -> writer.writeActivities(activity));
+    }
+
+}
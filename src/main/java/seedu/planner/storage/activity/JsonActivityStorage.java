@@ -13,9 +13,13 @@ import seedu.planner.commons.exceptions.IllegalValueException;
 import seedu.planner.commons.util.FileUtil;
 import seedu.planner.commons.util.JsonUtil;
 import seedu.planner.model.ReadOnlyActivity;
+import seedu.planner.storage.BinaryDataWriter;
+import seedu.planner.storage.DataFormatConverter;
 //@@author OneArmyj
 /**
  * A class to access Activity data stored as a json file on the hard disk.
+ * <br> If the json file does not exist yet, the binary file of the same name is converted to it, so that planners
+ * saved while binary storage was enabled are moved back to the json format.
  */
 public class JsonActivityStorage implements ActivityStorage {
 
@@ -50,18 +54,42 @@ public class JsonActivityStorage implements ActivityStorage {
     public Optional<ReadOnlyActivity> readActivity(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        Path binaryFilePath = FileUtil.changeFileExtension(filePath, BinaryDataWriter.FILE_EXTENSION);
+        if (DataFormatConverter.isConversionNeeded(binaryFilePath, filePath)) {
+            return DataFormatConverter.convert(binaryFilePath, filePath,
+                    new BinaryActivityStorage(binaryFilePath)::readActivity, this::saveActivity);
+        }
+
         Optional<JsonSerializableActivity> jsonActivity = JsonUtil.readJsonFile(
                 filePath, JsonSerializableActivity.class);
         if (!jsonActivity.isPresent()) {
             return Optional.empty();
         }
 
+        ReadOnlyActivity activity;
         try {
-            return Optional.of(jsonActivity.get().toModelType());
+            activity = jsonActivity.get().toModelType();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
+        if (jsonActivity.get().hasActivitiesWithoutIds()) {
+            saveGeneratedIds(activity, filePath);
+        }
+        return Optional.of(activity);
+    }
+
+    /**
+     * Saves {@code activity}, read from a file saved before activities had ids, back to {@code filePath}, so that
+     * the ids generated for its activities stay the same when it is read again.
+     * Itineraries refer to scheduled activities by these ids.
+     */
+    private void saveGeneratedIds(ReadOnlyActivity activity, Path filePath) {
+        try {
+            saveActivity(activity, filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save the ids of the activities in " + filePath + ": " + ioe.getMessage());
+        }
     }
 
     @Override
@@ -79,7 +107,7 @@ public class JsonActivityStorage implements ActivityStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableActivity(activity), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableActivity(activity), filePath, false);
     }
 
 }
@@ -20,6 +20,7 @@ import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Cost;
 import seedu.planner.model.field.Name;
 import seedu.planner.model.tag.Tag;
+import seedu.planner.model.util.IdGenerator;
 import seedu.planner.storage.JsonAdaptedTag;
 import seedu.planner.storage.contact.JsonAdaptedContact;
 //@@author OneArmyj
@@ -38,6 +39,7 @@ public class JsonAdaptedActivity {
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
     private final String duration;
     private final String priority;
+    private final Long id;
 
     /**
      * Constructs a {@code JsonAdaptedActivity} with the given activity details.
@@ -46,7 +48,7 @@ public class JsonAdaptedActivity {
     public JsonAdaptedActivity(@JsonProperty("name") String name, @JsonProperty("address") String address,
             @JsonProperty("contact") JsonAdaptedContact contact, @JsonProperty("cost") String cost,
             @JsonProperty("tagged") List<JsonAdaptedTag> tagged, @JsonProperty("duration") String duration,
-                               @JsonProperty("priority") String priority) {
+            @JsonProperty("priority") String priority, @JsonProperty("id") Long id) {
         this.name = name;
         this.address = address;
         this.contact = contact;
@@ -56,6 +58,7 @@ public class JsonAdaptedActivity {
         }
         this.duration = duration;
         this.priority = priority;
+        this.id = id;
     }
 
     /**
@@ -71,6 +74,14 @@ public class JsonAdaptedActivity {
                 .collect(Collectors.toList()));
         duration = Integer.toString(source.getDuration().value);
         priority = Integer.toString(source.getPriority().priorityValue);
+        id = source.getId();
+    }
+
+    /**
+     * Returns true if this activity was saved with its id.
+     */
+    public boolean hasId() {
+        return id != null;
     }
 
     /**
@@ -118,7 +129,10 @@ public class JsonAdaptedActivity {
             modelPriority = new Priority(Integer.parseInt(priority));
         }
 
-        return new Activity(modelName, modelAddress, modelContact, modelCost, modelTags, modelDuration, modelPriority);
+        // Files saved before activities had ids get a new id
+        final long modelId = id == null ? IdGenerator.nextId() : id;
+        return new Activity(modelId, modelName, modelAddress, modelContact, modelCost, modelTags, modelDuration,
+                modelPriority);
     }
 
 }
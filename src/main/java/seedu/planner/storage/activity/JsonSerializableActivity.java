@@ -43,6 +43,13 @@ public class JsonSerializableActivity {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns true if any of the activities was saved before activities had ids.
+     */
+    public boolean hasActivitiesWithoutIds() {
+        return activities.stream().anyMatch(activity -> !activity.hasId());
+    }
+
     /**
      * Converts these activity data into the model's {@code ActivityManager} object.
      *
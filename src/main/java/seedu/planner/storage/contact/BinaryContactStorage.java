@@ -0,0 +1,78 @@
+package seedu.planner.storage.contact;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.commons.util.FileUtil;
+import seedu.planner.model.ReadOnlyContact;
+import seedu.planner.storage.BinaryDataReader;
+import seedu.planner.storage.BinaryDataWriter;
+import seedu.planner.storage.DataFormatConverter;
+
+/**
+ * A class to access Contact data stored as a binary file on the hard disk.
+ * <br> If the binary file does not exist yet, the json file of the same name is converted to it, so that existing
+ * planners are moved to the binary format.
+ */
+public class BinaryContactStorage implements ContactStorage {
+
+    private Path filePath;
+
+    public BinaryContactStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getContactFilePath() {
+        return filePath;
+    }
+
+    public void setContactFilePath(Path contactFilePath) {
+        requireNonNull(contactFilePath);
+        filePath = contactFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyContact> readContact() throws DataConversionException {
+        return readContact(filePath);
+    }
+
+    /**
+     * Similar to {@link #readContact}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyContact> readContact(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Path jsonFilePath = FileUtil.changeFileExtension(filePath, "json");
+        if (DataFormatConverter.isConversionNeeded(jsonFilePath, filePath)) {
+            return DataFormatConverter.convert(jsonFilePath, filePath,
+                    new JsonContactStorage(jsonFilePath)::readContact, this::saveContact);
+        }
+
+        return BinaryDataReader.readFile(filePath, BinaryDataReader::readContacts);
+    }
+
+    @Override
+    public void saveContact(ReadOnlyContact contact) throws IOException {
+        saveContact(contact, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveContact(ReadOnlyContact)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveContact(ReadOnlyContact contact, Path filePath) throws IOException {
+        requireNonNull(contact);
+        requireNonNull(filePath);
+
+        BinaryDataWriter.writeFile(filePath, writer -> writer.writeContacts(contact));
+    }
+
+}
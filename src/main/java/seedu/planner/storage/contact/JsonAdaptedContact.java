@@ -16,6 +16,7 @@ import seedu.planner.model.contact.Phone;
 import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Name;
 import seedu.planner.model.tag.Tag;
+import seedu.planner.model.util.IdGenerator;
 import seedu.planner.storage.JsonAdaptedTag;
 //@@author OneArmyj
 /**
@@ -30,6 +31,7 @@ public class JsonAdaptedContact {
     private final String email;
     private final String address;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
+    private final Long id;
 
     /**
      * Constructs a {@code JsonAdaptedContact} with the given contacts details.
@@ -37,7 +39,7 @@ public class JsonAdaptedContact {
     @JsonCreator
     public JsonAdaptedContact(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+            @JsonProperty("tagged") List<JsonAdaptedTag> tagged, @JsonProperty("id") Long id) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -45,6 +47,7 @@ public class JsonAdaptedContact {
         if (tagged != null) {
             this.tagged.addAll(tagged);
         }
+        this.id = id;
     }
 
     /**
@@ -58,6 +61,7 @@ public class JsonAdaptedContact {
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
+        id = source.getId();
     }
 
     /**
@@ -98,7 +102,9 @@ public class JsonAdaptedContact {
         final Address modelAddress = address != null ? new Address(address) : null;
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Contact(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        // Files saved before contacts had ids get a new id
+        final long modelId = id == null ? IdGenerator.nextId() : id;
+        return new Contact(modelId, modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
 }
@@ -13,9 +13,13 @@ import seedu.planner.commons.exceptions.IllegalValueException;
 import seedu.planner.commons.util.FileUtil;
 import seedu.planner.commons.util.JsonUtil;
 import seedu.planner.model.ReadOnlyContact;
+import seedu.planner.storage.BinaryDataWriter;
+import seedu.planner.storage.DataFormatConverter;
 //@@author OneArmyj
 /**
  * A class to access Contact data stored as a json file on the hard disk.
+ * <br> If the json file does not exist yet, the binary file of the same name is converted to it, so that planners
+ * saved while binary storage was enabled are moved back to the json format.
  */
 public class JsonContactStorage implements ContactStorage {
 
@@ -50,6 +54,12 @@ public class JsonContactStorage implements ContactStorage {
     public Optional<ReadOnlyContact> readContact(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        Path binaryFilePath = FileUtil.changeFileExtension(filePath, BinaryDataWriter.FILE_EXTENSION);
+        if (DataFormatConverter.isConversionNeeded(binaryFilePath, filePath)) {
+            return DataFormatConverter.convert(binaryFilePath, filePath,
+                    new BinaryContactStorage(binaryFilePath)::readContact, this::saveContact);
+        }
+
         Optional<JsonSerializableContact> jsonContact = JsonUtil.readJsonFile(
                 filePath, JsonSerializableContact.class);
         if (!jsonContact.isPresent()) {
@@ -79,7 +89,7 @@ public class JsonContactStorage implements ContactStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableContact(contact), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableContact(contact), filePath, false);
     }
 
 }
@@ -0,0 +1,50 @@
+package seedu.planner.storage.day;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.field.Address;
+import seedu.planner.model.field.Name;
+
+/**
+ * The activities in an activity list that scheduled activities in a stored itinerary refer to.
+ * Activities are looked up by id, or by name and address for references saved before activities had ids.
+ */
+public class ActivityReferences {
+
+    private final Map<Long, Activity> activitiesById = new HashMap<>();
+    private final Map<Map.Entry<Name, Address>, Activity> activitiesByIdentity = new HashMap<>();
+
+    /**
+     * Creates references to each of {@code activities}.
+     */
+    public ActivityReferences(List<Activity> activities) {
+        requireNonNull(activities);
+        for (Activity activity : activities) {
+            activitiesById.put(activity.getId(), activity);
+            activitiesByIdentity.put(getIdentity(activity), activity);
+        }
+    }
+
+    /**
+     * Returns the key that identifies {@code activity} in an activity list when it is referred to by name and
+     * address.
+     */
+    public static Map.Entry<Name, Address> getIdentity(Activity activity) {
+        return new SimpleImmutableEntry<>(activity.getName(), activity.getAddress());
+    }
+
+    public Optional<Activity> getActivity(long id) {
+        return Optional.ofNullable(activitiesById.get(id));
+    }
+
+    public Optional<Activity> getActivity(Name name, Address address) {
+        return Optional.ofNullable(activitiesByIdentity.get(new SimpleImmutableEntry<>(name, address)));
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.planner.storage.day;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.commons.util.FileUtil;
+import seedu.planner.model.ReadOnlyActivity;
+import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.storage.BinaryDataReader;
+import seedu.planner.storage.BinaryDataWriter;
+import seedu.planner.storage.DataFormatConverter;
+
+/**
+ * A class to access Itinerary data stored as a binary file on the hard disk.
+ * <br> If the binary file does not exist yet, the json file of the same name is converted to it, so that existing
+ * planners are moved to the binary format.
+ */
+public class BinaryItineraryStorage implements ItineraryStorage {
+
+    private Path filePath;
+
+    public BinaryItineraryStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getItineraryFilePath() {
+        return filePath;
+    }
+
+    public void setItineraryFilePath(Path itineraryFilePath) {
+        requireNonNull(itineraryFilePath);
+        filePath = itineraryFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyItinerary> readItinerary(ReadOnlyActivity activity) throws DataConversionException {
+        return readItinerary(filePath, activity);
+    }
+
+    /**
+     * Similar to {@link #readItinerary}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyItinerary> readItinerary(Path filePath, ReadOnlyActivity activity)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(activity);
+
+        Path jsonFilePath = FileUtil.changeFileExtension(filePath, "json");
+        if (DataFormatConverter.isConversionNeeded(jsonFilePath, filePath)) {
+            return DataFormatConverter.convert(jsonFilePath, filePath, () ->
+                    new JsonItineraryStorage(jsonFilePath).readItinerary(activity), this::saveItinerary);
+        }
+
+        return BinaryDataReader.readFile(filePath, reader -> reader.readItinerary(activity));
+    }
+
+    @Override
+    public void saveItinerary(ReadOnlyItinerary itinerary) throws IOException {
+        saveItinerary(itinerary, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveItinerary(ReadOnlyItinerary)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveItinerary(ReadOnlyItinerary itinerary, Path filePath) throws IOException {
+        requireNonNull(itinerary);
+        requireNonNull(filePath);
+
+        BinaryDataWriter.writeFile(filePath, writer -> writer.writeItinerary(itinerary));
+    }
+
+}
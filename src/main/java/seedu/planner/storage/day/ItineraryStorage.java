@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import seedu.planner.commons.exceptions.DataConversionException;
 import seedu.planner.model.Itinerary;
+import seedu.planner.model.ReadOnlyActivity;
 import seedu.planner.model.ReadOnlyItinerary;
 //@@author OneArmyj
 /**
@@ -26,15 +27,18 @@ public interface ItineraryStorage {
     /**
      * Returns Itinerary data as a {@link ReadOnlyItinerary}.
      *   Returns {@code Optional.empty()} if storage file is not found.
+     * @param activity the activities that the scheduled activities of the itinerary refer to.
      * @throws DataConversionException if the data in storage is not in the expected format.
      * @throws IOException if there was any problem when reading from the storage.
      */
-    Optional<ReadOnlyItinerary> readItinerary() throws DataConversionException, IOException;
+    Optional<ReadOnlyItinerary> readItinerary(ReadOnlyActivity activity) throws DataConversionException,
+            IOException;
 
     /**
      * @see #getItineraryFilePath()
      */
-    Optional<ReadOnlyItinerary> readItinerary(Path filePath) throws DataConversionException, IOException;
+    Optional<ReadOnlyItinerary> readItinerary(Path filePath, ReadOnlyActivity activity)
+            throws DataConversionException, IOException;
 
     /**
      * Saves the given {@link ReadOnlyItinerary} to the storage.
@@ -3,6 +3,8 @@ package seedu.planner.storage.day;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -11,44 +13,108 @@ import seedu.planner.commons.exceptions.IllegalValueException;
 import seedu.planner.model.activity.Activity;
 import seedu.planner.model.day.ActivityWithTime;
 import seedu.planner.model.day.Day;
+import seedu.planner.model.field.Address;
+import seedu.planner.model.field.Name;
 import seedu.planner.storage.activity.JsonAdaptedActivity;
 //@@author OneArmyj
 /**
  * Jackson-friendly version of {@link Day}.
+ * <br> The scheduled activity is stored as a reference to its id, which identifies it in the activity list, instead
+ * of a full copy of the activity. Its name and address are stored as well, and identify it in activity lists that
+ * were saved before activities had ids.
  */
 public class JsonAdaptedActivityWithTime {
 
-    private final JsonAdaptedActivity activity;
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Scheduled activity's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_ACTIVITY = "Scheduled activity %s is not in the activity list.";
+    public static final String MESSAGE_INVALID_START_TIME = "Scheduled activity's start time is invalid: %s";
+
+    private final Long activityId;
+    private final String activityName;
+    private final String activityAddress;
+    private final JsonAdaptedActivity activity; // Only present in files saved before activities were referenced
     private final String startDateTime;
-    private final String endTime;
 
     /**
      * Constructs a {@code JsonAdaptedActivityWithTime} with the given days details.
      */
     @JsonCreator
-    public JsonAdaptedActivityWithTime(@JsonProperty("activity") JsonAdaptedActivity activity,
-                          @JsonProperty("startTime") String startTime, @JsonProperty("endTime") String endTime) {
+    public JsonAdaptedActivityWithTime(@JsonProperty("activityId") Long activityId,
+                                       @JsonProperty("activityName") String activityName,
+                                       @JsonProperty("activityAddress") String activityAddress,
+                                       @JsonProperty("activity") JsonAdaptedActivity activity,
+                                       @JsonProperty("startDateTime") String startDateTime) {
+        this.activityId = activityId;
+        this.activityName = activityName;
+        this.activityAddress = activityAddress;
         this.activity = activity;
-        this.startDateTime = startTime;
-        this.endTime = endTime;
+        this.startDateTime = startDateTime;
     }
 
     /**
      * Converts a given {@code Day} into this class for Jackson use.
      */
     public JsonAdaptedActivityWithTime(ActivityWithTime source) {
-        activity = new JsonAdaptedActivity(source.getActivity());
+        activityId = source.getActivity().getId();
+        activityName = source.getActivity().getName().name;
+        activityAddress = source.getActivity().getAddress() == null ? null : source.getActivity().getAddress().value;
+        activity = null;
         startDateTime = source.getStartDateTime().toString();
-        endTime = source.getEndDateTime().toString();
     }
 
     /**
      * Converts various Jackson-friendly adapted class objects into the day's {@code ActivityWithTime} object.
+     *
+     * @param activities the activities in the activity list.
+     * @throws IllegalValueException if the scheduled activity is not in {@code activities}, or if there were any
+     *     data constraints violated in the adapted activity.
      */
-    public ActivityWithTime toModelType() throws IllegalValueException {
-        final Activity modelActivity = activity.toModelType();
-        LocalDateTime parsedDateTime = LocalDateTime.parse(startDateTime, ISO_LOCAL_DATE_TIME);
-        return new ActivityWithTime(modelActivity, parsedDateTime);
+    public ActivityWithTime toModelType(ActivityReferences activities)
+            throws IllegalValueException {
+        if (startDateTime == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "startDateTime"));
+        }
+        final LocalDateTime parsedDateTime;
+        try {
+            parsedDateTime = LocalDateTime.parse(startDateTime, ISO_LOCAL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_START_TIME, startDateTime));
+        }
+
+        return new ActivityWithTime(toModelActivity(activities), parsedDateTime);
+    }
+
+    /**
+     * Returns the scheduled activity, shared with the activity list where possible.
+     */
+    private Activity toModelActivity(ActivityReferences activities) throws IllegalValueException {
+        if (activity != null) {
+            Activity modelActivity = activity.toModelType();
+            Optional<Activity> listedActivity = activities.getActivity(modelActivity.getName(),
+                    modelActivity.getAddress());
+            return listedActivity.filter(modelActivity::equals).orElse(modelActivity);
+        }
+        // The id is only missing from references saved before activities had ids, and it is not found if the
+        // activity list was saved before then, as its activities are given new ids whenever it is read.
+        Optional<Activity> listedActivityWithId = activityId == null ? Optional.empty()
+                : activities.getActivity(activityId);
+        if (listedActivityWithId.isPresent()) {
+            return listedActivityWithId.get();
+        }
+
+        if (activityName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "activityName"));
+        }
+        if (!Name.isValidName(activityName)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (activityAddress != null && !Address.isValidAddress(activityAddress)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+        Name modelName = new Name(activityName);
+        Address modelAddress = activityAddress == null ? null : new Address(activityAddress);
+        return activities.getActivity(modelName, modelAddress).orElseThrow(() ->
+                new IllegalValueException(String.format(MESSAGE_UNKNOWN_ACTIVITY, activityName)));
     }
 
 }
@@ -42,12 +42,13 @@ public class JsonAdaptedDay {
     /**
      * Converts this Jackson-friendly adapted activityWithTimes object into the model's {@code Day} object.
      *
+     * @param activities the activities in the activity list that the scheduled activities refer to.
      * @throws IllegalValueException if there were any data constraints violated in the adapted contacts.
      */
-    public Day toModelType() throws IllegalValueException {
+    public Day toModelType(ActivityReferences activities) throws IllegalValueException {
         final List<ActivityWithTime> dayActivities = new ArrayList<>();
-        for (JsonAdaptedActivityWithTime activities : activityWithTimes) {
-            dayActivities.add(activities.toModelType());
+        for (JsonAdaptedActivityWithTime activityWithTime : activityWithTimes) {
+            dayActivities.add(activityWithTime.toModelType(activities));
         }
         return new Day(dayActivities);
     }
@@ -12,10 +12,15 @@ import seedu.planner.commons.exceptions.DataConversionException;
 import seedu.planner.commons.exceptions.IllegalValueException;
 import seedu.planner.commons.util.FileUtil;
 import seedu.planner.commons.util.JsonUtil;
+import seedu.planner.model.ReadOnlyActivity;
 import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.storage.BinaryDataWriter;
+import seedu.planner.storage.DataFormatConverter;
 //@@author OneArmyj
 /**
  * A class to access Itinerary data stored as a json file on the hard disk.
+ * <br> If the json file does not exist yet, the binary file of the same name is converted to it, so that planners
+ * saved while binary storage was enabled are moved back to the json format.
  */
 public class JsonItineraryStorage implements ItineraryStorage {
 
@@ -37,8 +42,8 @@ public class JsonItineraryStorage implements ItineraryStorage {
     }
 
     @Override
-    public Optional<ReadOnlyItinerary> readItinerary() throws DataConversionException {
-        return readItinerary(filePath);
+    public Optional<ReadOnlyItinerary> readItinerary(ReadOnlyActivity activity) throws DataConversionException {
+        return readItinerary(filePath, activity);
     }
 
     /**
@@ -47,8 +52,16 @@ public class JsonItineraryStorage implements ItineraryStorage {
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlyItinerary> readItinerary(Path filePath) throws DataConversionException {
+    public Optional<ReadOnlyItinerary> readItinerary(Path filePath, ReadOnlyActivity activity)
+            throws DataConversionException {
         requireNonNull(filePath);
+        requireNonNull(activity);
+
+        Path binaryFilePath = FileUtil.changeFileExtension(filePath, BinaryDataWriter.FILE_EXTENSION);
+        if (DataFormatConverter.isConversionNeeded(binaryFilePath, filePath)) {
+            return DataFormatConverter.convert(binaryFilePath, filePath, () ->
+                    new BinaryItineraryStorage(binaryFilePath).readItinerary(activity), this::saveItinerary);
+        }
 
         Optional<JsonSerializableItinerary> jsonItinerary = JsonUtil.readJsonFile(
                 filePath, JsonSerializableItinerary.class);
@@ -57,7 +70,7 @@ public class JsonItineraryStorage implements ItineraryStorage {
         }
 
         try {
-            return Optional.of(jsonItinerary.get().toModelType());
+            return Optional.of(jsonItinerary.get().toModelType(activity));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -79,7 +92,7 @@ public class JsonItineraryStorage implements ItineraryStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableItinerary(itinerary), filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableItinerary(itinerary), filePath, false);
     }
 
 }
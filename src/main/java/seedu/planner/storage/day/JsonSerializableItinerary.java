@@ -11,7 +11,9 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.planner.commons.exceptions.IllegalValueException;
 import seedu.planner.model.Itinerary;
+import seedu.planner.model.ReadOnlyActivity;
 import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.model.activity.Activity;
 import seedu.planner.model.day.Day;
 import seedu.planner.model.field.Name;
 //@@author OneArmyj
@@ -51,13 +53,16 @@ class JsonSerializableItinerary {
 
     /**
      * Converts this address book into the model's {@code Itinerary} object.
+     * Scheduled activities are resolved against {@code activity}, so that they share its {@code Activity} objects.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    public Itinerary toModelType() throws IllegalValueException {
+    public Itinerary toModelType(ReadOnlyActivity activity) throws IllegalValueException {
+        ActivityReferences activities = new ActivityReferences(activity.getActivityList());
+
         Itinerary itinerary = new Itinerary();
         for (JsonAdaptedDay jsonAdaptedDay : days) {
-            Day day = jsonAdaptedDay.toModelType();
+            Day day = jsonAdaptedDay.toModelType(activities);
             itinerary.addDay(day);
         }
         String[] sdArray = startDate.split("-");
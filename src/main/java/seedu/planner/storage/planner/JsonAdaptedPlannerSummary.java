@@ -0,0 +1,81 @@
+package seedu.planner.storage.planner;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.planner.commons.exceptions.IllegalValueException;
+import seedu.planner.model.field.Name;
+import seedu.planner.model.planner.PlannerSummary;
+
+/**
+ * Jackson-friendly version of {@link PlannerSummary}.
+ */
+class JsonAdaptedPlannerSummary {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Planner's %s field is missing!";
+    public static final String MESSAGE_INVALID_DATE = "Planner's dates should be in ISO-8601 format.";
+    public static final String MESSAGE_INVALID_COUNT = "Planner's day and activity counts should not be negative.";
+
+    private final String name;
+    private final String startDate;
+    private final int dayCount;
+    private final int activityCount;
+    private final String lastModified;
+
+    /**
+     * Constructs a {@code JsonAdaptedPlannerSummary} with the given planner details.
+     */
+    @JsonCreator
+    public JsonAdaptedPlannerSummary(@JsonProperty("name") String name, @JsonProperty("startDate") String startDate,
+            @JsonProperty("dayCount") int dayCount, @JsonProperty("activityCount") int activityCount,
+            @JsonProperty("lastModified") String lastModified) {
+        this.name = name;
+        this.startDate = startDate;
+        this.dayCount = dayCount;
+        this.activityCount = activityCount;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Converts a given {@code PlannerSummary} into this class for Jackson use.
+     */
+    public JsonAdaptedPlannerSummary(PlannerSummary source) {
+        name = source.getName().name;
+        startDate = source.getStartDate().toString();
+        dayCount = source.getDayCount();
+        activityCount = source.getActivityCount();
+        lastModified = source.getLastModified().toString();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted planner summary into the model's {@code PlannerSummary} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted planner summary.
+     */
+    public PlannerSummary toModelType() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (startDate == null || lastModified == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "date"));
+        }
+        if (dayCount < 0 || activityCount < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_COUNT);
+        }
+
+        try {
+            return new PlannerSummary(new Name(name), LocalDate.parse(startDate), dayCount, activityCount,
+                    LocalDateTime.parse(lastModified));
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package seedu.planner.storage.planner;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.planner.commons.core.LogsCenter;
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.commons.exceptions.IllegalValueException;
+import seedu.planner.commons.util.FileUtil;
+import seedu.planner.commons.util.JsonUtil;
+import seedu.planner.model.planner.PlannerCatalog;
+
+/**
+ * A class to access the PlannerCatalog stored as a json file on the hard disk.
+ */
+public class JsonPlannerCatalogStorage implements PlannerCatalogStorage {
+
+    public static final String FILE_NAME = "planners.json";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonPlannerCatalogStorage.class);
+
+    private Path filePath;
+
+    public JsonPlannerCatalogStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getPlannerCatalogFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<PlannerCatalog> readPlannerCatalog() throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializablePlannerCatalog> jsonPlannerCatalog = JsonUtil.readJsonFile(
+                filePath, JsonSerializablePlannerCatalog.class);
+        if (!jsonPlannerCatalog.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(jsonPlannerCatalog.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void savePlannerCatalog(PlannerCatalog plannerCatalog) throws IOException {
+        requireNonNull(plannerCatalog);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializablePlannerCatalog(plannerCatalog), filePath);
+    }
+
+}
@@ -0,0 +1,60 @@
+package seedu.planner.storage.planner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.planner.commons.exceptions.IllegalValueException;
+import seedu.planner.model.planner.PlannerCatalog;
+import seedu.planner.model.planner.PlannerSummary;
+
+/**
+ * An Immutable PlannerCatalog that is serializable to JSON format.
+ */
+@JsonRootName(value = "plannerCatalog")
+class JsonSerializablePlannerCatalog {
+
+    public static final String MESSAGE_DUPLICATE_PLANNER = "Planners list contains duplicate planner(s).";
+
+    private final List<JsonAdaptedPlannerSummary> planners = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializablePlannerCatalog} with the given planners.
+     */
+    @JsonCreator
+    public JsonSerializablePlannerCatalog(@JsonProperty("planners") List<JsonAdaptedPlannerSummary> planners) {
+        this.planners.addAll(planners);
+    }
+
+    /**
+     * Converts a given {@code PlannerCatalog} into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializablePlannerCatalog}.
+     */
+    public JsonSerializablePlannerCatalog(PlannerCatalog source) {
+        planners.addAll(source.getPlannerList().stream().map(JsonAdaptedPlannerSummary::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this planner catalog into the model's {@code PlannerCatalog} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public PlannerCatalog toModelType() throws IllegalValueException {
+        PlannerCatalog plannerCatalog = new PlannerCatalog();
+        for (JsonAdaptedPlannerSummary jsonAdaptedPlannerSummary : planners) {
+            PlannerSummary summary = jsonAdaptedPlannerSummary.toModelType();
+            if (plannerCatalog.hasPlanner(summary.getName())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PLANNER);
+            }
+            plannerCatalog.setPlanner(summary);
+        }
+        return plannerCatalog;
+    }
+
+}
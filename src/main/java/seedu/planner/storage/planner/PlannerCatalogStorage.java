@@ -0,0 +1,35 @@
+package seedu.planner.storage.planner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.model.planner.PlannerCatalog;
+
+/**
+ * Represents a storage for {@link PlannerCatalog}.
+ */
+public interface PlannerCatalogStorage {
+
+    /**
+     * Returns the file path of the PlannerCatalog data file.
+     */
+    Path getPlannerCatalogFilePath();
+
+    /**
+     * Returns PlannerCatalog data from storage.
+     *   Returns {@code Optional.empty()} if storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    Optional<PlannerCatalog> readPlannerCatalog() throws DataConversionException, IOException;
+
+    /**
+     * Saves the given {@link PlannerCatalog} to the storage.
+     * @param plannerCatalog cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void savePlannerCatalog(PlannerCatalog plannerCatalog) throws IOException;
+
+}
@@ -109,7 +109,7 @@ public class AgendaManager {
             addAppointmentsWithDay(day, dayList.size());
         }
         int totalNumberOfActivityWithTime = dayList.stream()
-                .mapToInt(day -> day.getListOfActivityWithTime().size()).sum();
+                .mapToInt(Day::getNumberOfActivities).sum();
 
         if (activityToAppointmentGroupHashMap.size()
                 > totalNumberOfActivityWithTime * MAX_MULTIPLE_OF_DAYLIST_SIZE_BEFORE_CLEARING_HASHMAP) {
@@ -1,13 +1,26 @@
 package seedu.planner.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.planner.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,51 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingFile_createsFileWithoutBackup() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "content");
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContentAndKeepsBackup() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "first");
+        FileUtil.writeToFileAtomically(file, "second");
+        FileUtil.writeToFileAtomically(file, "third");
+
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_fileUnchangedAndNoTempFileLeft() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "first");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write(1);
+            throw new IOException("disk full");
+        }));
+        assertEquals("first", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void newInputStream_largeFile_readsWholeContent() throws Exception {
+        Path file = testFolder.resolve("large.json");
+        String content = "0123456789abcdef".repeat(128 * 1024);
+        FileUtil.writeToFile(file, content);
+
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            assertEquals(content, new String(in.readAllBytes(), "UTF-8"));
+            assertEquals(-1, in.read());
+        }
+    }
+
 }
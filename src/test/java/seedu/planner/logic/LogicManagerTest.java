@@ -1,21 +1,32 @@
 package seedu.planner.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.planner.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.planner.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.planner.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.planner.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.planner.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.planner.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.planner.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.planner.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.planner.testutil.Assert.assertThrows;
 import static seedu.planner.testutil.contact.TypicalContacts.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.planner.logic.commands.LoadCommand;
+import seedu.planner.logic.commands.NewCommand;
+import seedu.planner.logic.commands.addcommand.AddActivityCommand;
 import seedu.planner.logic.commands.addcommand.AddContactCommand;
 import seedu.planner.logic.commands.exceptions.CommandException;
 import seedu.planner.logic.commands.listcommand.ListContactCommand;
@@ -27,12 +38,16 @@ import seedu.planner.model.ModelManager;
 import seedu.planner.model.ReadOnlyAccommodation;
 import seedu.planner.model.UserPrefs;
 import seedu.planner.model.contact.Contact;
+import seedu.planner.model.field.Name;
+import seedu.planner.model.planner.PlannerCatalog;
+import seedu.planner.model.planner.PlannerSummary;
 import seedu.planner.storage.JsonUserPrefsStorage;
 import seedu.planner.storage.StorageManager;
 import seedu.planner.storage.accommodation.JsonAccommodationStorage;
 import seedu.planner.storage.activity.JsonActivityStorage;
 import seedu.planner.storage.contact.JsonContactStorage;
 import seedu.planner.storage.day.JsonItineraryStorage;
+import seedu.planner.storage.planner.JsonPlannerCatalogStorage;
 import seedu.planner.testutil.contact.ContactBuilder;
 
 public class LogicManagerTest {
@@ -55,8 +70,10 @@ public class LogicManagerTest {
         JsonItineraryStorage itineraryStorage =
                 new JsonItineraryStorage(temporaryFolder.resolve("itinerary.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        JsonPlannerCatalogStorage plannerCatalogStorage =
+                new JsonPlannerCatalogStorage(temporaryFolder.resolve("planners.json"));
         StorageManager storage = new StorageManager(accommodationStorage, activityStorage, contactStorage,
-                itineraryStorage, userPrefsStorage);
+                itineraryStorage, userPrefsStorage, plannerCatalogStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -80,6 +97,21 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListContactCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommandAfterSave_doesNotWriteToStorage() throws Exception {
+        String listCommand = ListContactCommand.COMMAND_WORD + " " + ListContactCommand.SECOND_COMMAND_WORD;
+        Path contactFilePath = temporaryFolder.resolve("contact.json");
+
+        // first command saves the initial data
+        logic.execute(listCommand);
+        assertTrue(Files.exists(contactFilePath));
+
+        // unchanged data is not written again
+        Files.delete(contactFilePath);
+        logic.execute(listCommand);
+        assertFalse(Files.exists(contactFilePath));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAccommodationIoExceptionThrowingStub
@@ -93,8 +125,10 @@ public class LogicManagerTest {
                 new JsonItineraryStorage(temporaryFolder.resolve("ioExceptionItinerary.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        JsonPlannerCatalogStorage plannerCatalogStorage =
+                new JsonPlannerCatalogStorage(temporaryFolder.resolve("ioExceptionPlanners.json"));
         StorageManager storage = new StorageManager(accommodationStorage, activityStorage, contactStorage,
-                itineraryStorage, userPrefsStorage);
+                itineraryStorage, userPrefsStorage, plannerCatalogStorage);
         logic = new LogicManager(model, storage);
 
         // Execute add command
@@ -107,11 +141,91 @@ public class LogicManagerTest {
         assertCommandFailure(addContactCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_loadCataloguedPlannerWithoutDirectory_throwsCommandException() {
+        Path currentPlannerFilePath = temporaryFolder.resolve("Current");
+        model.setPlannerFilePath(currentPlannerFilePath);
+        catalogPlanner("Japan");
+
+        assertThrows(CommandException.class, LoadCommand.NO_PLANNER_MESSAGE, () ->
+                logic.execute(LoadCommand.COMMAND_WORD + " " + PREFIX_NAME + "Japan"));
+        assertEquals(currentPlannerFilePath, model.getPlannerFilePath());
+    }
+
+    @Test
+    public void execute_loadPlannerWithMissingData_switchesBackAndThrowsCommandException() throws Exception {
+        Path currentPlannerFilePath = temporaryFolder.resolve("Current");
+        Path missingPlannerFilePath = temporaryFolder.resolve("Japan");
+        model.setPlannerFilePath(currentPlannerFilePath);
+        Files.createDirectories(missingPlannerFilePath);
+        catalogPlanner("Japan");
+
+        assertThrows(CommandException.class, LogicManager.MISSING_PLANNER_DATA_MESSAGE + missingPlannerFilePath, () ->
+                logic.execute(LoadCommand.COMMAND_WORD + " " + PREFIX_NAME + "Japan"));
+        assertEquals(currentPlannerFilePath, model.getPlannerFilePath());
+        assertEquals(currentPlannerFilePath.resolve("contact.json"), logic.getContactFilePath());
+    }
+
+    @Test
+    public void execute_newPlannerOverUncataloguedDirectory_throwsCommandException() throws Exception {
+        Path currentPlannerFilePath = temporaryFolder.resolve("Current");
+        model.setPlannerFilePath(currentPlannerFilePath);
+        Files.createDirectories(temporaryFolder.resolve("Japan"));
+
+        assertThrows(CommandException.class, NewCommand.DUPLICATE_PLANNER_MESSAGE, () ->
+                logic.execute(NewCommand.COMMAND_WORD + " " + PREFIX_NAME + "Japan"));
+        assertEquals(currentPlannerFilePath, model.getPlannerFilePath());
+    }
+
+    @Test
+    public void execute_loadUncataloguedPlanner_loadsPlannerAndAddsItToCatalog() throws Exception {
+        model.setPlannerFilePath(temporaryFolder.resolve("Current"));
+        logic.execute(NewCommand.COMMAND_WORD + " " + PREFIX_NAME + "Japan");
+        logic.execute(NewCommand.COMMAND_WORD + " " + PREFIX_NAME + "Korea");
+        // As if the catalog was saved before the planner was added
+        model.getPlannerCatalog().removePlanner(new Name("Japan"));
+
+        logic.execute(LoadCommand.COMMAND_WORD + " " + PREFIX_NAME + "Japan");
+        assertEquals(temporaryFolder.resolve("Japan"), model.getPlannerFilePath());
+        assertTrue(model.hasPlanner(new Name("Japan")));
+        assertTrue(readPlannerCatalog().hasPlanner(new Name("Japan")));
+    }
+
+    @Test
+    public void execute_dataChangedWithoutSwitchingPlanner_catalogSavedOnFlush() throws Exception {
+        model.setPlannerFilePath(temporaryFolder.resolve("Current"));
+        logic.execute(NewCommand.COMMAND_WORD + " " + PREFIX_NAME + "Japan");
+        assertEquals(0, readPlannerCatalog().getPlanner(new Name("Japan")).get().getActivityCount());
+
+        logic.execute(AddActivityCommand.COMMAND_WORD + " " + AddActivityCommand.SECOND_COMMAND_WORD + " "
+                + PREFIX_NAME + "Museum " + PREFIX_ADDRESS + "Tokyo " + PREFIX_DURATION + "60");
+        assertEquals(1, model.getPlannerCatalog().getPlanner(new Name("Japan")).get().getActivityCount());
+        assertEquals(0, readPlannerCatalog().getPlanner(new Name("Japan")).get().getActivityCount());
+
+        logic.flush();
+        assertEquals(1, readPlannerCatalog().getPlanner(new Name("Japan")).get().getActivityCount());
+    }
+
     @Test
     public void getFilteredContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredContactList().remove(0));
     }
 
+    /**
+     * Returns the planner catalog saved by {@code logic}.
+     */
+    private PlannerCatalog readPlannerCatalog() throws Exception {
+        return new JsonPlannerCatalogStorage(temporaryFolder.resolve("planners.json")).readPlannerCatalog().get();
+    }
+
+    /**
+     * Records a planner named {@code name} in the planner catalog of the model.
+     */
+    private void catalogPlanner(String name) {
+        model.getPlannerCatalog().setPlanner(new PlannerSummary(new Name(name), LocalDate.of(2020, 1, 1), 0, 0,
+                LocalDateTime.of(2020, 1, 1, 0, 0)));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -6,14 +6,18 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.planner.testutil.Assert.assertThrows;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.planner.commons.core.index.Index;
 import seedu.planner.logic.commands.exceptions.CommandException;
 import seedu.planner.logic.commands.result.CommandResult;
+import seedu.planner.logic.commands.util.ScheduleOptimiser.Objective;
 import seedu.planner.model.Model;
 import seedu.planner.model.ModelManager;
 import seedu.planner.model.day.Day;
+import seedu.planner.model.field.Cost;
 import seedu.planner.testutil.day.TypicalDays;
 
 public class OptimiseCommandTest {
@@ -31,6 +35,16 @@ public class OptimiseCommandTest {
         assertThrows(CommandException.class, OptimiseCommand.MESSAGE_DAY_EMPTY, () -> optimiseCommand.execute(model));
     }
 
+    @Test
+    public void execute_nothingWithinBudget_throwsCommandException() {
+        Model model = new ModelManager();
+        model.addDays(1);
+        model.addDayAtIndex(Index.fromOneBased(1), TypicalDays.CONFLICTED_DAY1);
+        OptimiseCommand optimiseCommand = new OptimiseCommand(Index.fromOneBased(1), Objective.PRIORITY,
+                Optional.of(new Cost("0.00")), false);
+        assertThrows(CommandException.class, OptimiseCommand.MESSAGE_OVER_BUDGET, () -> optimiseCommand.execute(model));
+    }
+
     @Test
     public void execute_optimise_success() {
         Model model = new ModelManager();
@@ -60,6 +74,34 @@ public class OptimiseCommandTest {
         }
     }
 
+    @Test
+    public void execute_optimiseAll_success() {
+        Model model = new ModelManager();
+        model.addDays(3);
+        model.addDayAtIndex(Index.fromOneBased(1), TypicalDays.CONFLICTED_DAY1);
+        model.addDayAtIndex(Index.fromOneBased(3), TypicalDays.CONFLICTED_DAY2);
+
+        try {
+            CommandResult commandResult = new OptimiseCommand(Optional.empty(), Objective.COST, Optional.empty(),
+                    false).execute(model);
+            assertEquals(OptimiseCommand.MESSAGE_ALL_SUCCESS, commandResult.getFeedbackToUser());
+            assertEquals(TypicalDays.CONFLICTLESS_DAY1, model.getDay(Index.fromOneBased(1)));
+            assertEquals(TypicalDays.CONFLICTLESS_DAY2, model.getDay(Index.fromOneBased(3)));
+        } catch (CommandException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void execute_optimiseAllEmptyItinerary_throwsCommandException() {
+        Model model = new ModelManager();
+        model.addDays(2);
+        OptimiseCommand optimiseCommand = new OptimiseCommand(Optional.empty(), Objective.PRIORITY, Optional.empty(),
+                false);
+        assertThrows(CommandException.class, OptimiseCommand.MESSAGE_ITINERARY_EMPTY, () ->
+                optimiseCommand.execute(model));
+    }
+
     @Test
     public void equals() {
         OptimiseCommand optimiseCommand1 = new OptimiseCommand(Index.fromOneBased(1), false);
@@ -77,5 +119,9 @@ public class OptimiseCommandTest {
 
         //different values -> returns false
         assertFalse(optimiseCommand1.equals(optimiseCommand2));
+        assertFalse(optimiseCommand1.equals(new OptimiseCommand(Index.fromOneBased(1), Objective.DURATION,
+                Optional.empty(), false)));
+        assertFalse(optimiseCommand1.equals(new OptimiseCommand(Index.fromOneBased(1), Objective.COST,
+                Optional.of(new Cost("10.00")), false)));
     }
 }
@@ -32,6 +32,7 @@ import seedu.planner.storage.accommodation.JsonAccommodationStorage;
 import seedu.planner.storage.activity.JsonActivityStorage;
 import seedu.planner.storage.contact.JsonContactStorage;
 import seedu.planner.storage.day.JsonItineraryStorage;
+import seedu.planner.storage.planner.JsonPlannerCatalogStorage;
 //@@author OneArmyj
 public class UndoCommandTest {
     @TempDir
@@ -283,14 +284,16 @@ public class UndoCommandTest {
         Path activityPath = testFolder.resolve("TempActivity.json");
         Path itineraryPath = testFolder.resolve("TempItinerary.json");
         Path userPrefPath = testFolder.resolve("TempUserPref.json");
+        Path plannerCatalogPath = testFolder.resolve("TempPlanners.json");
 
         JsonContactStorage contactStorage = new JsonContactStorage(contactPath);
         JsonAccommodationStorage accommodationStorage = new JsonAccommodationStorage(accommodationPath);
         JsonActivityStorage activityStorage = new JsonActivityStorage(activityPath);
         JsonItineraryStorage itineraryStorage = new JsonItineraryStorage(itineraryPath);
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(userPrefPath);
+        JsonPlannerCatalogStorage plannerCatalogStorage = new JsonPlannerCatalogStorage(plannerCatalogPath);
 
         return new StorageManager(accommodationStorage, activityStorage, contactStorage, itineraryStorage,
-                userPrefsStorage);
+                userPrefsStorage, plannerCatalogStorage);
     }
 }
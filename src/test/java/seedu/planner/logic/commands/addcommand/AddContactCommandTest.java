@@ -35,7 +35,10 @@ import seedu.planner.model.contact.Contact;
 import seedu.planner.model.contact.Phone;
 import seedu.planner.model.day.ActivityWithTime;
 import seedu.planner.model.day.Day;
+import seedu.planner.model.field.Address;
 import seedu.planner.model.field.Name;
+import seedu.planner.model.planner.PlannerCatalog;
+import seedu.planner.model.tag.Tag;
 import seedu.planner.testutil.contact.ContactBuilder;
 
 public class AddContactCommandTest {
@@ -388,6 +391,62 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        // CHANGE TRACKING METHODS
+        @Override
+        public long getAccommodationVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getActivityVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getContactVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getItineraryVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void batch(Runnable changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPlannerCatalog(PlannerCatalog plannerCatalog) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PlannerCatalog getPlannerCatalog() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasPlanner(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Activity> getFilteredActivitiesWithTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Activity> getFilteredActivitiesWithName(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Activity> getFilteredActivitiesAtAddress(Address address) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         // FILTERED LIST METHODS
         @Override
         public ObservableList<Accommodation> getFilteredAccommodationList() {
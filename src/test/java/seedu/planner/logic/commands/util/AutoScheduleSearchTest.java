@@ -0,0 +1,105 @@
+package seedu.planner.logic.commands.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.day.ActivityWithTime;
+import seedu.planner.testutil.activity.ActivityBuilder;
+
+public class AutoScheduleSearchTest {
+
+    private static final LocalDate DATE = LocalDate.of(2020, 1, 1);
+    private static final long TIME_LIMIT_MILLIS = 1000;
+
+    private static Activity activity(String name, int duration) {
+        return new ActivityBuilder().withName(name).withDuration(String.valueOf(duration)).build();
+    }
+
+    private static ActivityWithTime at(Activity activity, String time) {
+        return new ActivityWithTime(activity, DATE.atTime(LocalTime.parse(time)));
+    }
+
+    @Test
+    public void search_firstFitFails_backtracksToFeasibleSchedule() {
+        Activity museum = activity("Museum", 90);
+        Activity cafe = activity("Cafe", 30);
+        Activity park = activity("Park", 60);
+        Activity lunch = activity("Lunch", 60);
+        // The museum ends before lunch, but then leaves no time for the park.
+        AutoScheduleSearch search = new AutoScheduleSearch(List.of(List.of(museum, cafe), List.of(park),
+                List.of(lunch)), List.of(Optional.of(LocalTime.of(9, 0)), Optional.empty(),
+                Optional.of(LocalTime.of(11, 0))), Map.of(), DATE);
+
+        assertTrue(search.search(TIME_LIMIT_MILLIS));
+        assertEquals(List.of(at(cafe, "09:00"), at(park, "09:30"), at(lunch, "11:00")), search.getSchedule());
+    }
+
+    @Test
+    public void search_activitiesScheduledBefore_leastScheduledTriedFirst() {
+        Activity often = activity("Often", 60);
+        Activity rarely = activity("Rarely", 60);
+        AutoScheduleSearch search = new AutoScheduleSearch(List.of(List.of(often, rarely)),
+                List.of(Optional.of(LocalTime.of(9, 0))), Map.of(often, 2L, rarely, 1L), DATE);
+
+        assertTrue(search.search(TIME_LIMIT_MILLIS));
+        assertEquals(List.of(at(rarely, "09:00")), search.getSchedule());
+    }
+
+    @Test
+    public void search_noFeasibleSchedule_keepsBestPartialSchedule() {
+        Activity breakfast = activity("Breakfast", 60);
+        Activity hike = activity("Hike", 300);
+        Activity dinner = activity("Dinner", 60);
+        AutoScheduleSearch search = new AutoScheduleSearch(List.of(List.of(breakfast), List.of(hike),
+                List.of(dinner)), List.of(Optional.of(LocalTime.of(9, 0)), Optional.empty(),
+                Optional.of(LocalTime.of(12, 0))), Map.of(), DATE);
+
+        assertFalse(search.search(TIME_LIMIT_MILLIS));
+        assertFalse(search.isTimedOut());
+        assertEquals(List.of(at(breakfast, "09:00")), search.getSchedule());
+    }
+
+    @Test
+    public void search_activityPastMidnight_rejected() {
+        Activity party = activity("Party", 120);
+        Activity drinks = activity("Drinks", 30);
+        AutoScheduleSearch search = new AutoScheduleSearch(List.of(List.of(party, drinks)),
+                List.of(Optional.of(LocalTime.of(23, 0))), Map.of(), DATE);
+
+        assertTrue(search.search(TIME_LIMIT_MILLIS));
+        assertEquals(List.of(at(drinks, "23:00")), search.getSchedule());
+    }
+
+    @Test
+    public void search_manySlotsWithoutSchedule_finishesByRememberingDeadEnds() {
+        List<Activity> choices = new ArrayList<>();
+        for (int duration = 10; duration <= 100; duration += 10) {
+            choices.add(activity("Choice " + duration, duration));
+        }
+        List<List<Activity>> candidates = new ArrayList<>();
+        List<Optional<LocalTime>> startTimes = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            candidates.add(choices);
+            startTimes.add(i == 0 ? Optional.of(LocalTime.of(8, 0)) : Optional.empty());
+        }
+        // The last slot can never be filled, whatever is chosen for the slots before it.
+        candidates.add(List.of(activity("Party", 120)));
+        startTimes.add(Optional.of(LocalTime.of(23, 0)));
+
+        AutoScheduleSearch search = new AutoScheduleSearch(candidates, startTimes, Map.of(), DATE);
+        assertFalse(search.search(TIME_LIMIT_MILLIS));
+        assertFalse(search.isTimedOut());
+        assertEquals(30, search.getSchedule().size());
+    }
+}
@@ -0,0 +1,312 @@
+package seedu.planner.logic.commands.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.planner.logic.commands.util.ScheduleOptimiser.Objective;
+import seedu.planner.model.day.ActivityWithTime;
+import seedu.planner.model.day.Timetable;
+import seedu.planner.model.field.Cost;
+import seedu.planner.testutil.activity.ActivityBuilder;
+
+public class ScheduleOptimiserTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2020, 1, 1, 8, 0);
+
+    private static ActivityWithTime activityAt(int minutesAfterMorning, int duration, String cost) {
+        return activityAt(minutesAfterMorning, duration, cost, 1);
+    }
+
+    private static ActivityWithTime activityAt(int minutesAfterMorning, int duration, String cost, int priority) {
+        return new ActivityWithTime(new ActivityBuilder()
+                .withName("Activity " + minutesAfterMorning + " " + duration + " " + cost.replace('.', ' '))
+                .withDuration(String.valueOf(duration)).withCost(cost).withPriority(String.valueOf(priority))
+                .build(), MORNING.plusMinutes(minutesAfterMorning));
+    }
+
+    @Test
+    public void optimise_emptyList_returnsEmptyList() {
+        assertTrue(ScheduleOptimiser.optimise(new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    public void optimise_sameStartTime_keepsOnlyCheapest() {
+        ActivityWithTime expensive = activityAt(0, 60, "20.00");
+        ActivityWithTime cheap = activityAt(0, 30, "10.00");
+        Timetable timetable = new Timetable(List.of(expensive, cheap));
+
+        assertEquals(List.of(cheap), ScheduleOptimiser.optimise(timetable.getActivitiesWithTime()));
+    }
+
+    @Test
+    public void optimise_largeCosts_summedExactly() {
+        // Both sums round to the same double, so only an exact sum finds the cheaper schedule.
+        ActivityWithTime first = activityAt(0, 60, "9999999999999999999999999.00");
+        ActivityWithTime second = activityAt(0, 60, "9999999999999999999999999.01");
+        ActivityWithTime cheapFollower = activityAt(60, 60, "0.01");
+        ActivityWithTime freeFollower = activityAt(60, 60, "0.00");
+        Timetable timetable = new Timetable(List.of(first, second, cheapFollower, freeFollower));
+
+        assertEquals(List.of(first, freeFollower), ScheduleOptimiser.optimise(timetable.getActivitiesWithTime()));
+    }
+
+    @Test
+    public void optimise_randomDays_matchesEnumeratingAllSchedules() {
+        Random random = new Random(21);
+        for (int day = 0; day < 200; day++) {
+            Timetable timetable = new Timetable();
+            int size = 1 + random.nextInt(12);
+            for (int i = 0; i < size; i++) {
+                timetable.addActivityWithTime(activityAt(random.nextInt(480), 1 + random.nextInt(180),
+                        random.nextInt(5) + "." + random.nextInt(10) + "0"));
+            }
+
+            assertEquals(findBestByEnumeration(timetable),
+                    ScheduleOptimiser.optimise(timetable.getActivitiesWithTime()));
+        }
+    }
+
+    @Test
+    public void optimise_priorityWithinBudget_choosesHighestTotalPriority() {
+        ActivityWithTime important = activityAt(0, 120, "50.00", 1);
+        ActivityWithTime minorMorning = activityAt(0, 60, "10.00", 5);
+        ActivityWithTime minorNoon = activityAt(60, 60, "10.00", 5);
+        List<ActivityWithTime> activities =
+                new Timetable(List.of(important, minorMorning, minorNoon)).getActivitiesWithTime();
+
+        assertEquals(List.of(important),
+                ScheduleOptimiser.optimise(activities, Objective.PRIORITY, Optional.empty()));
+        assertEquals(List.of(minorMorning, minorNoon),
+                ScheduleOptimiser.optimise(activities, Objective.PRIORITY, Optional.of(new Cost("40.00"))));
+        assertTrue(ScheduleOptimiser.optimise(activities, Objective.PRIORITY, Optional.of(new Cost("5.00")))
+                .isEmpty());
+    }
+
+    @Test
+    public void optimise_unprioritisedActivities_worthLeastOfAll() {
+        ActivityWithTime unprioritisedMorning = activityAt(0, 120, "1.00", 0);
+        ActivityWithTime lowestMorning = activityAt(0, 60, "1.00", 7);
+        ActivityWithTime highestNoon = activityAt(120, 60, "1.00", 1);
+        ActivityWithTime unprioritisedEvening = activityAt(200, 60, "1.00", 0);
+        List<ActivityWithTime> activities = new Timetable(List.of(unprioritisedMorning, lowestMorning,
+                highestNoon, unprioritisedEvening)).getActivitiesWithTime();
+
+        assertEquals(List.of(lowestMorning, highestNoon, unprioritisedEvening),
+                ScheduleOptimiser.optimise(activities, Objective.PRIORITY, Optional.empty()));
+    }
+
+    @Test
+    public void optimise_costOverBudget_returnsEmptyList() {
+        List<ActivityWithTime> activities = List.of(activityAt(0, 60, "10.00"));
+
+        assertEquals(activities,
+                ScheduleOptimiser.optimise(activities, Objective.COST, Optional.of(new Cost("10.00"))));
+        assertTrue(ScheduleOptimiser.optimise(activities, Objective.COST, Optional.of(new Cost("9.99"))).isEmpty());
+    }
+
+    @Test
+    public void optimise_randomDaysWithBudget_matchesEnumeratingAllSubsets() {
+        Random random = new Random(22);
+        for (int day = 0; day < 200; day++) {
+            Timetable timetable = new Timetable();
+            int size = 1 + random.nextInt(10);
+            for (int i = 0; i < size; i++) {
+                timetable.addActivityWithTime(activityAt(random.nextInt(480), 1 + random.nextInt(180),
+                        random.nextInt(5) + "." + random.nextInt(10) + "0", random.nextInt(8)));
+            }
+            Cost budget = new Cost(random.nextInt(12) + ".00");
+            List<ActivityWithTime> activities = timetable.getActivitiesWithTime();
+
+            assertBestSubset(activities, budget, Objective.PRIORITY,
+                    ScheduleOptimiserTest::priorityWeight);
+            assertBestSubset(activities, budget, Objective.DURATION,
+                    activity -> activity.getActivity().getDuration().value);
+        }
+    }
+
+    @Test
+    public void optimiseAll_sharedBudget_spentWhereItIsWorthMost() {
+        ActivityWithTime importantDay1 = activityAt(0, 60, "30.00", 1);
+        ActivityWithTime minorDay1 = activityAt(60, 60, "10.00", 7);
+        ActivityWithTime importantDay2 = activityAt(0, 60, "20.00", 2);
+        ActivityWithTime minorDay2 = activityAt(0, 30, "5.00", 6);
+        List<List<ActivityWithTime>> days = List.of(List.of(importantDay1, minorDay1),
+                List.of(minorDay2, importantDay2), List.of());
+
+        assertEquals(List.of(List.of(importantDay1), List.of(importantDay2), List.of()),
+                ScheduleOptimiser.optimiseAll(days, Objective.PRIORITY, Optional.of(new Cost("50.00"))));
+        assertEquals(List.of(List.of(importantDay1), List.of(minorDay2), List.of()),
+                ScheduleOptimiser.optimiseAll(days, Objective.PRIORITY, Optional.of(new Cost("35.00"))));
+    }
+
+    @Test
+    public void optimiseAll_randomItineraries_matchesEnumeratingAllChoices() {
+        Random random = new Random(23);
+        for (int itinerary = 0; itinerary < 50; itinerary++) {
+            List<List<ActivityWithTime>> days = new ArrayList<>();
+            for (int day = 0; day < 3; day++) {
+                Timetable timetable = new Timetable();
+                int size = random.nextInt(5);
+                for (int i = 0; i < size; i++) {
+                    timetable.addActivityWithTime(activityAt(random.nextInt(480), 1 + random.nextInt(180),
+                            random.nextInt(5) + "." + random.nextInt(10) + "0", random.nextInt(8)));
+                }
+                days.add(timetable.getActivitiesWithTime());
+            }
+            Cost budget = new Cost(random.nextInt(20) + ".00");
+            ToIntFunction<ActivityWithTime> valueOf = ScheduleOptimiserTest::priorityWeight;
+
+            int bestValue = 0;
+            BigDecimal bestCost = BigDecimal.ZERO;
+            for (List<ActivityWithTime> chosen : getAllChoices(days, 0)) {
+                int value = chosen.stream().mapToInt(valueOf).sum();
+                BigDecimal cost = totalCost(chosen);
+                boolean isBetter = value > bestValue || value == bestValue && cost.compareTo(bestCost) < 0;
+                if (cost.compareTo(new BigDecimal(budget.cost)) <= 0 && isBetter) {
+                    bestValue = value;
+                    bestCost = cost;
+                }
+            }
+
+            List<List<ActivityWithTime>> schedules =
+                    ScheduleOptimiser.optimiseAll(days, Objective.PRIORITY, Optional.of(budget));
+            List<ActivityWithTime> chosen = new ArrayList<>();
+            for (int day = 0; day < days.size(); day++) {
+                assertTrue(days.get(day).containsAll(schedules.get(day)) && !hasOverlap(schedules.get(day)));
+                chosen.addAll(schedules.get(day));
+            }
+            assertEquals(bestValue, chosen.stream().mapToInt(valueOf).sum());
+            assertEquals(0, bestCost.compareTo(totalCost(chosen)));
+        }
+    }
+
+    /**
+     * Returns every way of choosing activities that do not overlap within each day, from the {@code from}-th day on.
+     */
+    private static List<List<ActivityWithTime>> getAllChoices(List<List<ActivityWithTime>> days, int from) {
+        if (from == days.size()) {
+            return List.of(List.of());
+        }
+        List<ActivityWithTime> activities = days.get(from);
+        List<List<ActivityWithTime>> choices = new ArrayList<>();
+        for (List<ActivityWithTime> rest : getAllChoices(days, from + 1)) {
+            for (int subset = 0; subset < 1 << activities.size(); subset++) {
+                List<ActivityWithTime> chosen = new ArrayList<>();
+                for (int i = 0; i < activities.size(); i++) {
+                    if ((subset & 1 << i) != 0) {
+                        chosen.add(activities.get(i));
+                    }
+                }
+                if (!hasOverlap(chosen)) {
+                    chosen.addAll(rest);
+                    choices.add(chosen);
+                }
+            }
+        }
+        return choices;
+    }
+
+    /**
+     * Returns the value of {@code activity} when optimising for priority, where unprioritised activities are worth
+     * the least.
+     */
+    private static int priorityWeight(ActivityWithTime activity) {
+        int priority = activity.getActivity().getPriority().priorityValue;
+        return priority == 0 ? 1 : 2 * (8 - priority);
+    }
+
+    /**
+     * Asserts that the optimised schedule has no overlaps, fits within {@code budget}, and has the highest total
+     * value and then the lowest cost among all subsets of {@code activities}.
+     */
+    private static void assertBestSubset(List<ActivityWithTime> activities, Cost budget, Objective objective,
+                                         ToIntFunction<ActivityWithTime> valueOf) {
+        BigDecimal limit = new BigDecimal(budget.cost);
+        int bestValue = 0;
+        BigDecimal bestCost = BigDecimal.ZERO;
+        for (int subset = 1; subset < 1 << activities.size(); subset++) {
+            List<ActivityWithTime> chosen = new ArrayList<>();
+            for (int i = 0; i < activities.size(); i++) {
+                if ((subset & 1 << i) != 0) {
+                    chosen.add(activities.get(i));
+                }
+            }
+            int value = chosen.stream().mapToInt(valueOf).sum();
+            BigDecimal cost = totalCost(chosen);
+            boolean isBetter = value > bestValue || value == bestValue && cost.compareTo(bestCost) < 0;
+            if (!hasOverlap(chosen) && cost.compareTo(limit) <= 0 && isBetter) {
+                bestValue = value;
+                bestCost = cost;
+            }
+        }
+
+        List<ActivityWithTime> schedule = ScheduleOptimiser.optimise(activities, objective, Optional.of(budget));
+        assertTrue(!hasOverlap(schedule));
+        assertEquals(bestValue, schedule.stream().mapToInt(valueOf).sum());
+        assertEquals(0, bestCost.compareTo(totalCost(schedule)));
+    }
+
+    private static boolean hasOverlap(List<ActivityWithTime> activities) {
+        for (int i = 0; i < activities.size(); i++) {
+            for (int j = i + 1; j < activities.size(); j++) {
+                if (activities.get(i).isOverlapping(activities.get(j))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first of the cheapest schedules with the most activities, found by enumerating every schedule.
+     */
+    private static List<ActivityWithTime> findBestByEnumeration(Timetable timetable) {
+        List<List<ActivityWithTime>> schedules = new ArrayList<>();
+        List<ActivityWithTime> activities = timetable.getActivitiesWithTime();
+        for (ActivityWithTime start : timetable.findAllOverlap(activities.get(0))) {
+            List<ActivityWithTime> schedule = new ArrayList<>();
+            schedule.add(start);
+            enumerate(timetable, schedule, schedules);
+        }
+
+        List<ActivityWithTime> best = schedules.get(0);
+        for (List<ActivityWithTime> schedule : schedules) {
+            int costComparison = totalCost(schedule).compareTo(totalCost(best));
+            if (costComparison < 0 || costComparison == 0 && schedule.size() > best.size()) {
+                best = schedule;
+            }
+        }
+        return best;
+    }
+
+    private static void enumerate(Timetable timetable, List<ActivityWithTime> schedule,
+                                  List<List<ActivityWithTime>> schedules) {
+        ActivityWithTime last = schedule.get(schedule.size() - 1);
+        Optional<ActivityWithTime> next = timetable.findNextNoOverlap(timetable.getIndex(last));
+        if (next.isEmpty()) {
+            schedules.add(schedule);
+            return;
+        }
+        for (ActivityWithTime neighbour : timetable.findAllOverlap(next.get())) {
+            List<ActivityWithTime> extended = new ArrayList<>(schedule);
+            extended.add(neighbour);
+            enumerate(timetable, extended, schedules);
+        }
+    }
+
+    private static BigDecimal totalCost(List<ActivityWithTime> schedule) {
+        return schedule.stream()
+                .map(activity -> new BigDecimal(activity.getActivity().getCost().get().cost))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
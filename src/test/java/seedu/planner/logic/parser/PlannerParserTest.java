@@ -7,18 +7,23 @@ import static seedu.planner.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.planner.testutil.Assert.assertThrows;
 import static seedu.planner.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.planner.logic.commands.ClearCommand;
 import seedu.planner.logic.commands.ExitCommand;
 import seedu.planner.logic.commands.HelpCommand;
+import seedu.planner.logic.commands.OptimiseCommand;
 import seedu.planner.logic.commands.addcommand.AddContactCommand;
 import seedu.planner.logic.commands.deletecommand.DeleteContactCommand;
 import seedu.planner.logic.commands.editcommand.EditContactCommand;
 import seedu.planner.logic.commands.editcommand.EditContactCommand.EditContactDescriptor;
 import seedu.planner.logic.commands.listcommand.ListContactCommand;
+import seedu.planner.logic.commands.util.ScheduleOptimiser.Objective;
 import seedu.planner.logic.parser.exceptions.ParseException;
 import seedu.planner.model.contact.Contact;
+import seedu.planner.model.field.Cost;
 import seedu.planner.testutil.contact.ContactBuilder;
 import seedu.planner.testutil.contact.ContactUtil;
 import seedu.planner.testutil.contact.EditContactDescriptorBuilder;
@@ -65,6 +70,18 @@ public class PlannerParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_optimise() throws Exception {
+        assertEquals(new OptimiseCommand(INDEX_FIRST, false),
+                parser.parseCommand(OptimiseCommand.COMMAND_WORD + " " + INDEX_FIRST.getOneBased()));
+        assertEquals(new OptimiseCommand(INDEX_FIRST, Objective.DURATION, Optional.of(new Cost("50.00")), false),
+                parser.parseCommand(OptimiseCommand.COMMAND_WORD + " " + INDEX_FIRST.getOneBased()
+                        + " duration c/50.00"));
+        assertEquals(new OptimiseCommand(Optional.empty(), Objective.PRIORITY, Optional.empty(), false),
+                parser.parseCommand(OptimiseCommand.COMMAND_WORD + " " + OptimiseCommand.ALL_DAYS + " priority"));
+        assertThrows(ParseException.class, () -> parser.parseCommand(OptimiseCommand.COMMAND_WORD + " 1 fastest"));
+    }
+
     /*
     @Test
     public void parseCommand_find() throws Exception {
@@ -8,13 +8,27 @@ import static seedu.planner.testutil.contact.TypicalContacts.ALICE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.planner.commons.core.GuiSettings;
+import seedu.planner.commons.core.index.Index;
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.contact.Contact;
+import seedu.planner.model.contact.Phone;
+import seedu.planner.model.day.ActivityWithTime;
+import seedu.planner.model.day.Day;
+import seedu.planner.model.field.Address;
+import seedu.planner.model.field.Name;
 import seedu.planner.model.field.NameContainsKeywordsPredicate;
+import seedu.planner.model.tag.Tag;
 import seedu.planner.testutil.accommodation.TypicalAccommodations;
+import seedu.planner.testutil.activity.ActivityBuilder;
 import seedu.planner.testutil.activity.TypicalActivity;
 import seedu.planner.testutil.contact.TypicalContacts;
 import seedu.planner.testutil.day.TypicalDays;
@@ -101,6 +115,151 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredContactList().remove(0));
     }
 
+    @Test
+    public void addContact_contactAdded_incrementsOnlyContactVersion() {
+        long accommodationVersion = modelManager.getAccommodationVersion();
+        long activityVersion = modelManager.getActivityVersion();
+        long contactVersion = modelManager.getContactVersion();
+        long itineraryVersion = modelManager.getItineraryVersion();
+
+        modelManager.addContact(ALICE);
+        assertTrue(modelManager.getContactVersion() > contactVersion);
+        assertEquals(accommodationVersion, modelManager.getAccommodationVersion());
+        assertEquals(activityVersion, modelManager.getActivityVersion());
+        assertEquals(itineraryVersion, modelManager.getItineraryVersion());
+    }
+
+    @Test
+    public void hasContact_readOnlyQuery_versionsUnchanged() {
+        long contactVersion = modelManager.getContactVersion();
+        modelManager.hasContact(ALICE);
+        modelManager.updateFilteredContactList(Model.PREDICATE_SHOW_ALL_CONTACTS);
+        assertEquals(contactVersion, modelManager.getContactVersion());
+    }
+
+    @Test
+    public void deleteActivity_scheduledActivity_removedFromItsDays() {
+        Activity activity = TypicalActivity.ACTIVITY_ONE;
+        modelManager.addActivity(activity);
+        modelManager.addDays(2);
+        Day day = modelManager.getDay(Index.fromOneBased(2));
+        modelManager.scheduleActivity(day, new ActivityWithTime(activity, LocalDateTime.of(2020, 1, 2, 9, 0)));
+        Day scheduledDay = modelManager.getDay(Index.fromOneBased(2));
+        assertEquals(Arrays.asList(scheduledDay), modelManager.getDays(activity));
+
+        long itineraryVersion = modelManager.getItineraryVersion();
+        modelManager.deleteActivity(activity);
+        assertTrue(modelManager.getDays(activity).isEmpty());
+        assertTrue(modelManager.getDay(Index.fromOneBased(2)).getListOfActivityWithTime().isEmpty());
+        assertTrue(modelManager.getItineraryVersion() > itineraryVersion);
+    }
+
+    @Test
+    public void setContact_contactOfScheduledActivity_activityUpdatedInDay() {
+        Activity activity = TypicalActivity.ACTIVITY_ONE;
+        modelManager.addActivity(activity);
+        modelManager.addDays(1);
+        modelManager.scheduleActivity(modelManager.getDay(Index.fromOneBased(1)),
+                new ActivityWithTime(activity, LocalDateTime.of(2020, 1, 1, 9, 0)));
+        Contact contact = modelManager.getContact(activity.getContact().get()).get();
+        Contact editedContact = new Contact(contact.getId(), contact.getName(), new Phone("99999999"),
+                null, null, contact.getTags());
+
+        modelManager.setContact(contact, editedContact);
+        Activity editedActivity = modelManager.getDay(Index.fromOneBased(1)).getListOfActivityWithTime().get(0)
+                .getActivity();
+        assertEquals(activity.getId(), editedActivity.getId());
+        assertEquals(Optional.of(editedContact), editedActivity.getContact());
+        assertEquals(editedActivity, modelManager.getFilteredActivityList().get(0));
+    }
+
+    @Test
+    public void setContact_contactSharedByActivities_allActivitiesUpdated() {
+        Activity first = new ActivityBuilder().withName("Tour one").withContact(ALICE).build();
+        Activity second = new ActivityBuilder().withName("Tour two").withContact(ALICE).build();
+        modelManager.addActivity(first);
+        modelManager.addActivity(second);
+        Contact editedContact = new Contact(ALICE.getId(), ALICE.getName(), new Phone("99999999"),
+                null, null, ALICE.getTags());
+
+        modelManager.setContact(ALICE, editedContact);
+        for (Activity activity : modelManager.getFilteredActivityList()) {
+            assertEquals(Optional.of(editedContact), activity.getContact());
+        }
+
+        modelManager.deleteActivity(modelManager.getFilteredActivityList().get(0));
+        assertTrue(modelManager.hasContact(editedContact));
+        modelManager.deleteActivity(modelManager.getFilteredActivityList().get(0));
+        assertFalse(modelManager.hasContact(editedContact));
+    }
+
+    @Test
+    public void batch_severalChanges_listenersNotifiedOnce() {
+        Activity first = new ActivityBuilder().withName("Tour one").build();
+        Activity second = new ActivityBuilder().withName("Tour two").build();
+        int[] notifications = new int[1];
+        modelManager.getFilteredActivityList().addListener((ListChangeListener<Activity>) change ->
+                notifications[0]++);
+        long activityVersion = modelManager.getActivityVersion();
+
+        modelManager.batch(() -> {
+            modelManager.addActivity(first);
+            modelManager.addActivity(second);
+            modelManager.deleteActivity(first);
+        });
+        assertEquals(1, notifications[0]);
+        assertEquals(activityVersion + 1, modelManager.getActivityVersion());
+        assertEquals(Arrays.asList(second), modelManager.getFilteredActivityList());
+    }
+
+    @Test
+    public void getFilteredActivitiesWithTag_activitiesChanged_reflectsChanges() {
+        Activity museum = new ActivityBuilder().withName("Museum").withTags("culture").withAddress("Tokyo").build();
+        Activity temple = new ActivityBuilder().withName("Temple").withTags("culture").withAddress("Kyoto").build();
+        Tag culture = new Tag("culture");
+        modelManager.addActivity(museum);
+        modelManager.addActivity(temple);
+        assertEquals(Arrays.asList(museum, temple), modelManager.getFilteredActivitiesWithTag(culture));
+        assertEquals(Arrays.asList(temple), modelManager.getFilteredActivitiesAtAddress(new Address("Kyoto")));
+
+        Activity editedMuseum = new ActivityBuilder(museum).withTags("art").build();
+        modelManager.setActivity(museum, editedMuseum);
+        assertEquals(Arrays.asList(temple), modelManager.getFilteredActivitiesWithTag(culture));
+        assertEquals(Arrays.asList(editedMuseum), modelManager.getFilteredActivitiesWithName(new Name("Museum")));
+
+        modelManager.updateFilteredActivityList(activity -> activity.equals(editedMuseum));
+        assertTrue(modelManager.getFilteredActivitiesWithTag(culture).isEmpty());
+
+        modelManager.updateFilteredActivityList(Model.PREDICATE_SHOW_ALL_ACTIVITIES);
+        modelManager.deleteActivity(temple);
+        assertTrue(modelManager.getFilteredActivitiesWithTag(culture).isEmpty());
+        assertTrue(modelManager.getFilteredActivitiesAtAddress(new Address("Kyoto")).isEmpty());
+    }
+
+    @Test
+    public void getFilteredActivitiesWithTag_activityInsertedOrRetagged_listOrder() {
+        Activity museum = new ActivityBuilder().withName("Museum").withTags("culture").withAddress("Tokyo").build();
+        Activity park = new ActivityBuilder().withName("Park").withTags("nature").withAddress("Tokyo").build();
+        Activity temple = new ActivityBuilder().withName("Temple").withTags("culture").withAddress("Kyoto").build();
+        Tag culture = new Tag("culture");
+        modelManager.addActivity(museum);
+        modelManager.addActivity(park);
+        modelManager.addActivity(temple);
+
+        Activity shrine = new ActivityBuilder().withName("Shrine").withTags("culture").withAddress("Tokyo").build();
+        modelManager.addActivityAtIndex(Index.fromZeroBased(1), shrine);
+        assertEquals(Arrays.asList(museum, shrine, temple), modelManager.getFilteredActivitiesWithTag(culture));
+        assertEquals(Arrays.asList(museum, shrine, park),
+                modelManager.getFilteredActivitiesAtAddress(new Address("Tokyo")));
+
+        Activity culturalPark = new ActivityBuilder(park).withTags("culture", "nature").build();
+        modelManager.setActivity(park, culturalPark);
+        assertEquals(Arrays.asList(museum, shrine, culturalPark, temple),
+                modelManager.getFilteredActivitiesWithTag(culture));
+        assertEquals(Arrays.asList(museum, shrine, culturalPark),
+                modelManager.getFilteredActivitiesAtAddress(new Address("Tokyo")));
+    }
+
     @Test
     public void equals() {
         AccommodationManager accommodation = TypicalAccommodations.getTypicalAccommodationManager();
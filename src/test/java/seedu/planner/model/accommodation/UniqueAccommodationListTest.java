@@ -126,6 +126,20 @@ public class UniqueAccommodationListTest {
         assertEquals(expectedUniqueAccommodationList, uniqueAccommodationList);
     }
 
+    @Test
+    public void getAccommodationsAt_sharedAddress_returnsAccommodationsAtAddress() {
+        Accommodation aliceAnnex = new AccommodationBuilder(ALICE).withName("Alice Annex").build();
+        uniqueAccommodationList.add(ALICE);
+        uniqueAccommodationList.add(BENSON);
+        uniqueAccommodationList.add(aliceAnnex);
+        assertEquals(2, uniqueAccommodationList.getAccommodationsAt(ALICE.getAddress()).size());
+
+        uniqueAccommodationList.remove(ALICE);
+        assertEquals(List.of(aliceAnnex), uniqueAccommodationList.getAccommodationsAt(ALICE.getAddress()));
+        assertEquals(BENSON, uniqueAccommodationList.getAccommodation(BENSON.getName(), BENSON.getAddress()).get());
+        assertFalse(uniqueAccommodationList.getAccommodation(ALICE.getName(), ALICE.getAddress()).isPresent());
+    }
+
     @Test
     public void setAccommodations_nullUniqueAccommodationList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
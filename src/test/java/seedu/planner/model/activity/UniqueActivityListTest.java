@@ -105,6 +105,15 @@ public class UniqueActivityListTest {
         assertEquals(expectedUniqueActivityList, uniqueActivityList);
     }
 
+    @Test
+    public void getActivity_afterSetActivity_findsEditedActivityOnly() {
+        uniqueActivityList.add(ACTIVITY_ONE);
+        uniqueActivityList.setActivity(ACTIVITY_ONE, ACTIVITY_TWO);
+        assertFalse(uniqueActivityList.getActivity(ACTIVITY_ONE.getName(), ACTIVITY_ONE.getAddress()).isPresent());
+        assertEquals(ACTIVITY_TWO, uniqueActivityList.getActivity(ACTIVITY_TWO.getName(),
+                ACTIVITY_TWO.getAddress()).get());
+    }
+
     @Test
     public void setActivity_editedActivityHasNonUniqueIdentity_throwsDuplicateActivityException() {
         uniqueActivityList.add(ACTIVITY_ONE);
@@ -131,6 +140,15 @@ public class UniqueActivityListTest {
         assertEquals(expectedUniqueActivityList, uniqueActivityList);
     }
 
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniqueActivityList.add(ACTIVITY_ONE);
+        uniqueActivityList.remove(ACTIVITY_ONE);
+        assertFalse(uniqueActivityList.contains(ACTIVITY_ONE));
+        uniqueActivityList.add(ACTIVITY_ONE);
+        assertTrue(uniqueActivityList.contains(ACTIVITY_ONE));
+    }
+
     @Test
     public void setActivities_nullUniqueActivityList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueActivityList.setActivities((UniqueActivityList) null));
@@ -127,6 +127,25 @@ public class UniqueContactListTest {
         assertEquals(expectedUniqueContactList, uniqueContactList);
     }
 
+    @Test
+    public void containsPhone_sharedPhone_trackedUntilLastContactRemoved() {
+        Contact aliceAtBobAddress = new ContactBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueContactList.add(ALICE);
+        uniqueContactList.add(aliceAtBobAddress);
+        uniqueContactList.remove(ALICE);
+        assertTrue(uniqueContactList.containsPhone(ALICE.getPhone()));
+        uniqueContactList.remove(aliceAtBobAddress);
+        assertFalse(uniqueContactList.containsPhone(ALICE.getPhone()));
+    }
+
+    @Test
+    public void getContact_sameIdentityDifferentFields_returnsEmpty() {
+        uniqueContactList.add(ALICE);
+        Contact editedAlice = new ContactBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertEquals(ALICE, uniqueContactList.getContact(ALICE).get());
+        assertFalse(uniqueContactList.getContact(editedAlice).isPresent());
+    }
+
     @Test
     public void setContacts_nullUniqueContactList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->uniqueContactList.setContacts((UniqueContactList) null));
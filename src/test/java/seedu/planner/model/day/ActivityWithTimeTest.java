@@ -0,0 +1,115 @@
+package seedu.planner.model.day;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.planner.model.activity.Activity;
+import seedu.planner.testutil.activity.ActivityBuilder;
+
+public class ActivityWithTimeTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2020, 1, 1, 8, 0);
+    private static final Activity ONE_HOUR = new ActivityBuilder().withName("One hour").withDuration("60").build();
+    private static final Activity TWO_HOURS = new ActivityBuilder().withName("Two hours").withDuration("120").build();
+
+    @Test
+    public void getStartMinuteAndEndMinute_afterEpoch_minutesSinceEpoch() {
+        ActivityWithTime activity = new ActivityWithTime(ONE_HOUR, LocalDateTime.of(1970, 1, 1, 1, 30));
+        assertEquals(90, activity.getStartMinute());
+        assertEquals(150, activity.getEndMinute());
+    }
+
+    @Test
+    public void getStartMinuteAndEndMinute_beforeEpoch_roundedDown() {
+        // 30 seconds before the epoch is in the minute before it, not in the minute starting at the epoch
+        ActivityWithTime activity = new ActivityWithTime(ONE_HOUR, LocalDateTime.of(1969, 12, 31, 23, 59, 30));
+        assertEquals(-1, activity.getStartMinute());
+        assertEquals(59, activity.getEndMinute());
+
+        ActivityWithTime earlier = new ActivityWithTime(ONE_HOUR, LocalDateTime.of(1969, 12, 31, 22, 0));
+        assertEquals(-120, earlier.getStartMinute());
+        assertEquals(-60, earlier.getEndMinute());
+    }
+
+    @Test
+    public void isOverlapping_endTouchesStart_notOverlapping() {
+        ActivityWithTime first = new ActivityWithTime(ONE_HOUR, MORNING);
+        ActivityWithTime second = new ActivityWithTime(ONE_HOUR, MORNING.plusHours(1));
+        assertFalse(first.isOverlapping(second));
+        assertFalse(second.isOverlapping(first));
+    }
+
+    @Test
+    public void isOverlapping_partlyOverlapping_overlapping() {
+        ActivityWithTime first = new ActivityWithTime(TWO_HOURS, MORNING);
+        ActivityWithTime second = new ActivityWithTime(ONE_HOUR, MORNING.plusMinutes(119));
+        assertTrue(first.isOverlapping(second));
+        assertTrue(second.isOverlapping(first));
+    }
+
+    @Test
+    public void isOverlapping_sameStart_overlapping() {
+        ActivityWithTime first = new ActivityWithTime(ONE_HOUR, MORNING);
+        ActivityWithTime second = new ActivityWithTime(TWO_HOURS, MORNING);
+        assertTrue(first.isOverlapping(second));
+        assertTrue(second.isOverlapping(first));
+    }
+
+    @Test
+    public void isOverlapping_acrossEpoch_overlapping() {
+        ActivityWithTime beforeEpoch = new ActivityWithTime(ONE_HOUR, LocalDateTime.of(1969, 12, 31, 23, 30));
+        ActivityWithTime atEpoch = new ActivityWithTime(ONE_HOUR, LocalDateTime.of(1970, 1, 1, 0, 0));
+        ActivityWithTime afterBeforeEpochEnds = new ActivityWithTime(ONE_HOUR, LocalDateTime.of(1970, 1, 1, 0, 30));
+        assertTrue(beforeEpoch.isOverlapping(atEpoch));
+        assertFalse(beforeEpoch.isOverlapping(afterBeforeEpochEnds));
+    }
+
+    @Test
+    public void compareTo_differentStarts_orderedByStart() {
+        ActivityWithTime first = new ActivityWithTime(TWO_HOURS, MORNING);
+        ActivityWithTime second = new ActivityWithTime(ONE_HOUR, MORNING.plusMinutes(1));
+        assertTrue(first.compareTo(second) < 0);
+        assertTrue(second.compareTo(first) > 0);
+
+        ActivityWithTime beforeEpoch = new ActivityWithTime(ONE_HOUR, LocalDateTime.of(1969, 12, 31, 23, 0));
+        assertTrue(beforeEpoch.compareTo(first) < 0);
+    }
+
+    @Test
+    public void compareTo_sameStart_equalOrder() {
+        ActivityWithTime first = new ActivityWithTime(ONE_HOUR, MORNING);
+        ActivityWithTime second = new ActivityWithTime(TWO_HOURS, MORNING);
+        assertEquals(0, first.compareTo(second));
+    }
+
+    @Test
+    public void equals() {
+        ActivityWithTime activity = new ActivityWithTime(ONE_HOUR, MORNING);
+
+        // same values -> returns true
+        assertEquals(activity, new ActivityWithTime(ONE_HOUR, MORNING));
+
+        // same object -> returns true
+        assertEquals(activity, activity);
+
+        // null -> returns false
+        assertNotEquals(null, activity);
+
+        // same start, different duration -> returns false
+        Activity longerOneHour = new ActivityBuilder(ONE_HOUR).withDuration("90").build();
+        assertNotEquals(activity, new ActivityWithTime(longerOneHour, MORNING));
+
+        // different start -> returns false
+        assertNotEquals(activity, new ActivityWithTime(ONE_HOUR, MORNING.plusMinutes(1)));
+
+        // same start and end, different activity -> returns false
+        Activity otherOneHour = new ActivityBuilder(ONE_HOUR).withName("Other hour").build();
+        assertNotEquals(activity, new ActivityWithTime(otherOneHour, MORNING));
+    }
+}
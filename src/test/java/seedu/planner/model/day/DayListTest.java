@@ -0,0 +1,82 @@
+package seedu.planner.model.day;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.planner.commons.core.index.Index;
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.field.Name;
+import seedu.planner.testutil.activity.ActivityBuilder;
+
+public class DayListTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2020, 1, 1, 9, 0);
+
+    @Test
+    public void getDays_daysInsertedAndRemoved_daysInListOrder() {
+        Activity museum = new ActivityBuilder().withName("Museum").build();
+        DayList dayList = new DayList();
+        dayList.adds(3);
+        Day first = dayList.getDay(Index.fromZeroBased(0));
+        Day third = dayList.getDay(Index.fromZeroBased(2));
+        dayList.scheduleActivity(third, new ActivityWithTime(museum, MORNING));
+        dayList.scheduleActivity(first, new ActivityWithTime(museum, MORNING));
+        assertEquals(List.of(first, third), dayList.getDays(museum));
+
+        Day inserted = new Day(List.of(new ActivityWithTime(museum, MORNING)));
+        dayList.addAtIndex(Index.fromZeroBased(2), inserted);
+        assertEquals(List.of(first, inserted, third), dayList.getDays(museum));
+
+        Day editedFirst = new Day();
+        dayList.setDay(first, editedFirst);
+        dayList.remove(dayList.getDay(Index.fromZeroBased(1)));
+        assertEquals(List.of(inserted, third), dayList.getDays(museum));
+
+        dayList.deleteDays(1);
+        assertEquals(List.of(inserted), dayList.getDays(museum));
+        dayList.unscheduleActivity(museum);
+        assertTrue(dayList.getDays(museum).isEmpty());
+    }
+
+    @Test
+    public void getDays_activitiesIdentifiedById_daysOfActivityWithSameId() {
+        Activity museum = new ActivityBuilder().withName("Museum").build();
+        Activity renamedMuseum = new Activity(museum.getId(), new Name("Art Museum"), museum.getAddress(),
+                museum.getContact().orElse(null), museum.getCost().orElse(null), museum.getTags(),
+                museum.getDuration(), museum.getPriority());
+        Activity otherMuseum = new ActivityBuilder(museum).build();
+        DayList dayList = new DayList();
+        dayList.adds(2);
+        Day first = dayList.getDay(Index.fromZeroBased(0));
+        dayList.scheduleActivity(first, new ActivityWithTime(museum, MORNING));
+
+        assertEquals(List.of(first), dayList.getDays(renamedMuseum));
+        assertTrue(dayList.isScheduled(renamedMuseum));
+        assertTrue(dayList.getDays(otherMuseum).isEmpty());
+        assertFalse(dayList.isScheduled(otherMuseum));
+    }
+
+    @Test
+    public void setDay_targetEqualToDayInList_dayReplacedInPosition() {
+        Activity museum = new ActivityBuilder().withName("Museum").build();
+        DayList dayList = new DayList();
+        dayList.adds(3);
+        Day first = dayList.getDay(Index.fromZeroBased(0));
+        Day third = dayList.getDay(Index.fromZeroBased(2));
+        dayList.scheduleActivity(third, new ActivityWithTime(museum, MORNING));
+
+        // An equal day that is not the instance held by the list
+        Day editedFirst = new Day(List.of(new ActivityWithTime(museum, MORNING)));
+        dayList.setDay(new Day(first.getListOfActivityWithTime()), editedFirst);
+        assertEquals(List.of(editedFirst, third), dayList.getDays(museum));
+
+        dayList.remove(editedFirst);
+        assertEquals(List.of(third), dayList.getDays(museum));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.planner.model.day;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.planner.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.planner.commons.core.index.Index;
+import seedu.planner.testutil.activity.ActivityBuilder;
+
+public class TimetableTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2020, 1, 1, 8, 0);
+
+    private static ActivityWithTime activityAt(int minutesAfterMorning, int duration) {
+        return new ActivityWithTime(new ActivityBuilder().withName("Activity " + minutesAfterMorning + " " + duration)
+                .withDuration(String.valueOf(duration)).build(), MORNING.plusMinutes(minutesAfterMorning));
+    }
+
+    @Test
+    public void addActivityWithTime_unsortedActivities_keptInStartOrder() {
+        Timetable timetable = new Timetable();
+        ActivityWithTime late = activityAt(120, 30);
+        ActivityWithTime early = activityAt(0, 30);
+        ActivityWithTime sameStartAsEarly = activityAt(0, 60);
+        timetable.addActivityWithTime(late);
+        timetable.addActivityWithTime(early);
+        timetable.addActivityWithTime(sameStartAsEarly);
+
+        assertEquals(List.of(early, sameStartAsEarly, late), timetable.getActivitiesWithTime());
+    }
+
+    @Test
+    public void getActivitiesWithTime_timetableChanged_viewReflectsChange() {
+        Timetable timetable = new Timetable();
+        List<ActivityWithTime> view = timetable.getActivitiesWithTime();
+        ActivityWithTime activity = activityAt(0, 30);
+        timetable.addActivityWithTime(activity);
+        timetable.addActivityWithTime(activity.changeStartDateTime(MORNING.plusMinutes(60)));
+
+        assertSame(view, timetable.getActivitiesWithTime());
+        assertEquals(2, view.size());
+        assertEquals(2, timetable.getNumberOfActivities());
+        assertEquals(2, timetable.countActivity(activity.getActivity()));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    }
+
+    @Test
+    public void findNextNoOverlap_overlappingActivities_skipsOverlaps() {
+        ActivityWithTime first = activityAt(0, 60);
+        ActivityWithTime overlapping = activityAt(30, 60);
+        ActivityWithTime touching = activityAt(60, 30);
+        Timetable timetable = new Timetable(List.of(touching, overlapping, first));
+
+        assertEquals(Optional.of(touching), timetable.findNextNoOverlap(Index.fromZeroBased(0)));
+        assertFalse(timetable.findNextNoOverlap(Index.fromZeroBased(2)).isPresent());
+    }
+
+    @Test
+    public void overlapQueries_randomTimetable_matchLinearScan() {
+        Random random = new Random(42);
+        Timetable timetable = new Timetable();
+        List<ActivityWithTime> activities = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ActivityWithTime activity = activityAt(random.nextInt(600), 1 + random.nextInt(120));
+            timetable.addActivityWithTime(activity);
+            activities.add(activity);
+            if (i % 7 == 0) {
+                ActivityWithTime removed = timetable.getActivityWithTime(
+                        Index.fromZeroBased(random.nextInt(activities.size())));
+                timetable.removeActivity(removed.getActivity());
+                activities.removeIf(removed.getActivity()::equals);
+            }
+        }
+
+        for (int i = 0; i < 100; i++) {
+            ActivityWithTime query = activityAt(random.nextInt(600), 1 + random.nextInt(120));
+            List<ActivityWithTime> expected = timetable.getActivitiesWithTime().stream()
+                    .filter(x -> x.isOverlapping(query)
+                            && query.getStartDateTime().compareTo(x.getStartDateTime()) <= 0)
+                    .collect(Collectors.toList());
+            assertEquals(expected, timetable.findAllOverlap(query));
+            assertEquals(activities.stream().filter(query::isOverlapping).count(), timetable.countOverlaps(query));
+        }
+    }
+}
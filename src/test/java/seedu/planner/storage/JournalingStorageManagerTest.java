@@ -0,0 +1,180 @@
+package seedu.planner.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.planner.testutil.accommodation.TypicalAccommodations.getTypicalAccommodationManager;
+import static seedu.planner.testutil.activity.TypicalActivity.getTypicalActivityManager;
+import static seedu.planner.testutil.contact.TypicalContacts.ALICE;
+import static seedu.planner.testutil.contact.TypicalContacts.HOON;
+import static seedu.planner.testutil.contact.TypicalContacts.IDA;
+import static seedu.planner.testutil.contact.TypicalContacts.getTypicalContactManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.planner.commons.util.FileUtil;
+import seedu.planner.model.ActivityManager;
+import seedu.planner.model.ContactManager;
+import seedu.planner.model.Itinerary;
+import seedu.planner.model.ReadOnlyActivity;
+import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.day.ActivityWithTime;
+import seedu.planner.model.day.Day;
+import seedu.planner.model.field.Name;
+import seedu.planner.storage.accommodation.JsonAccommodationStorage;
+import seedu.planner.storage.activity.JsonActivityStorage;
+import seedu.planner.storage.contact.JsonContactStorage;
+import seedu.planner.storage.day.JsonItineraryStorage;
+import seedu.planner.storage.planner.JsonPlannerCatalogStorage;
+import seedu.planner.testutil.activity.ActivityBuilder;
+
+public class JournalingStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournalingStorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() {
+        storageManager = createStorageManager();
+    }
+
+    private JournalingStorageManager createStorageManager() {
+        JsonAccommodationStorage accommodationStorage = new JsonAccommodationStorage(getTempFilePath("acc"));
+        JsonActivityStorage activityStorage = new JsonActivityStorage(getTempFilePath("act"));
+        JsonContactStorage contactStorage = new JsonContactStorage(getTempFilePath("con"));
+        JsonItineraryStorage itineraryStorage = new JsonItineraryStorage(getTempFilePath("iti"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        JsonPlannerCatalogStorage plannerCatalogStorage = new JsonPlannerCatalogStorage(getTempFilePath("planners"));
+        return new JournalingStorageManager(accommodationStorage, activityStorage, contactStorage,
+                itineraryStorage, userPrefsStorage, plannerCatalogStorage);
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.resolve(fileName);
+    }
+
+    private Path getJournalFilePath() {
+        return JournalingStorageManager.getJournalFilePath(getTempFilePath("iti"));
+    }
+
+    @Test
+    public void saveContact_multipleSaves_changesRecordedInJournal() throws Exception {
+        ContactManager original = getTypicalContactManager();
+        storageManager.saveContact(original);
+        original.addContact(HOON);
+        original.removeContact(ALICE);
+        storageManager.saveContact(original);
+        original.addContact(IDA);
+        storageManager.saveContact(original);
+
+        assertFalse(FileUtil.isFileExists(getTempFilePath("con")));
+        assertEquals(3, Files.readAllLines(getJournalFilePath()).size());
+        assertEquals(original, new ContactManager(createStorageManager().readContact().get()));
+    }
+
+    @Test
+    public void saveContact_unchanged_nothingRecorded() throws Exception {
+        ContactManager original = getTypicalContactManager();
+        storageManager.saveContact(original);
+        storageManager.saveContact(original);
+
+        assertEquals(1, Files.readAllLines(getJournalFilePath()).size());
+    }
+
+    @Test
+    public void flush_allDataRecorded_journalCompacted() throws Exception {
+        ActivityManager activities = getTypicalActivityManager();
+        ContactManager contacts = getTypicalContactManager();
+        Itinerary itinerary = new Itinerary(new Name("Trip"));
+        itinerary.setStartDate(LocalDate.of(2026, 1, 1));
+        itinerary.addDay(new Day());
+        storageManager.saveAccommodation(getTypicalAccommodationManager());
+        storageManager.saveActivity(activities);
+        storageManager.saveContact(contacts);
+        storageManager.saveItinerary(itinerary);
+        contacts.addContact(HOON);
+        storageManager.saveContact(contacts);
+
+        storageManager.flush();
+        assertFalse(FileUtil.isFileExists(getJournalFilePath()));
+        assertTrue(FileUtil.isFileExists(getTempFilePath("con")));
+
+        JournalingStorageManager reopened = createStorageManager();
+        assertEquals(contacts, new ContactManager(reopened.readContact().get()));
+        assertEquals(activities, new ActivityManager(reopened.readActivity().get()));
+        assertEquals(itinerary, reopened.readItinerary(activities).get());
+    }
+
+    @Test
+    public void readItinerary_activityRenamedAfterScheduling_daysReplayed() throws Exception {
+        Activity museum = new ActivityBuilder().withName("Museum").build();
+        Activity renamedMuseum = new ActivityBuilder(museum).withName("Art Museum").build();
+        ActivityManager activities = new ActivityManager();
+        activities.addActivity(museum);
+        Itinerary itinerary = createItinerary(museum);
+        storageManager.saveActivity(activities);
+        storageManager.saveItinerary(itinerary);
+
+        activities.setActivity(museum, renamedMuseum);
+        itinerary.setDays(createItinerary(renamedMuseum).getItinerary());
+        storageManager.saveActivity(activities);
+        storageManager.saveItinerary(itinerary);
+
+        JournalingStorageManager reopened = createStorageManager();
+        ReadOnlyActivity readActivities = reopened.readActivity().get();
+        ReadOnlyItinerary readItinerary = reopened.readItinerary(readActivities).get();
+        assertEquals(itinerary, readItinerary);
+        assertSame(readActivities.getActivityList().get(0),
+                readItinerary.getItinerary().get(0).getListOfActivityWithTime().get(0).getActivity());
+    }
+
+    @Test
+    public void readItinerary_activityDeletedAfterScheduling_daysReplayed() throws Exception {
+        Activity museum = new ActivityBuilder().withName("Museum").build();
+        ActivityManager activities = new ActivityManager();
+        activities.addActivity(museum);
+        Itinerary itinerary = createItinerary(museum);
+        storageManager.saveActivity(activities);
+        storageManager.saveItinerary(itinerary);
+
+        activities.removeActivity(museum);
+        itinerary.setDays(List.of(new Day()));
+        storageManager.saveActivity(activities);
+        storageManager.saveItinerary(itinerary);
+
+        JournalingStorageManager reopened = createStorageManager();
+        assertEquals(itinerary, reopened.readItinerary(reopened.readActivity().get()).get());
+    }
+
+    /**
+     * Returns an itinerary with one day, on which {@code activity} is scheduled.
+     */
+    private static Itinerary createItinerary(Activity activity) {
+        Itinerary itinerary = new Itinerary(new Name("Trip"));
+        itinerary.setStartDate(LocalDate.of(2026, 1, 1));
+        itinerary.addDay(new Day(List.of(new ActivityWithTime(activity, LocalDateTime.of(2026, 1, 1, 9, 0)))));
+        return itinerary;
+    }
+
+    @Test
+    public void readContact_incompleteLastEntry_entryIgnored() throws Exception {
+        ContactManager original = getTypicalContactManager();
+        storageManager.saveContact(original);
+        FileUtil.appendToFile(getJournalFilePath(), "{\"contacts\":{\"0\":");
+
+        assertEquals(original, new ContactManager(createStorageManager().readContact().get()));
+        assertEquals(1, Files.readAllLines(getJournalFilePath()).size());
+    }
+}
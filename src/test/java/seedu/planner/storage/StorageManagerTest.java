@@ -15,6 +15,7 @@ import seedu.planner.storage.accommodation.JsonAccommodationStorage;
 import seedu.planner.storage.activity.JsonActivityStorage;
 import seedu.planner.storage.contact.JsonContactStorage;
 import seedu.planner.storage.day.JsonItineraryStorage;
+import seedu.planner.storage.planner.JsonPlannerCatalogStorage;
 
 public class StorageManagerTest {
 
@@ -30,8 +31,9 @@ public class StorageManagerTest {
         JsonContactStorage contactStorage = new JsonContactStorage(getTempFilePath("con"));
         JsonItineraryStorage itineraryStorage = new JsonItineraryStorage(getTempFilePath("iti"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        JsonPlannerCatalogStorage plannerCatalogStorage = new JsonPlannerCatalogStorage(getTempFilePath("planners"));
         storageManager = new StorageManager(accommodationStorage, activityStorage, contactStorage, itineraryStorage,
-                userPrefsStorage);
+                userPrefsStorage, plannerCatalogStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -0,0 +1,91 @@
+package seedu.planner.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.planner.testutil.contact.TypicalContacts.HOON;
+import static seedu.planner.testutil.contact.TypicalContacts.IDA;
+import static seedu.planner.testutil.contact.TypicalContacts.getTypicalContactManager;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.planner.model.ContactManager;
+import seedu.planner.model.ReadOnlyContact;
+import seedu.planner.storage.accommodation.JsonAccommodationStorage;
+import seedu.planner.storage.activity.JsonActivityStorage;
+import seedu.planner.storage.contact.JsonContactStorage;
+import seedu.planner.storage.day.JsonItineraryStorage;
+import seedu.planner.storage.planner.JsonPlannerCatalogStorage;
+
+public class WriteBehindStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindStorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAccommodationStorage accommodationStorage = new JsonAccommodationStorage(getTempFilePath("acc"));
+        JsonActivityStorage activityStorage = new JsonActivityStorage(getTempFilePath("act"));
+        JsonContactStorage contactStorage = new JsonContactStorage(getTempFilePath("con"));
+        JsonItineraryStorage itineraryStorage = new JsonItineraryStorage(getTempFilePath("iti"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        JsonPlannerCatalogStorage plannerCatalogStorage = new JsonPlannerCatalogStorage(getTempFilePath("planners"));
+        storageManager = new WriteBehindStorageManager(accommodationStorage, activityStorage, contactStorage,
+                itineraryStorage, userPrefsStorage, plannerCatalogStorage);
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.resolve(fileName);
+    }
+
+    @Test
+    public void saveContact_modifiedAfterSave_savesSnapshot() throws Exception {
+        ContactManager original = getTypicalContactManager();
+        storageManager.saveContact(original);
+        ContactManager expected = new ContactManager(original);
+
+        original.addContact(HOON);
+        storageManager.flush();
+        assertEquals(expected, new ContactManager(storageManager.readContact().get()));
+    }
+
+    @Test
+    public void saveContact_multipleSaves_lastSaveWritten() throws Exception {
+        ContactManager original = getTypicalContactManager();
+        storageManager.saveContact(original);
+        original.addContact(HOON);
+        storageManager.saveContact(original);
+        original.addContact(IDA);
+        storageManager.saveContact(original);
+
+        storageManager.flush();
+        ReadOnlyContact retrieved = storageManager.readContact().get();
+        assertEquals(original, new ContactManager(retrieved));
+    }
+
+    @Test
+    public void readContact_pendingSave_waitsForSave() throws Exception {
+        ContactManager original = getTypicalContactManager();
+        storageManager.saveContact(original);
+        assertTrue(storageManager.readContact().isPresent());
+        assertEquals(original, new ContactManager(storageManager.readContact().get()));
+    }
+
+    @Test
+    public void saveContact_savesToDifferentFiles_bothWritten() throws Exception {
+        ContactManager first = getTypicalContactManager();
+        ContactManager second = new ContactManager(first);
+        second.addContact(HOON);
+        storageManager.saveContact(first, getTempFilePath("first"));
+        storageManager.saveContact(second, getTempFilePath("second"));
+
+        storageManager.flush();
+        assertEquals(first, new ContactManager(storageManager.readContact(getTempFilePath("first")).get()));
+        assertEquals(second, new ContactManager(storageManager.readContact(getTempFilePath("second")).get()));
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.planner.storage.activity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.planner.model.activity.Activity;
+
+public class JsonActivityStorageTest {
+
+    private static final String ACTIVITIES_WITHOUT_IDS = "{ \"activities\" : ["
+            + "{ \"name\" : \"Museum\", \"address\" : \"Jurong\", \"tagged\" : [ ], \"duration\" : \"60\" },"
+            + "{ \"name\" : \"Zoo\", \"address\" : \"Mandai\", \"tagged\" : [ ], \"duration\" : \"120\" } ] }";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readActivity_activitiesWithoutIds_sameIdsWhenReadAgain() throws Exception {
+        Path filePath = testFolder.resolve("activity.json");
+        Files.writeString(filePath, ACTIVITIES_WITHOUT_IDS);
+        JsonActivityStorage jsonActivityStorage = new JsonActivityStorage(filePath);
+
+        List<Long> ids = getIds(jsonActivityStorage.readActivity().get().getActivityList());
+        assertEquals(ids, getIds(jsonActivityStorage.readActivity().get().getActivityList()));
+    }
+
+    private List<Long> getIds(List<Activity> activities) {
+        return activities.stream().map(Activity::getId).collect(Collectors.toList());
+    }
+}
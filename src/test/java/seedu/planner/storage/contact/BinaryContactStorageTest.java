@@ -0,0 +1,123 @@
+package seedu.planner.storage.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.planner.testutil.Assert.assertThrows;
+import static seedu.planner.testutil.contact.TypicalContacts.ALICE;
+import static seedu.planner.testutil.contact.TypicalContacts.HOON;
+import static seedu.planner.testutil.contact.TypicalContacts.getTypicalContactManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.commons.util.FileUtil;
+import seedu.planner.model.ContactManager;
+import seedu.planner.model.ReadOnlyContact;
+
+public class BinaryContactStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonContactStorageTest");
+    private static final int BINARY_FORMAT_MAGIC_NUMBER = 0x50325442;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readContact_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryContactStorage(filePath).readContact().isPresent());
+    }
+
+    @Test
+    public void readContact_notBinaryFormat_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("notBinaryFormatContact.bin");
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(TEST_DATA_FOLDER.resolve("invalidContact.json")));
+        assertThrows(DataConversionException.class, () -> new BinaryContactStorage(filePath).readContact());
+    }
+
+    @Test
+    public void readContact_corruptedCount_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("corruptedCountContact.bin");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BINARY_FORMAT_MAGIC_NUMBER);
+        out.writeInt(1);
+        // A string table far larger than the file
+        out.writeInt(Integer.MAX_VALUE - 8);
+        out.flush();
+        Files.write(filePath, bytes.toByteArray());
+        assertThrows(DataConversionException.class, () -> new BinaryContactStorage(filePath).readContact());
+    }
+
+    @Test
+    public void readContact_onlyJsonFileExists_convertsJsonFile() throws Exception {
+        ContactManager original = getTypicalContactManager();
+        Path jsonFilePath = testFolder.resolve("contact.json");
+        new JsonContactStorage(jsonFilePath).saveContact(original);
+
+        Path filePath = testFolder.resolve("contact.bin");
+        ReadOnlyContact readBack = new BinaryContactStorage(filePath).readContact().get();
+        assertEquals(original, new ContactManager(readBack));
+        assertFalse(Files.exists(jsonFilePath));
+
+        // The converted binary file is read from now on
+        readBack = new BinaryContactStorage(filePath).readContact().get();
+        assertEquals(original, new ContactManager(readBack));
+    }
+
+    @Test
+    public void readContact_onlyBinaryFileExists_jsonStorageConvertsBinaryFile() throws Exception {
+        ContactManager original = getTypicalContactManager();
+        Path binaryFilePath = testFolder.resolve("contact.bin");
+        new BinaryContactStorage(binaryFilePath).saveContact(original);
+
+        Path jsonFilePath = testFolder.resolve("contact.json");
+        ReadOnlyContact readBack = new JsonContactStorage(jsonFilePath).readContact().get();
+        assertEquals(original, new ContactManager(readBack));
+        assertFalse(Files.exists(binaryFilePath));
+        assertTrue(Files.exists(jsonFilePath));
+    }
+
+    @Test
+    public void readAndSaveContact_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempContact.bin");
+        ContactManager original = getTypicalContactManager();
+        BinaryContactStorage binaryContactStorage = new BinaryContactStorage(filePath);
+
+        // Save in new file and read back
+        binaryContactStorage.saveContact(original, filePath);
+        ReadOnlyContact readBack = binaryContactStorage.readContact(filePath).get();
+        assertEquals(original, new ContactManager(readBack));
+
+        // Modify data, overwrite existing file, and read back
+        original.addContact(HOON);
+        original.removeContact(ALICE);
+        binaryContactStorage.saveContact(original);
+        readBack = binaryContactStorage.readContact().get();
+        assertEquals(original, new ContactManager(readBack));
+    }
+
+    @Test
+    public void saveContact_binaryFile_smallerThanJsonFile() throws Exception {
+        ContactManager original = getTypicalContactManager();
+        Path jsonFilePath = testFolder.resolve("contact.json");
+        Path binaryFilePath = testFolder.resolve("contact.bin");
+        new JsonContactStorage(jsonFilePath).saveContact(original);
+        new BinaryContactStorage(binaryFilePath).saveContact(original);
+
+        assertTrue(binaryFilePath.toFile().length() < jsonFilePath.toFile().length());
+    }
+
+    @Test
+    public void saveContact_nullContact_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryContactStorage(testFolder.resolve("contact.bin"))
+                .saveContact(null));
+    }
+}
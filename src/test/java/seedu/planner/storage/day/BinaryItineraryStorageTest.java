@@ -0,0 +1,71 @@
+package seedu.planner.storage.day;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.planner.testutil.day.TypicalDays.getTypicalItinerary;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.planner.model.ActivityManager;
+import seedu.planner.model.Itinerary;
+import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.activity.Duration;
+import seedu.planner.model.day.ActivityWithTime;
+import seedu.planner.model.day.Day;
+import seedu.planner.model.field.Name;
+import seedu.planner.testutil.activity.ActivityBuilder;
+
+public class BinaryItineraryStorageTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2020, 1, 1, 9, 0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveItinerary_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("itinerary.bin");
+        Itinerary original = getTypicalItinerary();
+        original.setName(new Name("Japan"));
+        original.setStartDate(LocalDate.of(2020, 4, 1));
+        BinaryItineraryStorage binaryItineraryStorage = new BinaryItineraryStorage(filePath);
+
+        binaryItineraryStorage.saveItinerary(original);
+        ReadOnlyItinerary readBack = binaryItineraryStorage.readItinerary(new ActivityManager()).get();
+        assertEquals(original, new Itinerary(readBack));
+        assertEquals(original.getName(), readBack.getName());
+        assertEquals(original.getStartDate(), readBack.getStartDate());
+    }
+
+    @Test
+    public void readItinerary_scheduledActivityEditedSinceSaved_sharesListedActivityWithSameId() throws Exception {
+        Path filePath = testFolder.resolve("itinerary.bin");
+        Activity museum = new ActivityBuilder().withName("Museum").withDuration("60").build();
+        Activity otherMuseum = new ActivityBuilder(museum).build();
+        Itinerary original = new Itinerary();
+        original.addDay(new Day(List.of(new ActivityWithTime(museum, MORNING),
+                new ActivityWithTime(otherMuseum, MORNING.plusHours(2)))));
+        BinaryItineraryStorage binaryItineraryStorage = new BinaryItineraryStorage(filePath);
+        binaryItineraryStorage.saveItinerary(original);
+
+        // Edited after the itinerary was saved, so it is no longer equal to the scheduled activity
+        Activity editedMuseum = new Activity(museum.getId(), museum.getName(), museum.getAddress(),
+                museum.getContact().orElse(null), museum.getCost().orElse(null), museum.getTags(),
+                new Duration(90), museum.getPriority());
+        ActivityManager activityManager = new ActivityManager();
+        activityManager.addActivity(editedMuseum);
+
+        List<ActivityWithTime> scheduled = binaryItineraryStorage.readItinerary(activityManager).get()
+                .getItinerary().get(0).getListOfActivityWithTime();
+        assertSame(editedMuseum, scheduled.get(0).getActivity());
+        assertNotEquals(editedMuseum.getId(), scheduled.get(1).getActivity().getId());
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.planner.storage.day;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.planner.testutil.Assert.assertThrows;
+import static seedu.planner.testutil.day.TypicalDays.getTypicalItinerary;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.model.ActivityManager;
+import seedu.planner.model.Itinerary;
+import seedu.planner.model.ReadOnlyItinerary;
+import seedu.planner.model.activity.Activity;
+import seedu.planner.model.day.ActivityWithTime;
+import seedu.planner.model.day.Day;
+import seedu.planner.model.field.Name;
+
+public class JsonItineraryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns an {@code ActivityManager} with copies of all activities scheduled in {@code itinerary}.
+     */
+    private ActivityManager getScheduledActivities(ReadOnlyItinerary itinerary) {
+        ActivityManager activityManager = new ActivityManager();
+        for (Day day : itinerary.getItinerary()) {
+            for (ActivityWithTime activityWithTime : day.getListOfActivityWithTime()) {
+                Activity activity = activityWithTime.getActivity();
+                if (!activityManager.hasActivity(activity)) {
+                    activityManager.addActivity(new Activity(activity.getName(), activity.getAddress(),
+                            activity.getContact().orElse(null), activity.getCost().orElse(null), activity.getTags(),
+                            activity.getDuration(), activity.getPriority()));
+                }
+            }
+        }
+        return activityManager;
+    }
+
+    @Test
+    public void readItinerary_savedItinerary_sharesListedActivities() throws Exception {
+        Path filePath = testFolder.resolve("itinerary.json");
+        Itinerary original = getTypicalItinerary();
+        ActivityManager activityManager = getScheduledActivities(original);
+        JsonItineraryStorage jsonItineraryStorage = new JsonItineraryStorage(filePath);
+
+        jsonItineraryStorage.saveItinerary(original);
+        ReadOnlyItinerary readBack = jsonItineraryStorage.readItinerary(activityManager).get();
+        assertEquals(original, new Itinerary(readBack));
+
+        for (Day day : readBack.getItinerary()) {
+            for (ActivityWithTime activityWithTime : day.getListOfActivityWithTime()) {
+                Activity activity = activityWithTime.getActivity();
+                assertSame(activityManager.getActivity(activity.getName(), activity.getAddress()).get(), activity);
+            }
+        }
+    }
+
+    @Test
+    public void readItinerary_unlistedActivity_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("itinerary.json");
+        JsonItineraryStorage jsonItineraryStorage = new JsonItineraryStorage(filePath);
+        jsonItineraryStorage.saveItinerary(getTypicalItinerary());
+
+        assertThrows(DataConversionException.class, () -> jsonItineraryStorage.readItinerary(new ActivityManager()));
+    }
+
+    @Test
+    public void readItinerary_renamedActivity_resolvedById() throws Exception {
+        Path filePath = testFolder.resolve("itinerary.json");
+        Itinerary original = getTypicalItinerary();
+        Activity scheduled = original.getItinerary().get(0).getListOfActivityWithTime().get(0).getActivity();
+        Activity renamed = new Activity(scheduled.getId(), new Name("Renamed Activity"), scheduled.getAddress(),
+                scheduled.getContact().orElse(null), scheduled.getCost().orElse(null), scheduled.getTags(),
+                scheduled.getDuration(), scheduled.getPriority());
+        ActivityManager activityManager = new ActivityManager();
+        for (Activity activity : getScheduledActivities(original).getActivityList()) {
+            activityManager.addActivity(activity.isSameActivity(scheduled) ? renamed : activity);
+        }
+        JsonItineraryStorage jsonItineraryStorage = new JsonItineraryStorage(filePath);
+
+        jsonItineraryStorage.saveItinerary(original);
+        ReadOnlyItinerary readBack = jsonItineraryStorage.readItinerary(activityManager).get();
+        assertSame(renamed, readBack.getItinerary().get(0).getListOfActivityWithTime().get(0).getActivity());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.planner.storage.planner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.planner.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.planner.commons.exceptions.DataConversionException;
+import seedu.planner.model.field.Name;
+import seedu.planner.model.planner.PlannerCatalog;
+import seedu.planner.model.planner.PlannerSummary;
+
+public class JsonPlannerCatalogStorageTest {
+
+    private static final PlannerSummary ICELAND = new PlannerSummary(new Name("Iceland"), LocalDate.of(2019, 3, 1),
+            5, 12, LocalDateTime.of(2019, 2, 14, 9, 30));
+    private static final PlannerSummary LONDON = new PlannerSummary(new Name("London"), LocalDate.of(2019, 6, 10),
+            3, 0, LocalDateTime.of(2019, 5, 1, 18, 5, 42));
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readPlannerCatalog_missingFile_emptyResult() throws Exception {
+        JsonPlannerCatalogStorage storage = new JsonPlannerCatalogStorage(testFolder.resolve("planners.json"));
+        assertFalse(storage.readPlannerCatalog().isPresent());
+    }
+
+    @Test
+    public void readPlannerCatalog_invalidDate_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("planners.json");
+        Files.writeString(filePath, "{\"planners\":[{\"name\":\"Iceland\",\"startDate\":\"1 March\",\"dayCount\":5,"
+                + "\"activityCount\":12,\"lastModified\":\"2019-02-14T09:30\"}]}");
+        JsonPlannerCatalogStorage storage = new JsonPlannerCatalogStorage(filePath);
+        assertThrows(DataConversionException.class, storage::readPlannerCatalog);
+    }
+
+    @Test
+    public void readAndSavePlannerCatalog_allInOrder_success() throws Exception {
+        JsonPlannerCatalogStorage storage = new JsonPlannerCatalogStorage(testFolder.resolve("planners.json"));
+        PlannerCatalog original = new PlannerCatalog();
+        original.setPlanner(LONDON);
+        original.setPlanner(ICELAND);
+
+        storage.savePlannerCatalog(original);
+        PlannerCatalog readBack = storage.readPlannerCatalog().get();
+        assertEquals(original, readBack);
+        assertEquals(ICELAND, readBack.getPlannerList().get(0));
+
+        original.removePlanner(ICELAND.getName());
+        storage.savePlannerCatalog(original);
+        readBack = storage.readPlannerCatalog().get();
+        assertFalse(readBack.hasPlanner(ICELAND.getName()));
+        assertTrue(readBack.hasPlanner(LONDON.getName()));
+    }
+}